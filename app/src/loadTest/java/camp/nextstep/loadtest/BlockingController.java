@@ -0,0 +1,29 @@
+package camp.nextstep.loadtest;
+
+import com.interface21.context.stereotype.Controller;
+import com.interface21.web.bind.annotation.RequestMapping;
+import com.interface21.web.bind.annotation.RequestMethod;
+import com.interface21.web.bind.annotation.RequestParam;
+import com.interface21.webmvc.servlet.ModelAndView;
+import com.interface21.webmvc.servlet.view.JsonView;
+
+/**
+ * 외부 API 나 DB 를 기다리는 핸들러를 흉내 내서 요청 스레드를 {@code millis} 동안 막는다.
+ * 부하 테스트에서 컨테이너 스레드와 가상 스레드 디스패치를 비교할 때 쓴다.
+ * 요청 스레드를 고갈시킬 수 있으므로 애플리케이션에는 넣지 않고, loadTest 클래스패스에 있을 때만 스캔된다.
+ */
+@Controller
+public class BlockingController {
+
+    private static final long MAX_BLOCK_MILLIS = 1_000;
+
+    @RequestMapping(value = "/api/blocking", method = RequestMethod.GET)
+    public ModelAndView block(@RequestParam("millis") final long millis) throws InterruptedException {
+        final long blocked = Math.max(0, Math.min(millis, MAX_BLOCK_MILLIS));
+        Thread.sleep(blocked);
+
+        final var modelAndView = new ModelAndView(new JsonView());
+        modelAndView.addObject("blockedMillis", blocked);
+        return modelAndView;
+    }
+}
@@ -0,0 +1,68 @@
+package camp.nextstep.loadtest;
+
+import camp.nextstep.TomcatStarter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+
+/**
+ * 임의의 로컬 포트로 {@link TomcatStarter} 를 띄우고 {@link OpenLoopDriver} 로 부하를 건 뒤 결과를 JSON 으로 쓴다.
+ * <p>
+ * 실행 인자는 {@link LoadTestConfig} 를 참고한다. 예: {@code rate=1000 connections=32 duration=60 mix=userById=1}
+ * <p>
+ * 가상 스레드 디스패치는 {@code mix=blocking=1 maxThreads=20} 처럼 요청 스레드를 막는 핸들러와 적은 컨테이너 스레드로
+ * {@code virtualThreads} 만 바꿔 두 번 실행하고 결과를 비교한다.
+ */
+public class LoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(LoadTest.class);
+
+    private static final String VIRTUAL_THREADS_PROPERTY = "interface21.dispatcher.virtual-threads";
+    private static final int VIRTUAL_THREADS_JAVA_VERSION = 21;
+
+    public static void main(final String[] args) throws Exception {
+        final var config = LoadTestConfig.parse(args);
+        if (config.virtualThreads() && Runtime.version().feature() < VIRTUAL_THREADS_JAVA_VERSION) {
+            throw new IllegalStateException("virtualThreads=true requires Java " + VIRTUAL_THREADS_JAVA_VERSION
+                + " or later, but running on Java " + Runtime.version().feature());
+        }
+        System.setProperty(VIRTUAL_THREADS_PROPERTY, String.valueOf(config.virtualThreads()));
+
+        final var tomcat = new TomcatStarter(0);
+        tomcat.setMaxThreads(config.maxThreads());
+        tomcat.start();
+        try {
+            final var baseUri = URI.create("http://localhost:" + tomcat.getPort());
+            final var driver = new OpenLoopDriver(baseUri, config);
+
+            log.info("Warming up {} for {}s", baseUri, config.warmup().toSeconds());
+            driver.run(config.warmup());
+
+            final var startedAt = Instant.now();
+            log.info("Running {} req/s over {} connections for {}s (maxThreads={}, virtualThreads={})", config.rate(),
+                config.connections(), config.duration().toSeconds(), config.maxThreads(), config.virtualThreads());
+            final var result = driver.run(config.duration());
+
+            final var json = result.toJson(config, startedAt);
+            write(Path.of(config.output()), json);
+            log.info("Completed {} requests ({} req/s). Results written to {}\n{}",
+                result.getRequests(), String.format("%.1f", result.getThroughput()), config.output(), json);
+        } finally {
+            tomcat.stop();
+        }
+    }
+
+    private static void write(final Path output, final String json) throws IOException {
+        final var parent = output.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        Files.writeString(output, json, StandardCharsets.UTF_8);
+    }
+}
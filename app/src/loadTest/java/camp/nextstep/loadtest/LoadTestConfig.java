@@ -0,0 +1,77 @@
+package camp.nextstep.loadtest;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@code key=value} 형식의 실행 인자로 만든 부하 테스트 설정.
+ * <p>
+ * {@code rate} 는 초당 보낼 요청 수, {@code connections} 는 동시에 쓰는 연결 수다.
+ * {@code maxThreads} 는 Tomcat 의 요청 처리 스레드 수이고, {@code virtualThreads=true} 이면 핸들러를 가상 스레드에서 실행한다.
+ * 가상 스레드는 Java 21 이상에서만 쓸 수 있다.
+ * {@code mix} 는 {@code userById=4,login=1} 처럼 시나리오별 가중치를 쉼표로 나열한다.
+ */
+public record LoadTestConfig(int rate, int connections, int maxThreads, boolean virtualThreads,
+                             Duration warmup, Duration duration, Map<Scenario, Integer> mix, String output) {
+
+    private static final String DEFAULT_MIX = "userById=4,userByAccount=4,login=1,register=1";
+
+    public LoadTestConfig {
+        if (rate <= 0 || connections <= 0 || maxThreads <= 0) {
+            throw new IllegalArgumentException("rate, connections and maxThreads must be positive");
+        }
+        if (mix.isEmpty() || mix.values().stream().anyMatch(weight -> weight < 0)
+            || mix.values().stream().mapToInt(Integer::intValue).sum() == 0) {
+            throw new IllegalArgumentException("mix needs at least one positive weight: " + mix);
+        }
+    }
+
+    public static LoadTestConfig parse(final String[] args) {
+        final Map<String, String> values = new LinkedHashMap<>();
+        for (String arg : args) {
+            final int separator = arg.indexOf('=');
+            if (separator < 0) {
+                throw new IllegalArgumentException("Arguments must be key=value: " + arg);
+            }
+            values.put(arg.substring(0, separator), arg.substring(separator + 1));
+        }
+        return new LoadTestConfig(
+            Integer.parseInt(values.getOrDefault("rate", "500")),
+            Integer.parseInt(values.getOrDefault("connections", "16")),
+            Integer.parseInt(values.getOrDefault("maxThreads", "200")),
+            Boolean.parseBoolean(values.getOrDefault("virtualThreads", "false")),
+            Duration.ofSeconds(Long.parseLong(values.getOrDefault("warmup", "5"))),
+            Duration.ofSeconds(Long.parseLong(values.getOrDefault("duration", "30"))),
+            parseMix(values.getOrDefault("mix", DEFAULT_MIX)),
+            values.getOrDefault("output", "load-test-results.json")
+        );
+    }
+
+    /**
+     * 가중치만큼 시나리오를 반복한 배열. 요청 순번으로 고르면 가중치 비율대로 섞인다.
+     */
+    public Scenario[] schedule() {
+        final List<Scenario> schedule = new ArrayList<>();
+        mix.forEach((scenario, weight) -> {
+            for (int i = 0; i < weight; i++) {
+                schedule.add(scenario);
+            }
+        });
+        return schedule.toArray(Scenario[]::new);
+    }
+
+    private static Map<Scenario, Integer> parseMix(final String mix) {
+        final Map<Scenario, Integer> weights = new LinkedHashMap<>();
+        for (String entry : mix.split(",")) {
+            final var pair = entry.strip().split("=");
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("mix entries must be scenario=weight: " + entry);
+            }
+            weights.put(Scenario.of(pair[0].strip()), Integer.parseInt(pair[1].strip()));
+        }
+        return weights;
+    }
+}
@@ -0,0 +1,112 @@
+package camp.nextstep.loadtest;
+
+import com.interface21.webmvc.servlet.metrics.LatencyHistogram;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 시나리오별 지연 시간과 오류 수. 지연 시간은 요청을 보내기로 예정된 시각부터 응답을 받을 때까지다.
+ */
+public class LoadTestResult {
+
+    private static final double[] PERCENTILES = {0.5, 0.99, 0.999};
+    private static final String[] PERCENTILE_NAMES = {"p50", "p99", "p999"};
+
+    private final Map<Scenario, ScenarioResult> scenarios = new EnumMap<>(Scenario.class);
+    private final ScenarioResult total = new ScenarioResult();
+    private Duration elapsed = Duration.ZERO;
+
+    public LoadTestResult() {
+        for (Scenario scenario : Scenario.values()) {
+            scenarios.put(scenario, new ScenarioResult());
+        }
+    }
+
+    void record(final Scenario scenario, final long latencyNanos, final boolean error) {
+        scenarios.get(scenario).record(latencyNanos, error);
+        total.record(latencyNanos, error);
+    }
+
+    void setElapsed(final Duration elapsed) {
+        this.elapsed = elapsed;
+    }
+
+    public long getRequests() {
+        return total.latency.snapshot().getCount();
+    }
+
+    public double getThroughput() {
+        return elapsed.isZero() ? 0 : getRequests() / (elapsed.toNanos() / 1e9);
+    }
+
+    public String toJson(final LoadTestConfig config, final Instant startedAt) {
+        final var json = new StringBuilder();
+        json.append("{\n");
+        json.append("  \"startedAt\": \"").append(startedAt).append("\",\n");
+        json.append("  \"config\": {\"rate\": ").append(config.rate())
+            .append(", \"connections\": ").append(config.connections())
+            .append(", \"maxThreads\": ").append(config.maxThreads())
+            .append(", \"virtualThreads\": ").append(config.virtualThreads())
+            .append(", \"javaVersion\": ").append(Runtime.version().feature())
+            .append(", \"warmupSeconds\": ").append(config.warmup().toSeconds())
+            .append(", \"durationSeconds\": ").append(config.duration().toSeconds())
+            .append(", \"mix\": {");
+        var first = true;
+        for (var entry : config.mix().entrySet()) {
+            json.append(first ? "" : ", ").append('"').append(entry.getKey().getKey()).append("\": ").append(entry.getValue());
+            first = false;
+        }
+        json.append("}},\n");
+        json.append("  \"elapsedSeconds\": ").append(format(elapsed.toNanos() / 1e9)).append(",\n");
+        json.append("  \"throughput\": ").append(format(getThroughput())).append(",\n");
+        json.append("  \"total\": ");
+        total.appendJson(json);
+        json.append(",\n  \"scenarios\": {");
+        first = true;
+        for (var entry : scenarios.entrySet()) {
+            if (entry.getValue().latency.snapshot().getCount() == 0) {
+                continue;
+            }
+            json.append(first ? "\n" : ",\n").append("    \"").append(entry.getKey().getKey()).append("\": ");
+            entry.getValue().appendJson(json);
+            first = false;
+        }
+        json.append("\n  }\n}\n");
+        return json.toString();
+    }
+
+    private static String format(final double value) {
+        return String.format(Locale.ROOT, "%.3f", value);
+    }
+
+    private static final class ScenarioResult {
+
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private final LongAdder errors = new LongAdder();
+
+        private void record(final long latencyNanos, final boolean error) {
+            latency.recordNanos(latencyNanos);
+            if (error) {
+                errors.increment();
+            }
+        }
+
+        private void appendJson(final StringBuilder json) {
+            final var snapshot = latency.snapshot();
+            json.append("{\"requests\": ").append(snapshot.getCount())
+                .append(", \"errors\": ").append(errors.sum())
+                .append(", \"latencyMillis\": {\"mean\": ")
+                .append(format(snapshot.getCount() == 0 ? 0 : snapshot.getSumNanos() / 1e6 / snapshot.getCount()));
+            for (int i = 0; i < PERCENTILES.length; i++) {
+                json.append(", \"").append(PERCENTILE_NAMES[i]).append("\": ")
+                    .append(format(snapshot.getValueAtQuantileMicros(PERCENTILES[i]) / 1e3));
+            }
+            json.append("}}");
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package camp.nextstep.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 요청을 일정한 간격의 예정 시각에 맞춰 보내는 open-loop 부하 생성기.
+ * <p>
+ * {@code connections} 개의 스레드가 각자 연결 하나를 쓰며 다음 순번의 요청을 가져간다.
+ * 응답이 늦어 예정 시각이 지난 요청은 바로 보내고, 지연 시간은 실제로 보낸 시각이 아니라 예정 시각부터 잰다.
+ * 그래서 서버가 느려져 요청을 늦게 보내게 되어도 그 대기 시간이 결과에서 빠지지 않는다(coordinated omission 보정).
+ */
+public class OpenLoopDriver {
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final HttpClient httpClient;
+    private final URI baseUri;
+    private final LoadTestConfig config;
+    private final AtomicLong requestSequence = new AtomicLong();
+
+    public OpenLoopDriver(final URI baseUri, final LoadTestConfig config) {
+        this.httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+        this.baseUri = baseUri;
+        this.config = config;
+    }
+
+    public LoadTestResult run(final Duration duration) throws InterruptedException {
+        final var result = new LoadTestResult();
+        final var schedule = config.schedule();
+        final long intervalNanos = Math.max(1, NANOS_PER_SECOND / config.rate());
+        final long totalRequests = duration.toNanos() / intervalNanos;
+        final var next = new AtomicLong();
+        final long start = System.nanoTime();
+
+        final List<Thread> workers = new ArrayList<>();
+        for (int i = 0; i < config.connections(); i++) {
+            final var worker = new Thread(() -> {
+                long index;
+                while ((index = next.getAndIncrement()) < totalRequests) {
+                    final long intended = start + index * intervalNanos;
+                    waitUntil(intended);
+                    send(schedule[(int) (index % schedule.length)], intended, result);
+                }
+            }, "load-" + i);
+            worker.start();
+            workers.add(worker);
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        result.setElapsed(Duration.ofNanos(System.nanoTime() - start));
+        return result;
+    }
+
+    private void send(final Scenario scenario, final long intended, final LoadTestResult result) {
+        final var request = scenario.create(baseUri, requestSequence.getAndIncrement());
+        boolean error;
+        try {
+            final var response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+            error = response.statusCode() >= 400;
+        } catch (IOException e) {
+            error = true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+        result.record(scenario, System.nanoTime() - intended, error);
+    }
+
+    private static void waitUntil(final long deadline) {
+        long remaining;
+        while ((remaining = deadline - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package camp.nextstep.loadtest;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 부하 테스트에서 보내는 요청 종류. {@code sequence} 는 요청마다 다른 값이 필요할 때 쓴다.
+ */
+public enum Scenario {
+
+    USER_BY_ID("userById") {
+        @Override
+        HttpRequest create(final URI baseUri, final long sequence) {
+            return HttpRequest.newBuilder(baseUri.resolve("/api/user/1")).GET().build();
+        }
+    },
+    USER_BY_ACCOUNT("userByAccount") {
+        @Override
+        HttpRequest create(final URI baseUri, final long sequence) {
+            return HttpRequest.newBuilder(baseUri.resolve("/api/user?account=gugu")).GET().build();
+        }
+    },
+    LOGIN("login") {
+        @Override
+        HttpRequest create(final URI baseUri, final long sequence) {
+            return form(baseUri.resolve("/login"), "account=gugu&password=password");
+        }
+    },
+    BLOCKING("blocking") {
+        @Override
+        HttpRequest create(final URI baseUri, final long sequence) {
+            return HttpRequest.newBuilder(baseUri.resolve("/api/blocking?millis=" + BLOCKING_MILLIS)).GET().build();
+        }
+    },
+    REGISTER("register") {
+        @Override
+        HttpRequest create(final URI baseUri, final long sequence) {
+            final var account = "load-" + sequence;
+            return form(baseUri.resolve("/register"), "account=" + account + "&password=password&email="
+                + URLEncoder.encode(account + "@example.com", StandardCharsets.UTF_8));
+        }
+    };
+
+    /**
+     * {@code blocking} 시나리오에서 핸들러가 요청 스레드를 막는 시간.
+     */
+    private static final int BLOCKING_MILLIS = 50;
+
+    private final String key;
+
+    Scenario(final String key) {
+        this.key = key;
+    }
+
+    abstract HttpRequest create(URI baseUri, long sequence);
+
+    public String getKey() {
+        return key;
+    }
+
+    public static Scenario of(final String key) {
+        for (Scenario scenario : values()) {
+            if (scenario.key.equals(key)) {
+                return scenario;
+            }
+        }
+        throw new IllegalArgumentException("Unknown scenario: " + key);
+    }
+
+    private static HttpRequest form(final URI uri, final String body) {
+        return HttpRequest.newBuilder(uri)
+            .header("Content-Type", "application/x-www-form-urlencoded")
+            .POST(HttpRequest.BodyPublishers.ofString(body))
+            .build();
+    }
+}
@@ -5,6 +5,8 @@ import org.apache.catalina.LifecycleException;
 import org.apache.catalina.connector.Connector;
 import org.apache.catalina.core.StandardContext;
 import org.apache.catalina.startup.Tomcat;
+import org.apache.catalina.webresources.DirResourceSet;
+import org.apache.catalina.webresources.StandardRoot;
 import org.apache.tomcat.util.scan.StandardJarScanFilter;
 import org.apache.tomcat.util.scan.StandardJarScanner;
 import org.slf4j.Logger;
@@ -17,6 +19,7 @@ public class TomcatStarter {
     private static final Logger log = LoggerFactory.getLogger(TomcatStarter.class);
 
     private static final String WEBAPP_DIR_LOCATION = "app/src/main/webapp/";
+    private static final String PRECOMPILED_JSP_DIR_LOCATION = "app/build/jspc/";
 
     private final Tomcat tomcat;
 
@@ -32,6 +35,7 @@ public class TomcatStarter {
         final var context = (StandardContext) tomcat.addWebapp("", docBase);
         skipTldScan(context);
         skipClearReferences(context);
+        usePrecompiledJsp(context, new File(PRECOMPILED_JSP_DIR_LOCATION));
     }
 
     public void start() {
@@ -44,6 +48,20 @@ public class TomcatStarter {
         }
     }
 
+    /**
+     * 요청을 처리하는 컨테이너 스레드 수. {@link #start()} 전에 호출해야 한다.
+     */
+    public void setMaxThreads(final int maxThreads) {
+        tomcat.getConnector().setProperty("maxThreads", String.valueOf(maxThreads));
+    }
+
+    /**
+     * 포트를 0 으로 지정했으면 시작한 뒤 운영체제가 할당한 포트를 반환한다.
+     */
+    public int getPort() {
+        return tomcat.getConnector().getLocalPort();
+    }
+
     public void stop() {
         try {
             tomcat.stop();
@@ -60,6 +78,23 @@ public class TomcatStarter {
         return connector;
     }
 
+    /**
+     * {@code precompileJsp} 태스크가 만든 JSP 서블릿 클래스와 그 매핑을 담은 web.xml 이 있으면 사용한다.
+     * 첫 요청에서 JSP 를 컴파일하지 않는 대신, JSP 를 고친 뒤에는 태스크를 다시 실행해야 반영된다.
+     */
+    private void usePrecompiledJsp(final StandardContext context, final File precompiledDir) {
+        final var webXml = new File(precompiledDir, "WEB-INF/web.xml");
+        final var classes = new File(precompiledDir, "WEB-INF/classes");
+        if (!webXml.isFile() || !classes.isDirectory()) {
+            return;
+        }
+        context.setAltDDName(webXml.getAbsolutePath());
+        final var resources = new StandardRoot(context);
+        resources.addPreResources(new DirResourceSet(resources, "/WEB-INF/classes", classes.getAbsolutePath(), "/"));
+        context.setResources(resources);
+        log.info("using precompiled JSPs in {}", precompiledDir.getAbsolutePath());
+    }
+
     private void skipTldScan(final Context context) {
         final var jarScanner = (StandardJarScanner) context.getJarScanner();
         final var jarScanFilter = new StandardJarScanFilter();
@@ -0,0 +1,19 @@
+package camp.nextstep.config;
+
+import com.interface21.context.annotation.Bean;
+import com.interface21.context.annotation.Configuration;
+
+import java.lang.invoke.MethodHandles;
+
+@Configuration
+public class AopConfig {
+
+    /**
+     * 애플리케이션 클래스는 웹 애플리케이션 클래스 로더가 로드하므로 프레임워크와 다른 모듈에 있다.
+     * 프레임워크가 이 모듈의 클래스를 프록시할 수 있도록 이 모듈의 Lookup 을 넘긴다.
+     */
+    @Bean
+    public MethodHandles.Lookup proxyLookup() {
+        return MethodHandles.lookup();
+    }
+}
@@ -0,0 +1,14 @@
+package camp.nextstep.config;
+
+import com.interface21.context.annotation.Bean;
+import com.interface21.context.annotation.Configuration;
+import com.interface21.webmvc.servlet.cache.ResponseCache;
+
+@Configuration
+public class WebConfig {
+
+    @Bean
+    public ResponseCache responseCache() {
+        return new ResponseCache(1_000);
+    }
+}
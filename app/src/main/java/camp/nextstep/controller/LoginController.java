@@ -1,7 +1,10 @@
 package camp.nextstep.controller;
 
 import camp.nextstep.domain.User;
-import camp.nextstep.dao.InMemoryUserDao;
+import camp.nextstep.domain.event.UserLoggedInEvent;
+import camp.nextstep.service.UserService;
+import com.interface21.beans.factory.annotation.Autowired;
+import com.interface21.context.ApplicationEventPublisher;
 import com.interface21.context.stereotype.Controller;
 import com.interface21.web.bind.annotation.RequestMapping;
 import com.interface21.web.bind.annotation.RequestMethod;
@@ -17,10 +20,13 @@ public class LoginController {
 
     private static final Logger log = LoggerFactory.getLogger(LoginController.class);
 
-    private final InMemoryUserDao userDao;
+    private final UserService userService;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public LoginController() {
-        this.userDao = new InMemoryUserDao();
+    @Autowired
+    public LoginController(final UserService userService, final ApplicationEventPublisher eventPublisher) {
+        this.userService = userService;
+        this.eventPublisher = eventPublisher;
     }
 
     @RequestMapping(value = "/login", method = RequestMethod.GET)
@@ -39,7 +45,7 @@ public class LoginController {
             return redirect("/index.jsp");
         }
 
-        final var user = userDao.findByAccount(request.getParameter("account"));
+        final var user = userService.findByAccount(request.getParameter("account"));
         if (user == null) {
             return redirect("/401.jsp");
         }
@@ -52,6 +58,7 @@ public class LoginController {
         if (user.checkPassword(request.getParameter("password"))) {
             final var session = request.getSession();
             session.setAttribute(UserSession.SESSION_KEY, user);
+            eventPublisher.publishEvent(new UserLoggedInEvent(user));
             return redirect("/index.jsp");
         } else {
             return redirect("/401.jsp");
@@ -1,13 +1,16 @@
 package camp.nextstep.controller;
 
-import camp.nextstep.dao.InMemoryUserDao;
+import camp.nextstep.service.UserService;
+import com.interface21.beans.factory.annotation.Autowired;
 import com.interface21.context.stereotype.Controller;
+import com.interface21.web.bind.annotation.CacheResponse;
 import com.interface21.web.bind.annotation.PathVariable;
 import com.interface21.web.bind.annotation.RequestMapping;
 import com.interface21.web.bind.annotation.RequestMethod;
 import com.interface21.web.bind.annotation.RequestParam;
 import com.interface21.webmvc.servlet.ModelAndView;
 import com.interface21.webmvc.servlet.view.JsonView;
+import com.interface21.webmvc.servlet.view.StreamingJsonView;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -16,17 +19,19 @@ public class UserController {
 
     private static final Logger log = LoggerFactory.getLogger(UserController.class);
 
-    private final InMemoryUserDao userDao;
+    private final UserService userService;
 
-    public UserController() {
-        this.userDao = new InMemoryUserDao();
+    @Autowired
+    public UserController(final UserService userService) {
+        this.userService = userService;
     }
 
+    @CacheResponse(ttl = 60, vary = "Accept", tags = "users")
     @RequestMapping(value = "/api/user/{id}", method = RequestMethod.GET)
     public ModelAndView show(@PathVariable("id") final long id) {
         log.debug("user id : {}", id);
 
-        final var user = userDao.findById(id);
+        final var user = userService.findById(id);
 
         final var modelAndView = new ModelAndView(new JsonView());
         modelAndView.addObject("user", user);
@@ -37,10 +42,17 @@ public class UserController {
     public ModelAndView show(@RequestParam("account") final String account) {
         log.debug("user account : {}", account);
 
-        final var user = userDao.findByAccount(account);
+        final var user = userService.findByAccount(account);
 
         final var modelAndView = new ModelAndView(new JsonView());
         modelAndView.addObject("user", user);
         return modelAndView;
     }
+
+    @RequestMapping(value = "/api/users", method = RequestMethod.GET)
+    public ModelAndView list() {
+        final var modelAndView = new ModelAndView(new StreamingJsonView());
+        modelAndView.addObject("users", userService.findAll());
+        return modelAndView;
+    }
 }
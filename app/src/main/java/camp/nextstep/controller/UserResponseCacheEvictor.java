@@ -0,0 +1,29 @@
+package camp.nextstep.controller;
+
+import camp.nextstep.domain.event.UserRegisteredEvent;
+import com.interface21.beans.factory.annotation.Autowired;
+import com.interface21.context.event.EventListener;
+import com.interface21.context.stereotype.Component;
+import com.interface21.webmvc.servlet.cache.ResponseCache;
+
+/**
+ * 사용자가 바뀌면 {@code users} 태그로 캐시한 응답을 지운다.
+ * 등록을 마친 요청이 응답하기 전에 지우도록 이벤트를 동기로 받는다.
+ */
+@Component
+public class UserResponseCacheEvictor {
+
+    private static final String USERS_TAG = "users";
+
+    private final ResponseCache responseCache;
+
+    @Autowired
+    public UserResponseCacheEvictor(final ResponseCache responseCache) {
+        this.responseCache = responseCache;
+    }
+
+    @EventListener
+    public void onRegistered(final UserRegisteredEvent event) {
+        responseCache.evictTag(USERS_TAG);
+    }
+}
@@ -5,6 +5,7 @@ import com.interface21.context.stereotype.Repository;
 
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
 
 @Repository
 public class InMemoryUserDao {
@@ -31,4 +32,8 @@ public class InMemoryUserDao {
     public User findByAccount(final String account) {
         return database.get(account);
     }
+
+    public Stream<User> findAll() {
+        return database.values().stream();
+    }
 }
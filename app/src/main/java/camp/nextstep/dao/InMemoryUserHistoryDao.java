@@ -0,0 +1,23 @@
+package camp.nextstep.dao;
+
+import camp.nextstep.domain.UserHistory;
+import com.interface21.context.stereotype.Repository;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+@Repository
+public class InMemoryUserHistoryDao {
+
+    private final List<UserHistory> histories = new CopyOnWriteArrayList<>();
+
+    public void log(final UserHistory userHistory) {
+        histories.add(userHistory);
+    }
+
+    public List<UserHistory> findByAccount(final String account) {
+        return histories.stream()
+            .filter(history -> history.getAccount().equals(account))
+            .toList();
+    }
+}
@@ -0,0 +1,6 @@
+package camp.nextstep.domain.event;
+
+import camp.nextstep.domain.User;
+
+public record UserRegisteredEvent(User user) {
+}
@@ -0,0 +1,35 @@
+package camp.nextstep.service;
+
+import camp.nextstep.dao.InMemoryUserHistoryDao;
+import camp.nextstep.domain.UserHistory;
+import camp.nextstep.domain.event.UserLoggedInEvent;
+import camp.nextstep.domain.event.UserRegisteredEvent;
+import com.interface21.beans.factory.annotation.Autowired;
+import com.interface21.context.event.EventListener;
+import com.interface21.context.stereotype.Component;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+@Component
+public class UserHistoryRecorder {
+
+    private static final Logger log = LoggerFactory.getLogger(UserHistoryRecorder.class);
+
+    private final InMemoryUserHistoryDao userHistoryDao;
+
+    @Autowired
+    public UserHistoryRecorder(final InMemoryUserHistoryDao userHistoryDao) {
+        this.userHistoryDao = userHistoryDao;
+    }
+
+    @EventListener(async = true)
+    public void onRegistered(final UserRegisteredEvent event) {
+        userHistoryDao.log(new UserHistory(event.user(), "register"));
+    }
+
+    @EventListener(async = true)
+    public void onLoggedIn(final UserLoggedInEvent event) {
+        log.info("logged in {}", event.user().getAccount());
+        userHistoryDao.log(new UserHistory(event.user(), "login"));
+    }
+}
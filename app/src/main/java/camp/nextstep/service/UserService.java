@@ -2,24 +2,43 @@ package camp.nextstep.service;
 
 import camp.nextstep.dao.InMemoryUserDao;
 import camp.nextstep.domain.User;
+import camp.nextstep.domain.event.UserRegisteredEvent;
 import com.interface21.beans.factory.annotation.Autowired;
+import com.interface21.cache.annotation.CacheEvict;
+import com.interface21.cache.annotation.Cacheable;
+import com.interface21.context.ApplicationEventPublisher;
 import com.interface21.context.stereotype.Service;
 
+import java.util.stream.Stream;
+
 @Service
 public class UserService {
 
     private final InMemoryUserDao userDao;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
-    public UserService(InMemoryUserDao userDao) {
+    public UserService(final InMemoryUserDao userDao, final ApplicationEventPublisher eventPublisher) {
         this.userDao = userDao;
+        this.eventPublisher = eventPublisher;
+    }
+
+    public User findById(final long id) {
+        return userDao.findById(id);
     }
 
+    @Cacheable("users")
     public User findByAccount(final String account) {
         return userDao.findByAccount(account);
     }
 
+    public Stream<User> findAll() {
+        return userDao.findAll();
+    }
+
+    @CacheEvict(value = "users", allEntries = true)
     public void save(final User user) {
         userDao.save(user);
+        eventPublisher.publishEvent(new UserRegisteredEvent(user));
     }
 }
@@ -0,0 +1,14 @@
+package com.interface21.aop;
+
+import java.lang.reflect.Method;
+
+/**
+ * 어떤 메서드에 어떤 인터셉터를 적용할지 결정한다.
+ * 컨테이너에 빈으로 등록된 Advisor는 다른 빈을 생성할 때 자동으로 적용된다.
+ */
+public interface Advisor {
+
+    boolean matches(Method method, Class<?> targetClass);
+
+    MethodInterceptor getInterceptor(Method method, Class<?> targetClass);
+}
@@ -0,0 +1,11 @@
+package com.interface21.aop;
+
+/**
+ * 프록시된 빈의 메서드 호출을 가로채는 인터셉터.
+ * {@link MethodInvocation#proceed()}를 호출하면 다음 인터셉터 또는 실제 대상 메서드가 실행된다.
+ */
+@FunctionalInterface
+public interface MethodInterceptor {
+
+    Object invoke(MethodInvocation invocation) throws Throwable;
+}
@@ -0,0 +1,14 @@
+package com.interface21.aop;
+
+import java.lang.reflect.Method;
+
+public interface MethodInvocation {
+
+    Method getMethod();
+
+    Object[] getArguments();
+
+    Object getThis();
+
+    Object proceed() throws Throwable;
+}
@@ -0,0 +1,52 @@
+package com.interface21.aop.framework;
+
+import com.interface21.aop.Advisor;
+import com.interface21.beans.factory.config.BeanPostProcessor;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 등록된 {@link Advisor} 중 하나라도 적용되는 빈을 프록시로 바꾼다.
+ */
+public class AdvisorAutoProxyCreator implements BeanPostProcessor {
+
+    private final List<Advisor> advisors = new ArrayList<>();
+    private final List<MethodHandles.Lookup> lookups = new ArrayList<>();
+
+    public void addAdvisor(final Advisor advisor) {
+        advisors.add(advisor);
+    }
+
+    /**
+     * @see ProxyFactory#addLookup(MethodHandles.Lookup)
+     */
+    public void addLookup(final MethodHandles.Lookup lookup) {
+        lookups.add(lookup);
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(final Object bean, final Class<?> beanClass) {
+        if (bean instanceof Advisor || !isAdvised(bean.getClass())) {
+            return bean;
+        }
+
+        final var proxyFactory = new ProxyFactory(bean);
+        advisors.forEach(proxyFactory::addAdvisor);
+        lookups.forEach(proxyFactory::addLookup);
+        return proxyFactory.getProxy();
+    }
+
+    private boolean isAdvised(final Class<?> targetClass) {
+        for (Method method : targetClass.getMethods()) {
+            for (Advisor advisor : advisors) {
+                if (advisor.matches(method, targetClass)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,80 @@
+package com.interface21.aop.framework;
+
+import com.interface21.aop.MethodInterceptor;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.UndeclaredThrowableException;
+
+/**
+ * 프록시 메서드 하나에 대해 프록시 생성 시점에 미리 계산해 둔 인터셉터 체인.
+ * 생성된 프록시 클래스가 직접 호출하므로 public 이지만, 애플리케이션 코드에서 사용할 일은 없다.
+ */
+public final class InterceptorChain {
+
+    private static final MethodType INVOKER_TYPE = MethodType.methodType(Object.class, Object.class, Object[].class);
+
+    private final Method method;
+    private final Object target;
+    private final MethodInterceptor[] interceptors;
+    private final MethodHandle invoker;
+
+    InterceptorChain(final Method method, final Object target, final MethodInterceptor[] interceptors) {
+        this.method = method;
+        this.target = target;
+        this.interceptors = interceptors;
+        this.invoker = createInvoker(method);
+    }
+
+    private static MethodHandle createInvoker(final Method method) {
+        try {
+            method.setAccessible(true);
+            return MethodHandles.lookup()
+                .unreflect(method)
+                .asSpreader(Object[].class, method.getParameterCount())
+                .asType(INVOKER_TYPE);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(method + " is not accessible", e);
+        }
+    }
+
+    public Object invoke(final Object proxy, final Object[] args) throws Throwable {
+        try {
+            return new ProxyMethodInvocation(this, proxy, args).proceed();
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            if (isDeclared(e)) {
+                throw e;
+            }
+            throw new UndeclaredThrowableException(e);
+        }
+    }
+
+    private boolean isDeclared(final Throwable e) {
+        for (Class<?> exceptionType : method.getExceptionTypes()) {
+            if (exceptionType.isInstance(e)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    Object invokeTarget(final Object[] args) throws Throwable {
+        return invoker.invokeExact(target, args);
+    }
+
+    Method getMethod() {
+        return method;
+    }
+
+    Object getTarget() {
+        return target;
+    }
+
+    MethodInterceptor[] getInterceptors() {
+        return interceptors;
+    }
+}
@@ -0,0 +1,478 @@
+package com.interface21.aop.framework;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.constant.ConstantDescs;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 프록시 클래스의 바이트코드를 만든다.
+ * <p>
+ * 생성된 클래스는 대상 객체와 {@link InterceptorChain} 배열을 {@code static final} 필드로 가지며,
+ * 값은 {@link MethodHandles.Lookup#defineHiddenClassWithClassData} 로 넘긴 class data 에서 읽는다.
+ * 생성자는 대상 클래스의 생성자를 기본값 인자로 호출하기만 한다.
+ * 인터셉터가 없는 메서드는 대상 객체를 바로 호출하고, 인터셉터가 있는 메서드는 미리 계산된 체인을 호출한다.
+ * 모든 메서드 본문이 분기 없는 직선 코드라서 StackMapTable 없이 검증을 통과한다.
+ */
+final class ProxyClassGenerator {
+
+    private static final int CLASS_FILE_MAJOR_VERSION = 61;
+
+    private static final int ACC_PUBLIC = 0x0001;
+    private static final int ACC_PRIVATE = 0x0002;
+    private static final int ACC_STATIC = 0x0008;
+    private static final int ACC_FINAL = 0x0010;
+    private static final int ACC_SUPER = 0x0020;
+    private static final int ACC_VARARGS = 0x0080;
+
+    private static final int ACONST_NULL = 0x01;
+    private static final int ICONST_0 = 0x03;
+    private static final int ICONST_1 = 0x04;
+    private static final int LCONST_0 = 0x09;
+    private static final int FCONST_0 = 0x0b;
+    private static final int DCONST_0 = 0x0e;
+    private static final int SIPUSH = 0x11;
+    private static final int LDC_W = 0x13;
+    private static final int ILOAD = 0x15;
+    private static final int LLOAD = 0x16;
+    private static final int FLOAD = 0x17;
+    private static final int DLOAD = 0x18;
+    private static final int ALOAD = 0x19;
+    private static final int ALOAD_0 = 0x2a;
+    private static final int AALOAD = 0x32;
+    private static final int AASTORE = 0x53;
+    private static final int POP = 0x57;
+    private static final int DUP = 0x59;
+    private static final int IRETURN = 0xac;
+    private static final int LRETURN = 0xad;
+    private static final int FRETURN = 0xae;
+    private static final int DRETURN = 0xaf;
+    private static final int ARETURN = 0xb0;
+    private static final int RETURN = 0xb1;
+    private static final int GETSTATIC = 0xb2;
+    private static final int PUTSTATIC = 0xb3;
+    private static final int INVOKEVIRTUAL = 0xb6;
+    private static final int INVOKESPECIAL = 0xb7;
+    private static final int INVOKESTATIC = 0xb8;
+    private static final int ANEWARRAY = 0xbd;
+    private static final int CHECKCAST = 0xc0;
+
+    private static final String CONSTRUCTOR_NAME = "<init>";
+    private static final String TARGET_FIELD = "target";
+    private static final String CHAINS_FIELD = "chains";
+    private static final String OBJECT = "java/lang/Object";
+    private static final String METHOD_HANDLES = "java/lang/invoke/MethodHandles";
+    private static final String LOOKUP_DESCRIPTOR = "Ljava/lang/invoke/MethodHandles$Lookup;";
+    private static final String CHAIN = internalName(InterceptorChain.class);
+    private static final String CHAIN_ARRAY_DESCRIPTOR = InterceptorChain[].class.descriptorString();
+    private static final String CHAIN_INVOKE_DESCRIPTOR = "(Ljava/lang/Object;[Ljava/lang/Object;)Ljava/lang/Object;";
+
+    private final ConstantPool constantPool = new ConstantPool();
+
+    private final String className;
+    private final Class<?> targetType;
+    private final Constructor<?> superConstructor;
+
+    /**
+     * @param className        생성할 클래스의 내부 이름. lookup 클래스와 같은 패키지여야 한다.
+     * @param targetType       대상 객체의 클래스. 프록시의 상위 클래스이고, 인터셉터가 없는 메서드는 이 타입으로 바로 호출한다
+     * @param superConstructor 프록시 생성자가 호출할 {@code targetType} 의 생성자
+     */
+    ProxyClassGenerator(final String className, final Class<?> targetType, final Constructor<?> superConstructor) {
+        this.className = className;
+        this.targetType = targetType;
+        this.superConstructor = superConstructor;
+    }
+
+    /**
+     * @param methods  재정의할 메서드
+     * @param advised  {@code advised[i]} 가 true 이면 {@code methods[i]} 는 인터셉터 체인을 거친다
+     */
+    byte[] generate(final List<Method> methods, final boolean[] advised) {
+        final var thisClass = constantPool.classRef(className);
+        final var superClass = constantPool.classRef(internalName(targetType));
+
+        final var body = new Output();
+        body.u2(2);
+        writeField(body, TARGET_FIELD, targetType.descriptorString());
+        writeField(body, CHAINS_FIELD, CHAIN_ARRAY_DESCRIPTOR);
+
+        body.u2(methods.size() + 2);
+        writeStaticInitializer(body);
+        writeConstructor(body);
+        for (int i = 0; i < methods.size(); i++) {
+            writeMethod(body, methods.get(i), i, advised[i]);
+        }
+        body.u2(0);
+
+        final var classFile = new Output();
+        classFile.u4(0xCAFEBABE);
+        classFile.u2(0);
+        classFile.u2(CLASS_FILE_MAJOR_VERSION);
+        classFile.u2(constantPool.size());
+        classFile.bytes(constantPool.toByteArray());
+        classFile.u2(ACC_FINAL | ACC_SUPER);
+        classFile.u2(thisClass);
+        classFile.u2(superClass);
+        classFile.u2(0);
+        classFile.bytes(body.toByteArray());
+        return classFile.toByteArray();
+    }
+
+    private void writeField(final Output out, final String name, final String descriptor) {
+        out.u2(ACC_PRIVATE | ACC_STATIC | ACC_FINAL);
+        out.u2(constantPool.utf8(name));
+        out.u2(constantPool.utf8(descriptor));
+        out.u2(0);
+    }
+
+    private void writeStaticInitializer(final Output out) {
+        final var code = new Output();
+        code.u1(INVOKESTATIC);
+        code.u2(constantPool.methodRef(METHOD_HANDLES, "lookup", "()" + LOOKUP_DESCRIPTOR, false));
+        code.u1(LDC_W);
+        code.u2(constantPool.string(ConstantDescs.DEFAULT_NAME));
+        code.u1(LDC_W);
+        code.u2(constantPool.classRef(Object[].class.descriptorString()));
+        code.u1(INVOKESTATIC);
+        code.u2(constantPool.methodRef(METHOD_HANDLES, "classData",
+            "(" + LOOKUP_DESCRIPTOR + "Ljava/lang/String;Ljava/lang/Class;)Ljava/lang/Object;", false));
+        code.u1(CHECKCAST);
+        code.u2(constantPool.classRef(Object[].class.descriptorString()));
+        code.u1(DUP);
+        code.u1(ICONST_0);
+        code.u1(AALOAD);
+        code.u1(CHECKCAST);
+        code.u2(constantPool.classRef(internalName(targetType)));
+        code.u1(PUTSTATIC);
+        code.u2(constantPool.fieldRef(className, TARGET_FIELD, targetType.descriptorString()));
+        code.u1(ICONST_1);
+        code.u1(AALOAD);
+        code.u1(CHECKCAST);
+        code.u2(constantPool.classRef(CHAIN_ARRAY_DESCRIPTOR));
+        code.u1(PUTSTATIC);
+        code.u2(constantPool.fieldRef(className, CHAINS_FIELD, CHAIN_ARRAY_DESCRIPTOR));
+        code.u1(RETURN);
+
+        writeMethodInfo(out, ACC_STATIC, "<clinit>", "()V", code, 3, 0);
+    }
+
+    private void writeConstructor(final Output out) {
+        final Class<?>[] parameterTypes = superConstructor.getParameterTypes();
+        final var code = new Output();
+        code.u1(ALOAD_0);
+        for (Class<?> parameterType : parameterTypes) {
+            pushDefault(code, parameterType);
+        }
+        code.u1(INVOKESPECIAL);
+        code.u2(constantPool.methodRef(internalName(targetType), CONSTRUCTOR_NAME,
+            MethodType.methodType(void.class, parameterTypes).toMethodDescriptorString(), false));
+        code.u1(RETURN);
+
+        writeMethodInfo(out, ACC_PUBLIC, CONSTRUCTOR_NAME, "()V", code, 1 + slotSize(parameterTypes), 1);
+    }
+
+    private void writeMethod(final Output out, final Method method, final int index, final boolean advised) {
+        final var descriptor = MethodType.methodType(method.getReturnType(), method.getParameterTypes()).toMethodDescriptorString();
+        final var code = new Output();
+        final int maxLocals = 1 + slotSize(method.getParameterTypes());
+        final int maxStack;
+
+        if (advised) {
+            code.u1(GETSTATIC);
+            code.u2(constantPool.fieldRef(className, CHAINS_FIELD, CHAIN_ARRAY_DESCRIPTOR));
+            pushInt(code, index);
+            code.u1(AALOAD);
+            code.u1(ALOAD_0);
+            pushInt(code, method.getParameterCount());
+            code.u1(ANEWARRAY);
+            code.u2(constantPool.classRef(OBJECT));
+            int slot = 1;
+            final Class<?>[] parameterTypes = method.getParameterTypes();
+            for (int i = 0; i < parameterTypes.length; i++) {
+                code.u1(DUP);
+                pushInt(code, i);
+                load(code, parameterTypes[i], slot);
+                box(code, parameterTypes[i]);
+                code.u1(AASTORE);
+                slot += slotSize(parameterTypes[i]);
+            }
+            code.u1(INVOKEVIRTUAL);
+            code.u2(constantPool.methodRef(CHAIN, "invoke", CHAIN_INVOKE_DESCRIPTOR, false));
+            unboxAndReturn(code, method.getReturnType());
+            maxStack = 7;
+        } else {
+            code.u1(GETSTATIC);
+            code.u2(constantPool.fieldRef(className, TARGET_FIELD, targetType.descriptorString()));
+            int slot = 1;
+            for (Class<?> parameterType : method.getParameterTypes()) {
+                load(code, parameterType, slot);
+                slot += slotSize(parameterType);
+            }
+            code.u1(INVOKEVIRTUAL);
+            code.u2(constantPool.methodRef(internalName(targetType), method.getName(), descriptor, false));
+            code.u1(returnOpcode(method.getReturnType()));
+            maxStack = Math.max(maxLocals, 2);
+        }
+
+        final int access = ACC_PUBLIC | (method.isVarArgs() ? ACC_VARARGS : 0);
+        writeMethodInfo(out, access, method.getName(), descriptor, code, maxStack, maxLocals);
+    }
+
+    private void writeMethodInfo(final Output out, final int access, final String name, final String descriptor,
+                                 final Output code, final int maxStack, final int maxLocals) {
+        final var bytecode = code.toByteArray();
+        out.u2(access);
+        out.u2(constantPool.utf8(name));
+        out.u2(constantPool.utf8(descriptor));
+        out.u2(1);
+        out.u2(constantPool.utf8("Code"));
+        out.u4(12 + bytecode.length);
+        out.u2(maxStack);
+        out.u2(maxLocals);
+        out.u4(bytecode.length);
+        out.bytes(bytecode);
+        out.u2(0);
+        out.u2(0);
+    }
+
+    private void pushInt(final Output code, final int value) {
+        code.u1(SIPUSH);
+        code.u2(value);
+    }
+
+    private void pushDefault(final Output code, final Class<?> type) {
+        if (type == long.class) {
+            code.u1(LCONST_0);
+        } else if (type == float.class) {
+            code.u1(FCONST_0);
+        } else if (type == double.class) {
+            code.u1(DCONST_0);
+        } else if (type.isPrimitive()) {
+            code.u1(ICONST_0);
+        } else {
+            code.u1(ACONST_NULL);
+        }
+    }
+
+    private void load(final Output code, final Class<?> type, final int slot) {
+        if (slot > 0xff) {
+            throw new IllegalArgumentException("Too many parameters to proxy");
+        }
+        if (type == long.class) {
+            code.u1(LLOAD);
+        } else if (type == float.class) {
+            code.u1(FLOAD);
+        } else if (type == double.class) {
+            code.u1(DLOAD);
+        } else if (type.isPrimitive()) {
+            code.u1(ILOAD);
+        } else {
+            code.u1(ALOAD);
+        }
+        code.u1(slot);
+    }
+
+    private void box(final Output code, final Class<?> type) {
+        if (!type.isPrimitive()) {
+            return;
+        }
+        final var wrapper = MethodType.methodType(type).wrap().returnType();
+        code.u1(INVOKESTATIC);
+        code.u2(constantPool.methodRef(internalName(wrapper), "valueOf",
+            "(" + type.descriptorString() + ")" + wrapper.descriptorString(), false));
+    }
+
+    private void unboxAndReturn(final Output code, final Class<?> returnType) {
+        if (returnType == void.class) {
+            code.u1(POP);
+        } else if (returnType.isPrimitive()) {
+            final var wrapper = MethodType.methodType(returnType).wrap().returnType();
+            code.u1(CHECKCAST);
+            code.u2(constantPool.classRef(internalName(wrapper)));
+            code.u1(INVOKEVIRTUAL);
+            code.u2(constantPool.methodRef(internalName(wrapper), returnType.getName() + "Value",
+                "()" + returnType.descriptorString(), false));
+        } else if (returnType != Object.class) {
+            code.u1(CHECKCAST);
+            code.u2(constantPool.classRef(internalName(returnType)));
+        }
+        code.u1(returnOpcode(returnType));
+    }
+
+    private int returnOpcode(final Class<?> type) {
+        if (type == void.class) {
+            return RETURN;
+        } else if (type == long.class) {
+            return LRETURN;
+        } else if (type == float.class) {
+            return FRETURN;
+        } else if (type == double.class) {
+            return DRETURN;
+        } else if (type.isPrimitive()) {
+            return IRETURN;
+        }
+        return ARETURN;
+    }
+
+    private static int slotSize(final Class<?>... types) {
+        int size = 0;
+        for (Class<?> type : types) {
+            size += (type == long.class || type == double.class) ? 2 : 1;
+        }
+        return size;
+    }
+
+    private static String internalName(final Class<?> clazz) {
+        if (clazz.isArray()) {
+            return clazz.descriptorString();
+        }
+        return clazz.getName().replace('.', '/');
+    }
+
+    private static final class ConstantPool {
+
+        private static final int CONSTANT_UTF8 = 1;
+        private static final int CONSTANT_CLASS = 7;
+        private static final int CONSTANT_STRING = 8;
+        private static final int CONSTANT_FIELDREF = 9;
+        private static final int CONSTANT_METHODREF = 10;
+        private static final int CONSTANT_INTERFACE_METHODREF = 11;
+        private static final int CONSTANT_NAME_AND_TYPE = 12;
+
+        private final Output out = new Output();
+        private final Map<String, Integer> indexes = new HashMap<>();
+        private int nextIndex = 1;
+
+        int utf8(final String value) {
+            final var key = "U:" + value;
+            final var index = indexes.get(key);
+            if (index != null) {
+                return index;
+            }
+            out.u1(CONSTANT_UTF8);
+            out.utf(value);
+            return register(key);
+        }
+
+        int classRef(final String internalName) {
+            return reference(CONSTANT_CLASS, internalName, utf8(internalName));
+        }
+
+        int string(final String value) {
+            return reference(CONSTANT_STRING, value, utf8(value));
+        }
+
+        int fieldRef(final String owner, final String name, final String descriptor) {
+            return memberRef(CONSTANT_FIELDREF, owner, name, descriptor);
+        }
+
+        int methodRef(final String owner, final String name, final String descriptor, final boolean isInterface) {
+            return memberRef(isInterface ? CONSTANT_INTERFACE_METHODREF : CONSTANT_METHODREF, owner, name, descriptor);
+        }
+
+        private int memberRef(final int tag, final String owner, final String name, final String descriptor) {
+            final var key = tag + ":" + owner + "." + name + descriptor;
+            final var index = indexes.get(key);
+            if (index != null) {
+                return index;
+            }
+            final int classIndex = classRef(owner);
+            final int nameAndTypeIndex = nameAndType(name, descriptor);
+            out.u1(tag);
+            out.u2(classIndex);
+            out.u2(nameAndTypeIndex);
+            return register(key);
+        }
+
+        private int nameAndType(final String name, final String descriptor) {
+            final var key = "N:" + name + ":" + descriptor;
+            final var index = indexes.get(key);
+            if (index != null) {
+                return index;
+            }
+            final int nameIndex = utf8(name);
+            final int descriptorIndex = utf8(descriptor);
+            out.u1(CONSTANT_NAME_AND_TYPE);
+            out.u2(nameIndex);
+            out.u2(descriptorIndex);
+            return register(key);
+        }
+
+        private int reference(final int tag, final String value, final int utf8Index) {
+            final var key = tag + ":" + value;
+            final var index = indexes.get(key);
+            if (index != null) {
+                return index;
+            }
+            out.u1(tag);
+            out.u2(utf8Index);
+            return register(key);
+        }
+
+        private int register(final String key) {
+            final int index = nextIndex++;
+            indexes.put(key, index);
+            return index;
+        }
+
+        int size() {
+            return nextIndex;
+        }
+
+        byte[] toByteArray() {
+            return out.toByteArray();
+        }
+    }
+
+    private static final class Output {
+
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private final DataOutputStream out = new DataOutputStream(bytes);
+
+        void u1(final int value) {
+            write(() -> out.writeByte(value));
+        }
+
+        void u2(final int value) {
+            write(() -> out.writeShort(value));
+        }
+
+        void u4(final int value) {
+            write(() -> out.writeInt(value));
+        }
+
+        void utf(final String value) {
+            write(() -> out.writeUTF(value));
+        }
+
+        void bytes(final byte[] value) {
+            write(() -> out.write(value));
+        }
+
+        byte[] toByteArray() {
+            return bytes.toByteArray();
+        }
+
+        private void write(final IOAction action) {
+            try {
+                action.run();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    @FunctionalInterface
+    private interface IOAction {
+        void run() throws IOException;
+    }
+}
@@ -0,0 +1,211 @@
+package com.interface21.aop.framework;
+
+import com.interface21.aop.Advisor;
+import com.interface21.aop.MethodInterceptor;
+import com.interface21.beans.BeanInstantiationException;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 대상 객체를 감싸는 프록시를 hidden class 로 생성한다.
+ * <p>
+ * 프록시는 대상 클래스를 상속하고, 상위 생성자 중 인자가 가장 적은 것을 기본값 인자로 호출해 만든다.
+ * 프록시 자신의 필드는 쓰지 않도록 private 이 아닌 인스턴스 메서드는 모두 대상 객체로 위임한다.
+ * 메서드마다 적용할 인터셉터는 프록시를 만들 때 한 번만 계산하고, 인터셉터가 없는 메서드는 대상 객체를 바로 호출한다.
+ * 인터셉터는 public 메서드에만 적용한다.
+ * <p>
+ * final 클래스, 그리고 final 메서드나 다른 패키지의 protected·package-private 메서드처럼 위임할 수 없는 메서드가 있는 클래스는
+ * 프록시하지 않고 {@link BeanInstantiationException} 을 던진다.
+ * <p>
+ * 프록시는 대상 클래스의 패키지에 정의하므로 그 패키지에 대한 전체 권한의 {@link MethodHandles.Lookup} 이 필요하다.
+ * 대상 클래스가 프레임워크와 다른 모듈(예: 웹 애플리케이션 클래스 로더의 이름 없는 모듈)에 있으면
+ * 그 모듈에서 만든 Lookup 을 {@link #addLookup(MethodHandles.Lookup)} 로 넘겨야 한다.
+ */
+public class ProxyFactory {
+
+    private static final String PROXY_CLASS_SUFFIX = "$$Proxy";
+
+    private static final MethodInterceptor[] NO_INTERCEPTORS = new MethodInterceptor[0];
+
+    private final Object target;
+    private final Class<?> targetClass;
+    private final List<Advisor> advisors = new ArrayList<>();
+    private final List<MethodHandles.Lookup> lookups = new ArrayList<>();
+
+    public ProxyFactory(final Object target) {
+        this.target = target;
+        this.targetClass = target.getClass();
+    }
+
+    public ProxyFactory addAdvisor(final Advisor advisor) {
+        advisors.add(advisor);
+        return this;
+    }
+
+    /**
+     * 프레임워크 모듈 밖의 클래스를 프록시할 때 사용할 Lookup. 대상 클래스와 같은 모듈에서 {@code MethodHandles.lookup()} 으로 만든다.
+     */
+    public ProxyFactory addLookup(final MethodHandles.Lookup lookup) {
+        lookups.add(lookup);
+        return this;
+    }
+
+    /**
+     * 적용할 인터셉터가 하나도 없으면 대상 객체를 그대로 반환한다.
+     */
+    public Object getProxy() {
+        final List<Method> undelegated = new ArrayList<>();
+        final List<Method> methods = getProxiedMethods(undelegated);
+        final InterceptorChain[] chains = new InterceptorChain[methods.size()];
+        final boolean[] advised = new boolean[methods.size()];
+        boolean hasInterceptors = false;
+
+        for (int i = 0; i < methods.size(); i++) {
+            final var interceptors = getInterceptors(methods.get(i));
+            if (interceptors.length > 0) {
+                chains[i] = new InterceptorChain(methods.get(i), target, interceptors);
+                advised[i] = true;
+                hasInterceptors = true;
+            }
+        }
+        if (!hasInterceptors) {
+            return target;
+        }
+        if (Modifier.isFinal(targetClass.getModifiers())) {
+            throw new BeanInstantiationException(targetClass, "Cannot proxy a final class");
+        }
+        if (!undelegated.isEmpty()) {
+            throw new BeanInstantiationException(targetClass, "Cannot delegate final or inaccessible methods to the target: "
+                + undelegated.stream().map(Method::getName).toList());
+        }
+        return createProxy(methods, chains, advised);
+    }
+
+    private MethodInterceptor[] getInterceptors(final Method method) {
+        if (!Modifier.isPublic(method.getModifiers())) {
+            return NO_INTERCEPTORS;
+        }
+        final List<MethodInterceptor> interceptors = new ArrayList<>();
+        for (Advisor advisor : advisors) {
+            if (advisor.matches(method, targetClass)) {
+                interceptors.add(advisor.getInterceptor(method, targetClass));
+            }
+        }
+        return interceptors.toArray(MethodInterceptor[]::new);
+    }
+
+    /**
+     * 재정의할 메서드를 모은다. 재정의할 수 없거나 프록시에서 대상 객체를 호출할 수 없는 메서드는 {@code undelegated} 에 담는다.
+     */
+    private List<Method> getProxiedMethods(final List<Method> undelegated) {
+        final Map<String, Method> methods = new LinkedHashMap<>();
+        final Set<String> signatures = new HashSet<>();
+        for (Method method : targetClass.getMethods()) {
+            addProxiedMethod(method, methods, signatures, undelegated);
+        }
+        for (Class<?> type = targetClass; type != null && type != Object.class; type = type.getSuperclass()) {
+            for (Method method : type.getDeclaredMethods()) {
+                addProxiedMethod(method, methods, signatures, undelegated);
+            }
+        }
+        return new ArrayList<>(methods.values());
+    }
+
+    private void addProxiedMethod(final Method method, final Map<String, Method> methods, final Set<String> signatures,
+                                  final List<Method> undelegated) {
+        final int modifiers = method.getModifiers();
+        if (Modifier.isStatic(modifiers) || Modifier.isPrivate(modifiers) || method.isBridge()) {
+            return;
+        }
+        final var signature = method.getName() + Arrays.toString(method.getParameterTypes());
+        if (!signatures.add(signature)) {
+            return;
+        }
+        if (Modifier.isFinal(modifiers) || !isDelegable(method)) {
+            if (method.getDeclaringClass() != Object.class) {
+                undelegated.add(method);
+            }
+            return;
+        }
+        methods.put(signature, method);
+    }
+
+    /**
+     * public 이 아닌 메서드는 같은 런타임 패키지에 선언된 것만 프록시에서 재정의하고 대상 객체를 호출할 수 있다.
+     */
+    private boolean isDelegable(final Method method) {
+        final var declaringClass = method.getDeclaringClass();
+        return Modifier.isPublic(method.getModifiers())
+            || (declaringClass.getClassLoader() == targetClass.getClassLoader()
+            && declaringClass.getPackageName().equals(targetClass.getPackageName()));
+    }
+
+    private Object createProxy(final List<Method> methods, final InterceptorChain[] chains, final boolean[] advised) {
+        final var superConstructor = getSuperConstructor();
+        final var className = targetClass.getName().replace('.', '/') + PROXY_CLASS_SUFFIX;
+        final var bytecode = new ProxyClassGenerator(className, targetClass, superConstructor).generate(methods, advised);
+
+        final MethodHandle constructor;
+        try {
+            final var proxyLookup = lookupFor(targetClass)
+                .defineHiddenClassWithClassData(bytecode, new Object[]{target, chains}, true);
+            constructor = proxyLookup.findConstructor(proxyLookup.lookupClass(), MethodType.methodType(void.class));
+        } catch (IllegalAccessException | NoSuchMethodException e) {
+            throw new BeanInstantiationException(targetClass, "Could not generate proxy class", e);
+        }
+        try {
+            return constructor.invoke();
+        } catch (Throwable e) {
+            throw new BeanInstantiationException(superConstructor, "Superclass constructor threw exception", e);
+        }
+    }
+
+    /**
+     * 프록시의 상태는 쓰이지 않으므로 인자가 가장 적은 생성자를 골라 기본값 인자로 호출한다.
+     */
+    private Constructor<?> getSuperConstructor() {
+        Constructor<?> superConstructor = null;
+        for (Constructor<?> constructor : targetClass.getDeclaredConstructors()) {
+            if (Modifier.isPrivate(constructor.getModifiers())) {
+                continue;
+            }
+            if (superConstructor == null || constructor.getParameterCount() < superConstructor.getParameterCount()) {
+                superConstructor = constructor;
+            }
+        }
+        if (superConstructor == null) {
+            throw new BeanInstantiationException(targetClass, "Cannot proxy a class without a non-private constructor");
+        }
+        return superConstructor;
+    }
+
+    /**
+     * hidden class 를 정의하려면 대상 클래스에 대한 전체 권한이 필요하다. 다른 모듈의 클래스에 {@code privateLookupIn} 을 쓰면
+     * MODULE 권한이 빠지므로, 대상 클래스와 같은 모듈에서 만든 Lookup 이 있으면 그것으로 다시 얻는다.
+     */
+    private MethodHandles.Lookup lookupFor(final Class<?> targetClass) throws IllegalAccessException {
+        final var lookup = MethodHandles.privateLookupIn(targetClass, MethodHandles.lookup());
+        if (lookup.hasFullPrivilegeAccess()) {
+            return lookup;
+        }
+        for (MethodHandles.Lookup candidate : lookups) {
+            if (candidate.lookupClass().getModule() == targetClass.getModule() && candidate.hasFullPrivilegeAccess()) {
+                return MethodHandles.privateLookupIn(targetClass, candidate);
+            }
+        }
+        throw new BeanInstantiationException(targetClass, "Cannot define a proxy class in " + targetClass.getModule()
+            + " from " + ProxyFactory.class.getModule() + "; register a MethodHandles.Lookup created in that module");
+    }
+}
@@ -0,0 +1,47 @@
+package com.interface21.aop.framework;
+
+import com.interface21.aop.MethodInvocation;
+
+import java.lang.reflect.Method;
+
+class ProxyMethodInvocation implements MethodInvocation {
+
+    private final InterceptorChain chain;
+    private final Object proxy;
+    private final Object[] arguments;
+    private int currentInterceptorIndex;
+
+    ProxyMethodInvocation(final InterceptorChain chain, final Object proxy, final Object[] arguments) {
+        this.chain = chain;
+        this.proxy = proxy;
+        this.arguments = arguments;
+    }
+
+    @Override
+    public Method getMethod() {
+        return chain.getMethod();
+    }
+
+    @Override
+    public Object[] getArguments() {
+        return arguments;
+    }
+
+    @Override
+    public Object getThis() {
+        return chain.getTarget();
+    }
+
+    public Object getProxy() {
+        return proxy;
+    }
+
+    @Override
+    public Object proceed() throws Throwable {
+        final var interceptors = chain.getInterceptors();
+        if (currentInterceptorIndex == interceptors.length) {
+            return chain.invokeTarget(arguments);
+        }
+        return interceptors[currentInterceptorIndex++].invoke(this);
+    }
+}
@@ -0,0 +1,10 @@
+package com.interface21.beans.factory.config;
+
+/**
+ * 컨테이너가 빈을 생성하고 의존성을 주입한 직후 호출되는 확장 지점.
+ * 반환한 객체가 원래 빈 대신 컨테이너에 등록되므로 프록시로 감쌀 때 사용한다.
+ */
+public interface BeanPostProcessor {
+
+    Object postProcessAfterInitialization(Object bean, Class<?> beanClass);
+}
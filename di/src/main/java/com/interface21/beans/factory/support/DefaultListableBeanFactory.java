@@ -1,36 +1,209 @@
 package com.interface21.beans.factory.support;
 
+import com.interface21.beans.BeanInstantiationException;
+import com.interface21.beans.BeanUtils;
 import com.interface21.beans.factory.BeanFactory;
 import com.interface21.beans.factory.config.BeanDefinition;
+import com.interface21.beans.factory.config.BeanPostProcessor;
+import com.interface21.core.util.ReflectionUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.HashMap;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
-public class DefaultListableBeanFactory implements BeanFactory {
+public class DefaultListableBeanFactory implements BeanFactory, BeanDefinitionRegistry {
 
     private static final Logger log = LoggerFactory.getLogger(DefaultListableBeanFactory.class);
 
-    private final Map<String, BeanDefinition> beanDefinitionMap = new HashMap<>();
+    private final Map<String, BeanDefinition> beanDefinitionMap = new LinkedHashMap<>();
 
-    private final Map<Class<?>, Object> singletonObjects = new HashMap<>();
+    private final Map<Class<?>, Object> singletonObjects = new LinkedHashMap<>();
+
+    private final Set<Class<?>> singletonsCurrentlyInCreation = new HashSet<>();
+
+    private final List<BeanPostProcessor> beanPostProcessors = new ArrayList<>();
+
+    @Override
+    public void registerBeanDefinition(final Class<?> clazz, final BeanDefinition beanDefinition) {
+        log.debug("register bean definition : {}", clazz.getName());
+        beanDefinitionMap.put(clazz.getName(), beanDefinition);
+    }
+
+    public void registerSingleton(final Class<?> clazz, final Object singleton) {
+        registerBeanDefinition(clazz, new GenericBeanDefinition(clazz));
+        singletonObjects.put(clazz, singleton);
+    }
+
+    public void addBeanPostProcessor(final BeanPostProcessor beanPostProcessor) {
+        beanPostProcessors.add(beanPostProcessor);
+    }
 
     @Override
     public Set<Class<?>> getBeanClasses() {
-        return Set.of();
+        final Set<Class<?>> beanClasses = new LinkedHashSet<>();
+        for (BeanDefinition beanDefinition : beanDefinitionMap.values()) {
+            beanClasses.add(beanDefinition.getType());
+        }
+        return beanClasses;
     }
 
     @Override
     public <T> T getBean(final Class<T> clazz) {
-        return null;
+        final var beanDefinition = findBeanDefinition(clazz);
+        if (beanDefinition == null) {
+            return null;
+        }
+        return clazz.cast(getOrCreateBean(beanDefinition));
+    }
+
+    public <T> List<T> getBeansOfType(final Class<T> clazz) {
+        final List<T> beans = new ArrayList<>();
+        for (BeanDefinition beanDefinition : List.copyOf(beanDefinitionMap.values())) {
+            if (clazz.isAssignableFrom(beanDefinition.getType())) {
+                beans.add(clazz.cast(getOrCreateBean(beanDefinition)));
+            }
+        }
+        return beans;
     }
 
     public void initialize() {
+        for (BeanDefinition beanDefinition : List.copyOf(beanDefinitionMap.values())) {
+            getOrCreateBean(beanDefinition);
+        }
+        log.info("Initialized BeanFactory! beans : {}", singletonObjects.size());
     }
 
     @Override
     public void clear() {
+        singletonObjects.clear();
+        beanDefinitionMap.clear();
+        beanPostProcessors.clear();
+    }
+
+    private BeanDefinition findBeanDefinition(final Class<?> clazz) {
+        final var beanDefinition = beanDefinitionMap.get(clazz.getName());
+        if (beanDefinition != null) {
+            return beanDefinition;
+        }
+        for (BeanDefinition candidate : beanDefinitionMap.values()) {
+            if (clazz.isAssignableFrom(candidate.getType())) {
+                return candidate;
+            }
+        }
+        return null;
+    }
+
+    private Object getOrCreateBean(final BeanDefinition beanDefinition) {
+        final var beanClass = beanDefinition.getType();
+        final var singleton = singletonObjects.get(beanClass);
+        if (singleton != null) {
+            return singleton;
+        }
+
+        if (!singletonsCurrentlyInCreation.add(beanClass)) {
+            throw new BeanInstantiationException(beanClass, "Circular reference detected");
+        }
+        try {
+            var bean = createBean(beanDefinition);
+            for (BeanPostProcessor beanPostProcessor : beanPostProcessors) {
+                bean = beanPostProcessor.postProcessAfterInitialization(bean, beanClass);
+            }
+            singletonObjects.put(beanClass, bean);
+            return bean;
+        } finally {
+            singletonsCurrentlyInCreation.remove(beanClass);
+        }
+    }
+
+    private Object createBean(final BeanDefinition beanDefinition) {
+        if (beanDefinition instanceof final FactoryMethodBeanDefinition factoryMethodBeanDefinition) {
+            return invokeFactoryMethod(factoryMethodBeanDefinition);
+        }
+
+        final var beanClass = beanDefinition.getType();
+        final var constructor = findConstructor(beanClass);
+        final var bean = BeanUtils.instantiateClass(constructor, resolveArguments(constructor.getParameterTypes()));
+        injectFields(bean, beanClass);
+        injectMethods(bean, beanClass);
+        return bean;
+    }
+
+    private Object invokeFactoryMethod(final FactoryMethodBeanDefinition beanDefinition) {
+        final var configuration = getBean(beanDefinition.getConfigurationClass());
+        final var factoryMethod = beanDefinition.getFactoryMethod();
+        try {
+            return factoryMethod.invoke(configuration, resolveArguments(factoryMethod.getParameterTypes()));
+        } catch (IllegalAccessException e) {
+            throw new BeanInstantiationException(factoryMethod, "Is the factory method accessible?", e);
+        } catch (InvocationTargetException e) {
+            throw new BeanInstantiationException(factoryMethod, "Factory method threw exception", e.getTargetException());
+        }
+    }
+
+    private Constructor<?> findConstructor(final Class<?> beanClass) {
+        final var injectedConstructor = BeanFactoryUtils.getInjectedConstructor(beanClass);
+        if (injectedConstructor != null) {
+            return injectedConstructor;
+        }
+
+        final var constructors = beanClass.getDeclaredConstructors();
+        if (constructors.length == 1) {
+            return constructors[0];
+        }
+        try {
+            return ReflectionUtils.accessibleConstructor(beanClass);
+        } catch (NoSuchMethodException e) {
+            throw new BeanInstantiationException(beanClass, "No default constructor found", e);
+        }
+    }
+
+    private Object[] resolveArguments(final Class<?>[] parameterTypes) {
+        final Object[] args = new Object[parameterTypes.length];
+        for (int i = 0; i < parameterTypes.length; i++) {
+            args[i] = resolveDependency(parameterTypes[i]);
+        }
+        return args;
+    }
+
+    private Object resolveDependency(final Class<?> dependencyType) {
+        final var bean = getBean(dependencyType);
+        if (bean == null) {
+            throw new BeanInstantiationException(dependencyType, "No qualifying bean of type found");
+        }
+        return bean;
+    }
+
+    private void injectFields(final Object bean, final Class<?> beanClass) {
+        for (Field field : BeanFactoryUtils.getInjectedFields(beanClass)) {
+            try {
+                field.setAccessible(true);
+                field.set(bean, resolveDependency(field.getType()));
+            } catch (IllegalAccessException e) {
+                throw new BeanInstantiationException(beanClass, "Could not autowire field: " + field.getName(), e);
+            }
+        }
+    }
+
+    private void injectMethods(final Object bean, final Class<?> beanClass) {
+        for (Method method : BeanFactoryUtils.getInjectedMethods(beanClass)) {
+            try {
+                method.setAccessible(true);
+                method.invoke(bean, resolveArguments(method.getParameterTypes()));
+            } catch (IllegalAccessException e) {
+                throw new BeanInstantiationException(beanClass, "Could not autowire method: " + method.getName(), e);
+            } catch (InvocationTargetException e) {
+                throw new BeanInstantiationException(beanClass, "Autowired method threw exception: " + method.getName(), e.getTargetException());
+            }
+        }
     }
 }
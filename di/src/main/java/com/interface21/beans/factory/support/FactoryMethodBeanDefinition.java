@@ -0,0 +1,37 @@
+package com.interface21.beans.factory.support;
+
+import com.interface21.beans.factory.config.BeanDefinition;
+
+import java.lang.reflect.Method;
+
+/**
+ * {@code @Bean} 메서드로 생성되는 빈의 정의. 빈 타입은 팩토리 메서드의 반환 타입이다.
+ */
+public class FactoryMethodBeanDefinition implements BeanDefinition {
+
+    private final Class<?> configurationClass;
+    private final Method factoryMethod;
+
+    public FactoryMethodBeanDefinition(final Class<?> configurationClass, final Method factoryMethod) {
+        this.configurationClass = configurationClass;
+        this.factoryMethod = factoryMethod;
+    }
+
+    public Class<?> getConfigurationClass() {
+        return configurationClass;
+    }
+
+    public Method getFactoryMethod() {
+        return factoryMethod;
+    }
+
+    @Override
+    public Class<?> getType() {
+        return factoryMethod.getReturnType();
+    }
+
+    @Override
+    public String getBeanClassName() {
+        return factoryMethod.getReturnType().getName();
+    }
+}
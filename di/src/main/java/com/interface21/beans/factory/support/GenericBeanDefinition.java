@@ -0,0 +1,22 @@
+package com.interface21.beans.factory.support;
+
+import com.interface21.beans.factory.config.BeanDefinition;
+
+public class GenericBeanDefinition implements BeanDefinition {
+
+    private final Class<?> beanClass;
+
+    public GenericBeanDefinition(final Class<?> beanClass) {
+        this.beanClass = beanClass;
+    }
+
+    @Override
+    public Class<?> getType() {
+        return beanClass;
+    }
+
+    @Override
+    public String getBeanClassName() {
+        return beanClass.getName();
+    }
+}
@@ -0,0 +1,21 @@
+package com.interface21.cache;
+
+/**
+ * 이름으로 구분되는 캐시. {@code null} 값은 저장하지 않으며, {@link #get(Object)} 이 {@code null} 을 반환하면 캐시 미스다.
+ */
+public interface Cache {
+
+    String getName();
+
+    Object get(Object key);
+
+    void put(Object key, Object value);
+
+    void evict(Object key);
+
+    void clear();
+
+    long size();
+
+    CacheStats getStats();
+}
@@ -0,0 +1,13 @@
+package com.interface21.cache;
+
+import java.util.Collection;
+
+public interface CacheManager {
+
+    /**
+     * 이름에 해당하는 캐시를 반환한다. 없으면 기본 설정으로 만든다.
+     */
+    Cache getCache(String name);
+
+    Collection<String> getCacheNames();
+}
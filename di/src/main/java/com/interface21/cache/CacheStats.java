@@ -0,0 +1,16 @@
+package com.interface21.cache;
+
+/**
+ * 캐시 통계의 스냅샷. 만료로 제거된 항목도 eviction 으로 센다.
+ */
+public record CacheStats(long hitCount, long missCount, long evictionCount) {
+
+    public long requestCount() {
+        return hitCount + missCount;
+    }
+
+    public double hitRate() {
+        final long requestCount = requestCount();
+        return requestCount == 0 ? 1.0 : (double) hitCount / requestCount;
+    }
+}
@@ -0,0 +1,22 @@
+package com.interface21.cache.annotation;
+
+import java.lang.annotation.*;
+
+/**
+ * 메서드가 정상적으로 끝나면 인자로 만든 키의 항목을 캐시에서 제거한다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface CacheEvict {
+
+    /**
+     * 캐시 이름
+     */
+    String value();
+
+    /**
+     * true 이면 키와 관계없이 캐시 전체를 비운다.
+     */
+    boolean allEntries() default false;
+}
@@ -0,0 +1,17 @@
+package com.interface21.cache.annotation;
+
+import java.lang.annotation.*;
+
+/**
+ * 메서드 결과를 인자로 만든 키로 캐시한다. {@code null} 결과는 캐시하지 않는다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Cacheable {
+
+    /**
+     * 캐시 이름
+     */
+    String value();
+}
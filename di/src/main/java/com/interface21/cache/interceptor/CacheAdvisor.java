@@ -0,0 +1,36 @@
+package com.interface21.cache.interceptor;
+
+import com.interface21.aop.Advisor;
+import com.interface21.aop.MethodInterceptor;
+import com.interface21.cache.CacheManager;
+import com.interface21.cache.annotation.CacheEvict;
+import com.interface21.cache.annotation.Cacheable;
+
+import java.lang.reflect.Method;
+
+/**
+ * {@link Cacheable}, {@link CacheEvict} 가 선언된 메서드에 캐시 인터셉터를 적용한다.
+ */
+public class CacheAdvisor implements Advisor {
+
+    private final CacheManager cacheManager;
+
+    public CacheAdvisor(final CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    @Override
+    public boolean matches(final Method method, final Class<?> targetClass) {
+        return method.isAnnotationPresent(Cacheable.class) || method.isAnnotationPresent(CacheEvict.class);
+    }
+
+    @Override
+    public MethodInterceptor getInterceptor(final Method method, final Class<?> targetClass) {
+        final var cacheable = method.getAnnotation(Cacheable.class);
+        if (cacheable != null) {
+            return new CacheableInterceptor(cacheManager.getCache(cacheable.value()));
+        }
+        final var cacheEvict = method.getAnnotation(CacheEvict.class);
+        return new CacheEvictInterceptor(cacheManager.getCache(cacheEvict.value()), cacheEvict.allEntries());
+    }
+}
@@ -0,0 +1,27 @@
+package com.interface21.cache.interceptor;
+
+import com.interface21.aop.MethodInterceptor;
+import com.interface21.aop.MethodInvocation;
+import com.interface21.cache.Cache;
+
+public class CacheEvictInterceptor implements MethodInterceptor {
+
+    private final Cache cache;
+    private final boolean allEntries;
+
+    public CacheEvictInterceptor(final Cache cache, final boolean allEntries) {
+        this.cache = cache;
+        this.allEntries = allEntries;
+    }
+
+    @Override
+    public Object invoke(final MethodInvocation invocation) throws Throwable {
+        final var result = invocation.proceed();
+        if (allEntries) {
+            cache.clear();
+        } else {
+            cache.evict(SimpleKey.generate(invocation.getArguments()));
+        }
+        return result;
+    }
+}
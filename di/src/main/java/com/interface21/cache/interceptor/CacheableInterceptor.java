@@ -0,0 +1,29 @@
+package com.interface21.cache.interceptor;
+
+import com.interface21.aop.MethodInterceptor;
+import com.interface21.aop.MethodInvocation;
+import com.interface21.cache.Cache;
+
+public class CacheableInterceptor implements MethodInterceptor {
+
+    private final Cache cache;
+
+    public CacheableInterceptor(final Cache cache) {
+        this.cache = cache;
+    }
+
+    @Override
+    public Object invoke(final MethodInvocation invocation) throws Throwable {
+        final var key = SimpleKey.generate(invocation.getArguments());
+        final var cached = cache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        final var result = invocation.proceed();
+        if (result != null) {
+            cache.put(key, result);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,46 @@
+package com.interface21.cache.interceptor;
+
+import java.util.Arrays;
+
+/**
+ * 인자가 없거나 여러 개인 메서드의 캐시 키.
+ */
+public final class SimpleKey {
+
+    public static final SimpleKey EMPTY = new SimpleKey();
+
+    private final Object[] params;
+    private final int hashCode;
+
+    public SimpleKey(final Object... params) {
+        this.params = params.clone();
+        this.hashCode = Arrays.deepHashCode(this.params);
+    }
+
+    public static Object generate(final Object... params) {
+        if (params.length == 0) {
+            return EMPTY;
+        }
+        if (params.length == 1 && params[0] != null && !params[0].getClass().isArray()) {
+            return params[0];
+        }
+        return new SimpleKey(params);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (!(o instanceof final SimpleKey that)) return false;
+        return Arrays.deepEquals(params, that.params);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+
+    @Override
+    public String toString() {
+        return "SimpleKey " + Arrays.deepToString(params);
+    }
+}
@@ -0,0 +1,337 @@
+package com.interface21.cache.support;
+
+import com.interface21.cache.Cache;
+import com.interface21.cache.CacheStats;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * W-TinyLFU 정책으로 크기를 제한하는 캐시.
+ * <p>
+ * 새 항목은 전체 크기의 1% 인 window LRU 에 먼저 들어간다. window 에서 밀려난 항목은 main 영역(SLRU)의
+ * probation 에 들어가기 위해 probation 의 가장 오래된 항목과 {@link FrequencySketch} 로 추정한 빈도를 비교하고,
+ * 더 자주 쓰인 쪽만 남는다. probation 에서 다시 접근된 항목은 main 의 80% 인 protected 영역으로 승격된다.
+ * <p>
+ * {@code expireAfterWrite} 가 지난 항목은 조회할 때 제거한다.
+ * <p>
+ * 조회는 락을 잡지 않는다. {@link ConcurrentHashMap} 에서 값을 읽고 접근 기록만 read buffer 에 남기며,
+ * 빈도와 LRU 순서는 락을 잡은 스레드가 버퍼를 비울 때 반영한다. 버퍼가 가득 차면 오래된 기록을 덮어쓰므로
+ * 경합이 심할 때 일부 접근은 정책에 반영되지 않을 수 있다. 쓰기, 제거, 만료 처리는 하나의 락으로 보호된다.
+ */
+public class TinyLfuCache implements Cache {
+
+    private static final int WINDOW_PERCENT = 1;
+    private static final int PROTECTED_PERCENT = 80;
+    private static final int READ_BUFFER_SIZE = 128;
+    private static final int READ_BUFFER_MASK = READ_BUFFER_SIZE - 1;
+    private static final int READ_BUFFER_DRAIN_THRESHOLD = 32;
+
+    private final String name;
+    private final long maximumSize;
+    private final long expireAfterWriteNanos;
+    private final LongSupplier ticker;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<Object, Node> data = new ConcurrentHashMap<>();
+    private final AtomicReferenceArray<Object> readBuffer = new AtomicReferenceArray<>(READ_BUFFER_SIZE);
+    private final AtomicLong readBufferWriteCount = new AtomicLong();
+    private final FrequencySketch sketch;
+    private final AccessOrderDeque window = new AccessOrderDeque();
+    private final AccessOrderDeque probation = new AccessOrderDeque();
+    private final AccessOrderDeque protectedDeque = new AccessOrderDeque();
+    private final long windowMaximum;
+    private final long protectedMaximum;
+
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+
+    public TinyLfuCache(final String name, final long maximumSize, final Duration expireAfterWrite) {
+        this(name, maximumSize, expireAfterWrite, System::nanoTime);
+    }
+
+    TinyLfuCache(final String name, final long maximumSize, final Duration expireAfterWrite, final LongSupplier ticker) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("maximumSize must be positive : " + maximumSize);
+        }
+        this.name = name;
+        this.maximumSize = maximumSize;
+        this.expireAfterWriteNanos = (expireAfterWrite == null || expireAfterWrite.isZero()) ? 0 : expireAfterWrite.toNanos();
+        this.ticker = ticker;
+        this.sketch = new FrequencySketch(maximumSize);
+        this.windowMaximum = Math.max(1, maximumSize * WINDOW_PERCENT / 100);
+        this.protectedMaximum = (maximumSize - windowMaximum) * PROTECTED_PERCENT / 100;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object get(final Object key) {
+        Objects.requireNonNull(key);
+        final var node = data.get(key);
+        if (node == null) {
+            missCount.increment();
+            recordRead(key);
+            return null;
+        }
+        if (isExpired(node)) {
+            removeExpired(node);
+            missCount.increment();
+            return null;
+        }
+        hitCount.increment();
+        recordRead(node);
+        return node.value;
+    }
+
+    @Override
+    public void put(final Object key, final Object value) {
+        Objects.requireNonNull(key);
+        Objects.requireNonNull(value);
+        lock.lock();
+        try {
+            drainReadBuffer();
+            final var node = data.get(key);
+            if (node != null) {
+                node.value = value;
+                node.writeTime = ticker.getAsLong();
+                onAccess(node);
+                return;
+            }
+
+            final var added = new Node(key, value, ticker.getAsLong());
+            data.put(key, added);
+            sketch.increment(key);
+            window.addLast(added);
+            evict();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void evict(final Object key) {
+        lock.lock();
+        try {
+            drainReadBuffer();
+            final var node = data.get(key);
+            if (node != null) {
+                remove(node);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void clear() {
+        lock.lock();
+        try {
+            drainReadBuffer();
+            data.clear();
+            window.clear();
+            probation.clear();
+            protectedDeque.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public long size() {
+        return data.size();
+    }
+
+    @Override
+    public CacheStats getStats() {
+        return new CacheStats(hitCount.sum(), missCount.sum(), evictionCount.sum());
+    }
+
+    /**
+     * 조회한 항목(적중) 또는 키(미적중)를 버퍼에 남긴다. 일정 개수마다 락을 잡을 수 있으면 버퍼를 비운다.
+     */
+    private void recordRead(final Object element) {
+        final long index = readBufferWriteCount.getAndIncrement();
+        readBuffer.lazySet((int) (index & READ_BUFFER_MASK), element);
+        if ((index + 1) % READ_BUFFER_DRAIN_THRESHOLD == 0 && lock.tryLock()) {
+            try {
+                drainReadBuffer();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * 락을 잡은 상태에서 호출한다. 버퍼에 쌓인 순서와 상관없이 빈도를 올리고, 아직 캐시에 있는 항목은 접근 순서를 갱신한다.
+     */
+    private void drainReadBuffer() {
+        for (int i = 0; i < READ_BUFFER_SIZE; i++) {
+            final var element = readBuffer.getAndSet(i, null);
+            if (element == null) {
+                continue;
+            }
+            if (element instanceof final Node node) {
+                sketch.increment(node.key);
+                if (data.get(node.key) == node) {
+                    onAccess(node);
+                }
+            } else {
+                sketch.increment(element);
+            }
+        }
+    }
+
+    private void removeExpired(final Node node) {
+        lock.lock();
+        try {
+            if (data.get(node.key) == node) {
+                remove(node);
+                evictionCount.increment();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean isExpired(final Node node) {
+        return expireAfterWriteNanos > 0 && ticker.getAsLong() - node.writeTime >= expireAfterWriteNanos;
+    }
+
+    private void onAccess(final Node node) {
+        if (node.deque == window) {
+            window.moveToLast(node);
+        } else if (node.deque == probation) {
+            probation.remove(node);
+            protectedDeque.addLast(node);
+            if (protectedDeque.size > protectedMaximum) {
+                final var demoted = protectedDeque.first();
+                protectedDeque.remove(demoted);
+                probation.addLast(demoted);
+            }
+        } else {
+            protectedDeque.moveToLast(node);
+        }
+    }
+
+    private void evict() {
+        while (window.size > windowMaximum) {
+            final var candidate = window.first();
+            window.remove(candidate);
+            probation.addLast(candidate);
+        }
+
+        while (data.size() > maximumSize) {
+            final var victim = selectVictim();
+            remove(victim);
+            evictionCount.increment();
+        }
+    }
+
+    private Node selectVictim() {
+        if (probation.size == 0) {
+            return protectedDeque.size > 0 ? protectedDeque.first() : window.first();
+        }
+
+        final var victim = probation.first();
+        final var candidate = probation.last();
+        if (victim == candidate) {
+            return victim;
+        }
+        if (isExpired(victim)) {
+            return victim;
+        }
+        return sketch.frequency(candidate.key) > sketch.frequency(victim.key) ? victim : candidate;
+    }
+
+    private void remove(final Node node) {
+        data.remove(node.key);
+        node.deque.remove(node);
+    }
+
+    private static final class Node {
+
+        private final Object key;
+        private volatile Object value;
+        private volatile long writeTime;
+
+        private AccessOrderDeque deque;
+        private Node prev;
+        private Node next;
+
+        private Node(final Object key, final Object value, final long writeTime) {
+            this.key = key;
+            this.value = value;
+            this.writeTime = writeTime;
+        }
+    }
+
+    private static final class AccessOrderDeque {
+
+        private Node head;
+        private Node tail;
+        private long size;
+
+        Node first() {
+            return head;
+        }
+
+        Node last() {
+            return tail;
+        }
+
+        void addLast(final Node node) {
+            node.deque = this;
+            node.prev = tail;
+            node.next = null;
+            if (tail == null) {
+                head = node;
+            } else {
+                tail.next = node;
+            }
+            tail = node;
+            size++;
+        }
+
+        void remove(final Node node) {
+            if (node.prev == null) {
+                head = node.next;
+            } else {
+                node.prev.next = node.next;
+            }
+            if (node.next == null) {
+                tail = node.prev;
+            } else {
+                node.next.prev = node.prev;
+            }
+            node.prev = null;
+            node.next = null;
+            node.deque = null;
+            size--;
+        }
+
+        void moveToLast(final Node node) {
+            if (node != tail) {
+                remove(node);
+                addLast(node);
+            }
+        }
+
+        void clear() {
+            head = null;
+            tail = null;
+            size = 0;
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.interface21.cache.support;
+
+import com.interface21.cache.Cache;
+import com.interface21.cache.CacheManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 이름마다 {@link TinyLfuCache} 를 만든다. {@link #registerCache} 로 미리 등록하지 않은 캐시는 기본 설정을 사용한다.
+ */
+public class TinyLfuCacheManager implements CacheManager {
+
+    private static final long DEFAULT_MAXIMUM_SIZE = 10_000;
+    private static final Duration DEFAULT_EXPIRE_AFTER_WRITE = Duration.ofMinutes(10);
+
+    private final ConcurrentMap<String, Cache> caches = new ConcurrentHashMap<>();
+    private final long defaultMaximumSize;
+    private final Duration defaultExpireAfterWrite;
+
+    public TinyLfuCacheManager() {
+        this(DEFAULT_MAXIMUM_SIZE, DEFAULT_EXPIRE_AFTER_WRITE);
+    }
+
+    public TinyLfuCacheManager(final long defaultMaximumSize, final Duration defaultExpireAfterWrite) {
+        this.defaultMaximumSize = defaultMaximumSize;
+        this.defaultExpireAfterWrite = defaultExpireAfterWrite;
+    }
+
+    public TinyLfuCacheManager registerCache(final String name, final long maximumSize, final Duration expireAfterWrite) {
+        caches.put(name, new TinyLfuCache(name, maximumSize, expireAfterWrite));
+        return this;
+    }
+
+    @Override
+    public Cache getCache(final String name) {
+        return caches.computeIfAbsent(name, key -> new TinyLfuCache(key, defaultMaximumSize, defaultExpireAfterWrite));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return Collections.unmodifiableSet(caches.keySet());
+    }
+}
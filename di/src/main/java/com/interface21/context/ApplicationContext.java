@@ -2,8 +2,13 @@ package com.interface21.context;
 
 import java.util.Set;
 
-public interface ApplicationContext {
+public interface ApplicationContext extends ApplicationEventPublisher {
     <T> T getBean(Class<T> clazz);
 
     Set<Class<?>> getBeanClasses();
+
+    /**
+     * 컨텍스트가 만든 executor 를 멈추고 빈을 비운다.
+     */
+    void close();
 }
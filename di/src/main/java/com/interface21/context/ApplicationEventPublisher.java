@@ -0,0 +1,9 @@
+package com.interface21.context;
+
+public interface ApplicationEventPublisher {
+
+    /**
+     * 이벤트 타입에 맞는 모든 {@link com.interface21.context.event.EventListener} 메서드에 이벤트를 전달한다.
+     */
+    void publishEvent(Object event);
+}
@@ -0,0 +1,31 @@
+package com.interface21.context.annotation;
+
+import com.interface21.beans.factory.support.BeanDefinitionReader;
+import com.interface21.beans.factory.support.BeanDefinitionRegistry;
+import com.interface21.beans.factory.support.BeanFactoryUtils;
+import com.interface21.beans.factory.support.FactoryMethodBeanDefinition;
+import com.interface21.beans.factory.support.GenericBeanDefinition;
+
+import java.lang.reflect.Method;
+
+/**
+ * {@code @Configuration} 클래스와 그 안의 {@code @Bean} 메서드를 빈 정의로 등록한다.
+ */
+public class AnnotatedBeanDefinitionReader implements BeanDefinitionReader {
+
+    private final BeanDefinitionRegistry registry;
+
+    public AnnotatedBeanDefinitionReader(final BeanDefinitionRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public void loadBeanDefinitions(final Class<?>... annotatedClasses) {
+        for (Class<?> annotatedClass : annotatedClasses) {
+            registry.registerBeanDefinition(annotatedClass, new GenericBeanDefinition(annotatedClass));
+            for (Method beanMethod : BeanFactoryUtils.getBeanMethods(annotatedClass, Bean.class)) {
+                registry.registerBeanDefinition(beanMethod.getReturnType(), new FactoryMethodBeanDefinition(annotatedClass, beanMethod));
+            }
+        }
+    }
+}
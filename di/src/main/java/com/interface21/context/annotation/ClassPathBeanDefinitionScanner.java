@@ -0,0 +1,63 @@
+package com.interface21.context.annotation;
+
+import com.interface21.beans.factory.support.BeanDefinitionRegistry;
+import com.interface21.beans.factory.support.GenericBeanDefinition;
+import com.interface21.context.stereotype.Component;
+import com.interface21.context.stereotype.Controller;
+import com.interface21.context.stereotype.Repository;
+import com.interface21.context.stereotype.Service;
+import org.reflections.Reflections;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.annotation.Annotation;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+public class ClassPathBeanDefinitionScanner {
+
+    private static final Logger log = LoggerFactory.getLogger(ClassPathBeanDefinitionScanner.class);
+
+    private static final List<Class<? extends Annotation>> STEREOTYPES = List.of(
+        Controller.class,
+        Service.class,
+        Repository.class,
+        Component.class
+    );
+
+    private final BeanDefinitionRegistry registry;
+    private final AnnotatedBeanDefinitionReader reader;
+
+    public ClassPathBeanDefinitionScanner(final BeanDefinitionRegistry registry) {
+        this.registry = registry;
+        this.reader = new AnnotatedBeanDefinitionReader(registry);
+    }
+
+    public void doScan(final Object... basePackages) {
+        if (basePackages.length == 0) {
+            return;
+        }
+        final var reflections = new Reflections(basePackages);
+
+        for (Class<?> beanClass : getTypesAnnotatedWith(reflections, STEREOTYPES)) {
+            registry.registerBeanDefinition(beanClass, new GenericBeanDefinition(beanClass));
+        }
+        for (Class<?> configurationClass : getTypesAnnotatedWith(reflections, List.of(Configuration.class))) {
+            reader.loadBeanDefinitions(configurationClass);
+        }
+        log.info("Scanned bean definitions in {}", List.of(basePackages));
+    }
+
+    private Set<Class<?>> getTypesAnnotatedWith(final Reflections reflections, final List<Class<? extends Annotation>> annotations) {
+        final Set<Class<?>> types = new LinkedHashSet<>();
+        for (Class<? extends Annotation> annotation : annotations) {
+            for (Class<?> type : reflections.getTypesAnnotatedWith(annotation, true)) {
+                if (!type.isAnnotation() && !type.isInterface()) {
+                    types.add(type);
+                }
+            }
+        }
+        return types;
+    }
+}
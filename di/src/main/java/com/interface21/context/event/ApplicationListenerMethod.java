@@ -0,0 +1,53 @@
+package com.interface21.context.event;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.UndeclaredThrowableException;
+
+/**
+ * 빈에 묶은 리스너 메서드. {@code (Object)void} 형태의 MethodHandle 로 호출한다.
+ */
+final class ApplicationListenerMethod {
+
+    private static final MethodType LISTENER_TYPE = MethodType.methodType(void.class, Object.class);
+
+    private final Method method;
+    private final Class<?> eventType;
+    private final MethodHandle handle;
+
+    ApplicationListenerMethod(final Object bean, final Method method) {
+        if (method.getParameterCount() != 1 || method.getParameterTypes()[0].isPrimitive()) {
+            throw new IllegalArgumentException("@EventListener method must have a single event parameter: " + method);
+        }
+        this.method = method;
+        this.eventType = method.getParameterTypes()[0];
+        try {
+            method.setAccessible(true);
+            this.handle = MethodHandles.lookup().unreflect(method)
+                .bindTo(bean)
+                .asType(LISTENER_TYPE);
+        } catch (IllegalAccessException e) {
+            throw new IllegalArgumentException("Could not access @EventListener method: " + method, e);
+        }
+    }
+
+    boolean supports(final Class<?> type) {
+        return eventType.isAssignableFrom(type);
+    }
+
+    void invoke(final Object event) {
+        try {
+            handle.invokeExact(event);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new UndeclaredThrowableException(e);
+        }
+    }
+
+    Method getMethod() {
+        return method;
+    }
+}
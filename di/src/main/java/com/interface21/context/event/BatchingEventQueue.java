@@ -0,0 +1,126 @@
+package com.interface21.context.event;
+
+import com.interface21.scheduling.concurrent.RejectionPolicy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 비동기 리스너 하나의 이벤트 큐.
+ * <p>
+ * 발행하는 쪽은 배열 기반 큐에 이벤트를 넣기만 하고, 처리 중인 작업이 없을 때만 executor 에 drain 작업을 넘긴다.
+ * drain 작업은 한 번에 최대 {@code batchSize} 개씩 꺼내 처리하고 큐가 빌 때까지 반복한다.
+ * 리스너는 항상 drain 작업 하나에서만, 발행한 순서대로 호출된다.
+ * <p>
+ * 큐가 가득 차면 executor 의 {@link RejectionPolicy} 를 따른다. {@code CALLER_RUNS} 는 발행한 스레드가 자리가 날 때까지
+ * 기다리고, {@code DISCARD} 는 이벤트를 버리고 {@link #getDroppedCount()} 를 올리며, {@code ABORT} 는
+ * {@link RejectedExecutionException} 을 던진다. 리스너가 자기 큐에 다시 발행하다 큐가 가득 차면 기다리지 않고 버린다.
+ */
+final class BatchingEventQueue implements Runnable {
+
+    private static final Logger log = LoggerFactory.getLogger(BatchingEventQueue.class);
+
+    private final ApplicationListenerMethod listener;
+    private final Executor executor;
+    private final ArrayBlockingQueue<Object> queue;
+    private final int batchSize;
+    private final RejectionPolicy rejectionPolicy;
+    private final List<Object> batch;
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private final LongAdder droppedCount = new LongAdder();
+    private volatile Thread consumer;
+
+    BatchingEventQueue(final ApplicationListenerMethod listener, final Executor executor,
+                       final int capacity, final int batchSize, final RejectionPolicy rejectionPolicy) {
+        this.listener = listener;
+        this.executor = executor;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.rejectionPolicy = rejectionPolicy;
+        this.batch = new ArrayList<>(batchSize);
+    }
+
+    void enqueue(final Object event) {
+        if (queue.offer(event) || reject(event)) {
+            schedule();
+        }
+    }
+
+    long getDroppedCount() {
+        return droppedCount.sum();
+    }
+
+    /**
+     * @return 이벤트를 큐에 넣었으면 true
+     */
+    private boolean reject(final Object event) {
+        switch (rejectionPolicy) {
+            case ABORT -> throw new RejectedExecutionException("Event queue is full: " + listener.getMethod());
+            case CALLER_RUNS -> {
+                if (Thread.currentThread() != consumer) {
+                    return putUninterruptibly(event);
+                }
+            }
+            case DISCARD -> {
+            }
+        }
+        droppedCount.increment();
+        log.warn("Event queue is full. event dropped: {}", listener.getMethod());
+        return false;
+    }
+
+    private boolean putUninterruptibly(final Object event) {
+        try {
+            queue.put(event);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            droppedCount.increment();
+            log.warn("Interrupted while waiting for event queue. event dropped: {}", listener.getMethod());
+            return false;
+        }
+    }
+
+    @Override
+    public void run() {
+        consumer = Thread.currentThread();
+        try {
+            drain();
+        } finally {
+            consumer = null;
+        }
+    }
+
+    private void drain() {
+        do {
+            while (queue.drainTo(batch, batchSize) > 0) {
+                for (Object event : batch) {
+                    invokeQuietly(event);
+                }
+                batch.clear();
+            }
+            scheduled.set(false);
+        } while (!queue.isEmpty() && scheduled.compareAndSet(false, true));
+    }
+
+    private void schedule() {
+        if (scheduled.compareAndSet(false, true)) {
+            executor.execute(this);
+        }
+    }
+
+    private void invokeQuietly(final Object event) {
+        try {
+            listener.invoke(event);
+        } catch (RuntimeException | Error e) {
+            log.error("Async event listener failed: {}", listener.getMethod(), e);
+        }
+    }
+}
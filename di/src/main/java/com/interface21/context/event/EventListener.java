@@ -0,0 +1,17 @@
+package com.interface21.context.event;
+
+import java.lang.annotation.*;
+
+/**
+ * 인자 하나를 받는 빈 메서드를 이벤트 리스너로 등록한다. 인자 타입과 그 하위 타입의 이벤트를 받는다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface EventListener {
+
+    /**
+     * true 이면 이벤트를 큐에 담아 두고 별도 스레드에서 모아서 처리한다.
+     */
+    boolean async() default false;
+}
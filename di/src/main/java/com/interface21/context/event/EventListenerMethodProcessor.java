@@ -0,0 +1,29 @@
+package com.interface21.context.event;
+
+import com.interface21.beans.factory.config.BeanPostProcessor;
+import com.interface21.core.util.ReflectionUtils;
+
+import java.lang.reflect.Method;
+
+/**
+ * 빈 클래스와 상위 클래스의 {@link EventListener} 메서드를 찾아 멀티캐스터에 등록한다.
+ * 프록시로 감싸기 전에 실행되므로 리스너는 대상 객체를 바로 호출한다.
+ */
+public class EventListenerMethodProcessor implements BeanPostProcessor {
+
+    private final SimpleApplicationEventMulticaster multicaster;
+
+    public EventListenerMethodProcessor(final SimpleApplicationEventMulticaster multicaster) {
+        this.multicaster = multicaster;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(final Object bean, final Class<?> beanClass) {
+        for (Method method : ReflectionUtils.getUniqueDeclaredMethods(beanClass)) {
+            if (method.isAnnotationPresent(EventListener.class)) {
+                multicaster.addListener(bean, method);
+            }
+        }
+        return bean;
+    }
+}
@@ -0,0 +1,99 @@
+package com.interface21.context.event;
+
+import com.interface21.context.ApplicationEventPublisher;
+import com.interface21.scheduling.concurrent.ManagedTaskExecutor;
+import com.interface21.scheduling.concurrent.RejectionPolicy;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+
+/**
+ * 이벤트 타입별로 호출할 리스너 배열을 한 번만 계산해서 {@link ClassValue} 에 보관한다.
+ * 이후 같은 타입의 이벤트를 발행할 때는 배열을 순회하며 MethodHandle 을 호출하기만 한다.
+ * 리스너가 추가되면 계산해 둔 배열을 모두 버린다.
+ * <p>
+ * 이벤트를 발행하는 쪽은 락을 잡지 않는다. 리스너 목록은 추가할 때마다 새 배열로 바꾸고,
+ * 배열을 계산할 때는 그 시점의 목록을 읽기만 하므로 가상 스레드가 모니터에 고정(pinning)되지 않는다.
+ */
+public class SimpleApplicationEventMulticaster implements ApplicationEventPublisher {
+
+    private static final int DEFAULT_QUEUE_CAPACITY = 1_024;
+    private static final int DEFAULT_BATCH_SIZE = 64;
+
+    private final Executor asyncExecutor;
+    private volatile Listener[] listeners = new Listener[0];
+    private volatile ClassValue<Listener[]> dispatchTable = newDispatchTable();
+
+    public SimpleApplicationEventMulticaster(final Executor asyncExecutor) {
+        this.asyncExecutor = asyncExecutor;
+    }
+
+    public synchronized void addListener(final Object bean, final Method method) {
+        final var listenerMethod = new ApplicationListenerMethod(bean, method);
+        final var annotation = method.getAnnotation(EventListener.class);
+        final var queue = (annotation != null && annotation.async())
+            ? new BatchingEventQueue(listenerMethod, asyncExecutor, DEFAULT_QUEUE_CAPACITY, DEFAULT_BATCH_SIZE, getRejectionPolicy())
+            : null;
+        final var added = Arrays.copyOf(listeners, listeners.length + 1);
+        added[listeners.length] = new Listener(listenerMethod, queue);
+        listeners = added;
+        dispatchTable = newDispatchTable();
+    }
+
+    @Override
+    public void publishEvent(final Object event) {
+        Objects.requireNonNull(event, "event");
+        for (Listener listener : dispatchTable.get(event.getClass())) {
+            if (listener.queue == null) {
+                listener.method.invoke(event);
+            } else {
+                listener.queue.enqueue(event);
+            }
+        }
+    }
+
+    /**
+     * 비동기 리스너 큐가 가득 차서 버린 이벤트 수.
+     */
+    public long getDroppedEventCount() {
+        long dropped = 0;
+        for (Listener listener : listeners) {
+            if (listener.queue != null) {
+                dropped += listener.queue.getDroppedCount();
+            }
+        }
+        return dropped;
+    }
+
+    /**
+     * 리스너 큐가 가득 찼을 때도 executor 의 거절 정책을 따른다. 정책을 알 수 없는 executor 면 발행한 스레드가 기다린다.
+     */
+    private RejectionPolicy getRejectionPolicy() {
+        if (asyncExecutor instanceof final ManagedTaskExecutor managedTaskExecutor) {
+            return managedTaskExecutor.getRejectionPolicy();
+        }
+        return RejectionPolicy.CALLER_RUNS;
+    }
+
+    private ClassValue<Listener[]> newDispatchTable() {
+        return new ClassValue<>() {
+            @Override
+            protected Listener[] computeValue(final Class<?> eventType) {
+                final List<Listener> matched = new ArrayList<>();
+                for (Listener listener : listeners) {
+                    if (listener.method.supports(eventType)) {
+                        matched.add(listener);
+                    }
+                }
+                return matched.toArray(Listener[]::new);
+            }
+        };
+    }
+
+    private record Listener(ApplicationListenerMethod method, BatchingEventQueue queue) {
+    }
+}
@@ -1,4 +1,9 @@
 package com.interface21.context.stereotype;
 
+import java.lang.annotation.*;
+
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
 public @interface Component {
 }
@@ -1,25 +1,89 @@
 package com.interface21.context.support;
 
+import com.interface21.aop.Advisor;
+import com.interface21.aop.framework.AdvisorAutoProxyCreator;
 import com.interface21.beans.factory.support.DefaultListableBeanFactory;
+import com.interface21.cache.CacheManager;
+import com.interface21.cache.interceptor.CacheAdvisor;
+import com.interface21.cache.support.TinyLfuCacheManager;
 import com.interface21.context.ApplicationContext;
+import com.interface21.context.ApplicationEventPublisher;
+import com.interface21.context.annotation.ClassPathBeanDefinitionScanner;
+import com.interface21.context.event.EventListenerMethodProcessor;
+import com.interface21.context.event.SimpleApplicationEventMulticaster;
+import com.interface21.scheduling.annotation.AsyncAdvisor;
+import com.interface21.scheduling.concurrent.TaskExecutorRegistry;
 
+import java.lang.invoke.MethodHandles;
 import java.util.Set;
+import java.util.function.Supplier;
 
 public class AnnotationConfigWebApplicationContext implements ApplicationContext {
 
+    private static final String EVENT_EXECUTOR_NAME = "event";
+
     private final DefaultListableBeanFactory beanFactory;
 
+    private final TaskExecutorRegistry executorRegistry;
+
+    private final SimpleApplicationEventMulticaster eventMulticaster;
+
     public AnnotationConfigWebApplicationContext(final String... basePackages) {
         this.beanFactory = new DefaultListableBeanFactory();
+        new ClassPathBeanDefinitionScanner(beanFactory).doScan((Object[]) basePackages);
+        this.executorRegistry = getOrRegisterSingleton(TaskExecutorRegistry.class, TaskExecutorRegistry::new);
+        this.eventMulticaster = new SimpleApplicationEventMulticaster(executorRegistry.getExecutor(EVENT_EXECUTOR_NAME));
+        registerEventListeners();
+        registerAdvisors();
+        beanFactory.initialize();
+    }
+
+    private void registerEventListeners() {
+        beanFactory.registerSingleton(ApplicationEventPublisher.class, this);
+        beanFactory.addBeanPostProcessor(new EventListenerMethodProcessor(eventMulticaster));
+    }
+
+    private void registerAdvisors() {
+        final var proxyCreator = new AdvisorAutoProxyCreator();
+        beanFactory.addBeanPostProcessor(proxyCreator);
+        proxyCreator.addAdvisor(new CacheAdvisor(getOrRegisterSingleton(CacheManager.class, TinyLfuCacheManager::new)));
+        proxyCreator.addAdvisor(new AsyncAdvisor(executorRegistry));
+        for (Advisor advisor : beanFactory.getBeansOfType(Advisor.class)) {
+            proxyCreator.addAdvisor(advisor);
+        }
+        for (MethodHandles.Lookup lookup : beanFactory.getBeansOfType(MethodHandles.Lookup.class)) {
+            proxyCreator.addLookup(lookup);
+        }
+    }
+
+    private <T> T getOrRegisterSingleton(final Class<T> clazz, final Supplier<? extends T> defaultSupplier) {
+        final var bean = beanFactory.getBean(clazz);
+        if (bean != null) {
+            return bean;
+        }
+        final T singleton = defaultSupplier.get();
+        beanFactory.registerSingleton(clazz, singleton);
+        return singleton;
+    }
+
+    @Override
+    public void publishEvent(final Object event) {
+        eventMulticaster.publishEvent(event);
     }
 
     @Override
     public <T> T getBean(final Class<T> clazz) {
-        return null;
+        return beanFactory.getBean(clazz);
     }
 
     @Override
     public Set<Class<?>> getBeanClasses() {
-        return Set.of();
+        return beanFactory.getBeanClasses();
+    }
+
+    @Override
+    public void close() {
+        executorRegistry.shutdown();
+        beanFactory.clear();
     }
 }
@@ -2,17 +2,24 @@ package com.interface21.core;
 
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
+import java.lang.reflect.Type;
 
 public class MethodParameter {
 
     private final Method method;
     private final Class<?> type;
+    private final Type genericType;
     private final Annotation[] annotations;
     private final String parameterName;
 
     public MethodParameter(Method method, Class<?> parameterType, Annotation[] parameterAnnotation, String parameterName) {
+        this(method, parameterType, parameterType, parameterAnnotation, parameterName);
+    }
+
+    public MethodParameter(Method method, Class<?> parameterType, Type genericParameterType, Annotation[] parameterAnnotation, String parameterName) {
         this.method = method;
         this.type = parameterType;
+        this.genericType = genericParameterType;
         this.annotations = parameterAnnotation;
         this.parameterName = parameterName;
     }
@@ -25,6 +32,10 @@ public class MethodParameter {
         return type;
     }
 
+    public Type getGenericType() {
+        return genericType;
+    }
+
     public Annotation[] getAnnotations() {
         return annotations;
     }
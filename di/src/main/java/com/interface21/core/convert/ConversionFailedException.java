@@ -0,0 +1,12 @@
+package com.interface21.core.convert;
+
+public class ConversionFailedException extends IllegalArgumentException {
+
+    public ConversionFailedException(final Object value, final Class<?> targetType, final Throwable cause) {
+        super("Failed to convert value [" + value + "] to " + targetType.getTypeName(), cause);
+    }
+
+    public ConversionFailedException(final Class<?> targetType) {
+        super(targetType.getTypeName() + " is not supported");
+    }
+}
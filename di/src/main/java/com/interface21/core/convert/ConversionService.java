@@ -0,0 +1,35 @@
+package com.interface21.core.convert;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Type;
+
+/**
+ * 요청 파라미터처럼 문자열로 들어온 값을 대상 타입으로 변환한다.
+ * 원본이 {@code String[]} 이면 배열과 컬렉션 타입으로 변환할 수 있고, 단일 값 타입에는 첫 번째 값을 사용한다.
+ */
+public interface ConversionService {
+
+    /**
+     * 문자열을 {@code targetType} 으로 변환할 수 있는지 확인한다. 배열은 원소 타입을 확인한다.
+     */
+    boolean canConvert(Class<?> targetType);
+
+    /**
+     * {@code source} 가 null 이면 null 을 반환한다.
+     *
+     * @throws ConversionFailedException 지원하지 않는 타입이거나 변환에 실패한 경우
+     */
+    <T> T convert(Object source, Class<T> targetType);
+
+    /**
+     * {@code genericType} 으로 컬렉션의 원소 타입을 알아낸다. 원소 타입을 알 수 없으면 문자열로 담는다.
+     */
+    Object convert(Object source, Class<?> targetType, Type genericType);
+
+    /**
+     * {@code (String)targetType} 형태의 MethodHandle 을 반환한다. 기본 타입은 박싱 없이 변환한다.
+     *
+     * @throws ConversionFailedException 단일 값으로 변환할 수 없는 타입인 경우
+     */
+    MethodHandle getConverterHandle(Class<?> targetType);
+}
@@ -0,0 +1,10 @@
+package com.interface21.core.convert;
+
+/**
+ * 문자열을 대상 타입으로 변환한다.
+ */
+@FunctionalInterface
+public interface Converter<T> {
+
+    T convert(String source);
+}
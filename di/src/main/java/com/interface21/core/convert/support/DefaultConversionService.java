@@ -0,0 +1,367 @@
+package com.interface21.core.convert.support;
+
+import com.interface21.core.convert.ConversionFailedException;
+import com.interface21.core.convert.ConversionService;
+import com.interface21.core.convert.Converter;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.Period;
+import java.time.Year;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 기본 타입, 래퍼 타입, enum, {@link UUID}, {@code java.time} 타입과 이들의 배열, 컬렉션을 변환한다.
+ * <p>
+ * 대상 타입별 변환기는 처음 요청될 때 한 번만 찾아서 {@link ClassValue} 에 보관한다.
+ * 등록된 변환기가 없으면 enum 인지 확인하고, 그다음 {@code valueOf(String)}, {@code of(String)},
+ * {@code parse(CharSequence)} 정적 메서드나 {@code String} 생성자를 찾는다.
+ * {@link #addConverter} 로 변환기를 추가하면 보관해 둔 변환기를 모두 버린다.
+ */
+public class DefaultConversionService implements ConversionService {
+
+    private static final String[] EMPTY_VALUES = new String[0];
+
+    private static final MethodHandle CONVERT_VALUE;
+    private static final MethodHandle REQUIRE_VALUE;
+    private static final MethodHandle CONVERSION_FAILED;
+    private static final Map<Class<?>, MethodHandle> PRIMITIVE_PARSERS;
+
+    static {
+        final var lookup = MethodHandles.lookup();
+        try {
+            CONVERT_VALUE = lookup.findVirtual(DefaultConversionService.class, "convertValue",
+                MethodType.methodType(Object.class, String.class, Class.class));
+            REQUIRE_VALUE = lookup.findStatic(DefaultConversionService.class, "requireValue",
+                MethodType.methodType(String.class, Class.class, String.class));
+            CONVERSION_FAILED = lookup.findStatic(DefaultConversionService.class, "conversionFailed",
+                MethodType.methodType(Object.class, Class.class, RuntimeException.class, String.class));
+            PRIMITIVE_PARSERS = Map.of(
+                int.class, primitiveParser(lookup, Integer.class, "parseInt", int.class),
+                long.class, primitiveParser(lookup, Long.class, "parseLong", long.class),
+                short.class, primitiveParser(lookup, Short.class, "parseShort", short.class),
+                byte.class, primitiveParser(lookup, Byte.class, "parseByte", byte.class),
+                float.class, primitiveParser(lookup, Float.class, "parseFloat", float.class),
+                double.class, primitiveParser(lookup, Double.class, "parseDouble", double.class),
+                boolean.class, primitiveParser(lookup, DefaultConversionService.class, "parseBoolean", boolean.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final Map<Class<?>, Converter<?>> converters = new ConcurrentHashMap<>();
+    private volatile ClassValue<Converter<?>> resolvedConverters = newConverterCache();
+
+    public DefaultConversionService() {
+        addDefaultConverters();
+    }
+
+    public static DefaultConversionService getSharedInstance() {
+        return SharedInstanceHolder.INSTANCE;
+    }
+
+    public <T> void addConverter(final Class<T> targetType, final Converter<? extends T> converter) {
+        converters.put(targetType, converter);
+        resolvedConverters = newConverterCache();
+    }
+
+    @Override
+    public boolean canConvert(final Class<?> targetType) {
+        if (targetType.isArray()) {
+            return canConvert(targetType.getComponentType());
+        }
+        return Collection.class.isAssignableFrom(targetType) || resolvedConverters.get(targetType) != null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T convert(final Object source, final Class<T> targetType) {
+        return (T) convert(source, targetType, targetType);
+    }
+
+    @Override
+    public Object convert(final Object source, final Class<?> targetType, final Type genericType) {
+        if (source == null) {
+            return null;
+        }
+        if (targetType.isArray()) {
+            return toArray(source, targetType.getComponentType());
+        }
+        if (Collection.class.isAssignableFrom(targetType)) {
+            return toCollection(source, targetType, getElementType(genericType));
+        }
+        if (!targetType.isPrimitive() && targetType.isInstance(source)) {
+            return source;
+        }
+
+        final String value;
+        if (source instanceof final String[] values) {
+            value = values.length == 0 ? null : values[0];
+        } else {
+            value = source.toString();
+        }
+        return value == null ? null : convertValue(value, targetType);
+    }
+
+    /**
+     * 기본 타입은 {@code Integer.parseInt} 같은 파서를 바로 사용한다.
+     * 값이 null 이거나 파싱에 실패하면 다른 변환과 같이 {@link ConversionFailedException} 이 발생한다.
+     */
+    @Override
+    public MethodHandle getConverterHandle(final Class<?> targetType) {
+        final var parser = PRIMITIVE_PARSERS.get(targetType);
+        if (parser != null) {
+            return parser;
+        }
+        if (!canConvert(targetType) || targetType.isArray() || Collection.class.isAssignableFrom(targetType)) {
+            throw new ConversionFailedException(targetType);
+        }
+        return MethodHandles.insertArguments(CONVERT_VALUE.bindTo(this), 1, targetType)
+            .asType(MethodType.methodType(targetType, String.class));
+    }
+
+    private Object convertValue(final String value, final Class<?> targetType) {
+        if (value == null) {
+            return null;
+        }
+        final var converter = resolvedConverters.get(targetType);
+        if (converter == null) {
+            throw new ConversionFailedException(targetType);
+        }
+        try {
+            return converter.convert(value);
+        } catch (ConversionFailedException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            throw new ConversionFailedException(value, targetType, e);
+        }
+    }
+
+    private Object toArray(final Object source, final Class<?> componentType) {
+        final var values = toValues(source);
+        final var array = Array.newInstance(componentType, values.length);
+        for (int i = 0; i < values.length; i++) {
+            Array.set(array, i, convertValue(values[i], componentType));
+        }
+        return array;
+    }
+
+    private Collection<Object> toCollection(final Object source, final Class<?> collectionType, final Class<?> elementType) {
+        final Collection<Object> collection = createCollection(collectionType);
+        for (String value : toValues(source)) {
+            collection.add(convertValue(value, elementType));
+        }
+        return collection;
+    }
+
+    private Collection<Object> createCollection(final Class<?> collectionType) {
+        if (SortedSet.class.isAssignableFrom(collectionType)) {
+            return new TreeSet<>();
+        }
+        if (Set.class.isAssignableFrom(collectionType)) {
+            return new LinkedHashSet<>();
+        }
+        return new ArrayList<>();
+    }
+
+    private String[] toValues(final Object source) {
+        if (source instanceof final String[] values) {
+            return values;
+        }
+        final var value = source.toString().trim();
+        if (value.isEmpty()) {
+            return EMPTY_VALUES;
+        }
+        final var values = value.split(",");
+        for (int i = 0; i < values.length; i++) {
+            values[i] = values[i].trim();
+        }
+        return values;
+    }
+
+    private Class<?> getElementType(final Type genericType) {
+        if (genericType instanceof final ParameterizedType parameterizedType
+            && parameterizedType.getActualTypeArguments()[0] instanceof final Class<?> elementType) {
+            return elementType;
+        }
+        return String.class;
+    }
+
+    /**
+     * {@code (String)primitiveType} 파서. 값이 null 이면 파서를 호출하지 않고, 파서의 예외는 {@link ConversionFailedException} 으로 바꾼다.
+     */
+    private static MethodHandle primitiveParser(final MethodHandles.Lookup lookup, final Class<?> parserType,
+                                                final String name, final Class<?> primitiveType)
+        throws NoSuchMethodException, IllegalAccessException {
+        final var parser = lookup.findStatic(parserType, name, MethodType.methodType(primitiveType, String.class));
+        final var failed = MethodHandles.insertArguments(CONVERSION_FAILED, 0, primitiveType)
+            .asType(MethodType.methodType(primitiveType, RuntimeException.class, String.class));
+        final var guarded = MethodHandles.catchException(parser, RuntimeException.class, failed);
+        return MethodHandles.filterArguments(guarded, 0, MethodHandles.insertArguments(REQUIRE_VALUE, 0, primitiveType));
+    }
+
+    private static String requireValue(final Class<?> targetType, final String value) {
+        if (value == null) {
+            throw new ConversionFailedException(null, targetType, null);
+        }
+        return value;
+    }
+
+    private static Object conversionFailed(final Class<?> targetType, final RuntimeException cause, final String value) {
+        throw new ConversionFailedException(value, targetType, cause);
+    }
+
+    private ClassValue<Converter<?>> newConverterCache() {
+        return new ClassValue<>() {
+            @Override
+            protected Converter<?> computeValue(final Class<?> targetType) {
+                return findConverter(targetType);
+            }
+        };
+    }
+
+    private Converter<?> findConverter(final Class<?> targetType) {
+        final var converter = converters.get(targetType);
+        if (converter != null) {
+            return converter;
+        }
+        if (targetType.isEnum()) {
+            return enumConverter(targetType);
+        }
+        if (targetType.isPrimitive() || targetType.isArray() || targetType.isInterface()) {
+            return null;
+        }
+        return factoryMethodConverter(targetType);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Converter<?> enumConverter(final Class<?> enumType) {
+        return source -> Enum.valueOf((Class) enumType, source.trim());
+    }
+
+    private static Converter<?> factoryMethodConverter(final Class<?> targetType) {
+        final var handle = findFactoryMethod(targetType);
+        if (handle == null) {
+            return null;
+        }
+        final var converter = handle.asType(MethodType.methodType(Object.class, String.class));
+        return source -> {
+            try {
+                return converter.invokeExact(source);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new ConversionFailedException(source, targetType, e);
+            }
+        };
+    }
+
+    private static MethodHandle findFactoryMethod(final Class<?> targetType) {
+        if (!Modifier.isPublic(targetType.getModifiers())) {
+            return null;
+        }
+        final var lookup = MethodHandles.publicLookup();
+        for (String name : new String[]{"valueOf", "of"}) {
+            try {
+                return lookup.findStatic(targetType, name, MethodType.methodType(targetType, String.class));
+            } catch (NoSuchMethodException | IllegalAccessException ignored) {
+            }
+        }
+        try {
+            return lookup.findStatic(targetType, "parse", MethodType.methodType(targetType, CharSequence.class));
+        } catch (NoSuchMethodException | IllegalAccessException ignored) {
+        }
+        try {
+            return lookup.findConstructor(targetType, MethodType.methodType(void.class, String.class));
+        } catch (NoSuchMethodException | IllegalAccessException ignored) {
+        }
+        return null;
+    }
+
+    private void addDefaultConverters() {
+        converters.put(String.class, source -> source);
+        converters.put(CharSequence.class, source -> source);
+        converters.put(Object.class, source -> source);
+
+        addPrimitiveConverter(int.class, Integer.class, Integer::valueOf);
+        addPrimitiveConverter(long.class, Long.class, Long::valueOf);
+        addPrimitiveConverter(short.class, Short.class, Short::valueOf);
+        addPrimitiveConverter(byte.class, Byte.class, Byte::valueOf);
+        addPrimitiveConverter(float.class, Float.class, Float::valueOf);
+        addPrimitiveConverter(double.class, Double.class, Double::valueOf);
+        addPrimitiveConverter(boolean.class, Boolean.class, DefaultConversionService::parseBoolean);
+        addPrimitiveConverter(char.class, Character.class, DefaultConversionService::toCharacter);
+
+        converters.put(BigDecimal.class, BigDecimal::new);
+        converters.put(BigInteger.class, BigInteger::new);
+        converters.put(UUID.class, UUID::fromString);
+        converters.put(Locale.class, Locale::forLanguageTag);
+        converters.put(ZoneId.class, ZoneId::of);
+
+        converters.put(LocalDate.class, LocalDate::parse);
+        converters.put(LocalDateTime.class, LocalDateTime::parse);
+        converters.put(LocalTime.class, LocalTime::parse);
+        converters.put(ZonedDateTime.class, ZonedDateTime::parse);
+        converters.put(OffsetDateTime.class, OffsetDateTime::parse);
+        converters.put(Instant.class, Instant::parse);
+        converters.put(Duration.class, Duration::parse);
+        converters.put(Period.class, Period::parse);
+        converters.put(Year.class, Year::parse);
+        converters.put(YearMonth.class, YearMonth::parse);
+    }
+
+    private <T> void addPrimitiveConverter(final Class<?> primitiveType, final Class<T> wrapperType, final Converter<T> converter) {
+        converters.put(primitiveType, converter);
+        converters.put(wrapperType, converter);
+    }
+
+    /**
+     * {@code Boolean.parseBoolean} 은 true 가 아닌 값을 모두 false 로 바꾸므로, true 와 false 만 대소문자 구분 없이 받는다.
+     */
+    private static boolean parseBoolean(final String source) {
+        if (source.equalsIgnoreCase("true")) {
+            return true;
+        }
+        if (source.equalsIgnoreCase("false")) {
+            return false;
+        }
+        throw new IllegalArgumentException("Can only convert true or false to Boolean");
+    }
+
+    private static Character toCharacter(final String source) {
+        if (source.length() != 1) {
+            throw new IllegalArgumentException("Can only convert a String with length of 1 to Character");
+        }
+        return source.charAt(0);
+    }
+
+    private static final class SharedInstanceHolder {
+
+        private static final DefaultConversionService INSTANCE = new DefaultConversionService();
+    }
+}
@@ -1,5 +1,6 @@
 package com.interface21.core.util;
 
+import com.interface21.core.convert.support.DefaultConversionService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -7,6 +8,11 @@ import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
 public abstract class ReflectionUtils {
 
@@ -72,19 +78,7 @@ public abstract class ReflectionUtils {
     }
 
     public static Object convertStringValue(String value, Class<?> clazz) {
-        if (clazz == String.class) {
-            return clazz.cast(value);
-        } else if (clazz == int.class || clazz == Integer.class) {
-            return Integer.valueOf(value);
-        } else if (clazz == long.class || clazz == Long.class) {
-            return Long.valueOf(value);
-        } else if (clazz == float.class || clazz == Float.class) {
-            return Float.valueOf(value);
-        } else if (clazz == double.class || clazz == Double.class) {
-            return Double.valueOf(value);
-        }
-
-        throw new IllegalArgumentException(clazz.getTypeName() + " is not supported");
+        return DefaultConversionService.getSharedInstance().convert(value, clazz);
     }
 
     public static boolean hasFieldMethod(Class<?> clazz, String methodName, Class<?> type) {
@@ -95,4 +89,23 @@ public abstract class ReflectionUtils {
         }
         return false;
     }
+
+    /**
+     * 클래스와 상위 클래스(Object 제외)에 선언된 메서드. 하위 클래스에서 재정의한 메서드는 하위 클래스의 것만 남긴다.
+     */
+    public static List<Method> getUniqueDeclaredMethods(Class<?> clazz) {
+        final List<Method> methods = new ArrayList<>();
+        final Set<String> signatures = new HashSet<>();
+        for (Class<?> current = clazz; current != null && current != Object.class; current = current.getSuperclass()) {
+            for (Method method : current.getDeclaredMethods()) {
+                if (method.isBridge() || method.isSynthetic()) {
+                    continue;
+                }
+                if (signatures.add(method.getName() + Arrays.toString(method.getParameterTypes()))) {
+                    methods.add(method);
+                }
+            }
+        }
+        return methods;
+    }
 }
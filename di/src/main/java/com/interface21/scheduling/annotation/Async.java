@@ -0,0 +1,18 @@
+package com.interface21.scheduling.annotation;
+
+import java.lang.annotation.*;
+
+/**
+ * 메서드를 컨테이너가 관리하는 executor 에서 비동기로 실행한다.
+ * 반환 타입은 {@code void} 또는 {@link java.util.concurrent.CompletableFuture} 여야 한다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface Async {
+
+    /**
+     * 사용할 executor 이름. 비어 있으면 기본 executor 를 사용한다.
+     */
+    String value() default "";
+}
@@ -0,0 +1,39 @@
+package com.interface21.scheduling.annotation;
+
+import com.interface21.aop.Advisor;
+import com.interface21.aop.MethodInterceptor;
+import com.interface21.beans.BeanInstantiationException;
+import com.interface21.scheduling.concurrent.TaskExecutorRegistry;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * {@link Async} 가 선언된 메서드를 {@link TaskExecutorRegistry} 의 executor 에서 실행한다.
+ * 프록시는 항상 {@link CompletableFuture} 를 반환하므로 반환 타입은 void 이거나 {@code Future}, {@code CompletionStage} 처럼
+ * {@code CompletableFuture} 를 대입할 수 있는 타입이어야 한다.
+ */
+public class AsyncAdvisor implements Advisor {
+
+    private final TaskExecutorRegistry executorRegistry;
+
+    public AsyncAdvisor(final TaskExecutorRegistry executorRegistry) {
+        this.executorRegistry = executorRegistry;
+    }
+
+    @Override
+    public boolean matches(final Method method, final Class<?> targetClass) {
+        return method.isAnnotationPresent(Async.class);
+    }
+
+    @Override
+    public MethodInterceptor getInterceptor(final Method method, final Class<?> targetClass) {
+        final var returnType = method.getReturnType();
+        if (returnType != void.class && !returnType.isAssignableFrom(CompletableFuture.class)) {
+            throw new BeanInstantiationException(targetClass,
+                "@Async method must return void or a type CompletableFuture is assignable to: " + method.getName());
+        }
+        final var executor = executorRegistry.getExecutor(method.getAnnotation(Async.class).value());
+        return new AsyncExecutionInterceptor(executor, returnType == void.class);
+    }
+}
@@ -0,0 +1,81 @@
+package com.interface21.scheduling.annotation;
+
+import com.interface21.aop.MethodInterceptor;
+import com.interface21.aop.MethodInvocation;
+import com.interface21.scheduling.concurrent.DiscardableTask;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 호출을 executor 에 넘기고 바로 반환한다.
+ * 반환 타입이 void 이면 예외를 로그로 남기고, 그렇지 않으면 메서드가 반환한 future 의 결과를 새 future 로 전달한다.
+ * {@link CompletionStage} 가 아닌 {@link Future} 는 executor 스레드에서 완료를 기다린다.
+ * executor 가 호출을 버리면 future 를 {@link RejectedExecutionException} 으로 완료한다.
+ */
+public class AsyncExecutionInterceptor implements MethodInterceptor {
+
+    private static final Logger log = LoggerFactory.getLogger(AsyncExecutionInterceptor.class);
+
+    private final Executor executor;
+    private final boolean voidReturnType;
+
+    public AsyncExecutionInterceptor(final Executor executor, final boolean voidReturnType) {
+        this.executor = executor;
+        this.voidReturnType = voidReturnType;
+    }
+
+    @Override
+    public Object invoke(final MethodInvocation invocation) {
+        final var future = new CompletableFuture<Object>();
+        executor.execute(new DiscardableTask() {
+            @Override
+            public void run() {
+                proceed(invocation, future);
+            }
+
+            @Override
+            public void onDiscard(final RejectedExecutionException cause) {
+                future.completeExceptionally(cause);
+            }
+        });
+        if (voidReturnType) {
+            return null;
+        }
+        return future;
+    }
+
+    private void proceed(final MethodInvocation invocation, final CompletableFuture<Object> future) {
+        try {
+            final var result = invocation.proceed();
+            if (result instanceof final CompletionStage<?> completionStage) {
+                completionStage.whenComplete((value, ex) -> {
+                    if (ex != null) {
+                        future.completeExceptionally(ex);
+                    } else {
+                        future.complete(value);
+                    }
+                });
+                return;
+            }
+            if (result instanceof final Future<?> resultFuture) {
+                future.complete(resultFuture.get());
+                return;
+            }
+            future.complete(result);
+        } catch (ExecutionException e) {
+            future.completeExceptionally(e.getCause());
+        } catch (Throwable e) {
+            if (voidReturnType) {
+                log.error("Unexpected exception occurred invoking async method: {}", invocation.getMethod(), e);
+            }
+            future.completeExceptionally(e);
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.interface21.scheduling.concurrent;
+
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * {@link RejectionPolicy#DISCARD} 로 버려졌을 때 알림을 받는 작업. 결과를 기다리는 쪽에 실패를 전달할 때 쓴다.
+ */
+public interface DiscardableTask extends Runnable {
+
+    void onDiscard(RejectedExecutionException cause);
+}
@@ -0,0 +1,10 @@
+package com.interface21.scheduling.concurrent;
+
+public record ExecutorMetrics(String name,
+                              boolean virtualThreads,
+                              int activeCount,
+                              int queueSize,
+                              long submittedCount,
+                              long completedCount,
+                              long rejectedCount) {
+}
@@ -0,0 +1,175 @@
+package com.interface21.scheduling.concurrent;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 컨테이너가 관리하는 이름 있는 executor.
+ * <p>
+ * 기본은 고정 크기 스레드 풀과 크기가 정해진 큐를 사용한다. 가상 스레드 모드에서는 작업마다 가상 스레드를 만들되,
+ * 동시에 실행하거나 대기하는 작업 수를 {@code poolSize + queueCapacity} 로 제한한다.
+ * 가상 스레드를 지원하지 않는 JVM 에서는 스레드 풀로 대신한다.
+ * 두 모드 모두 한도를 넘은 작업은 {@link RejectionPolicy} 에 따라 처리하고, 버린 작업이 {@link DiscardableTask} 이면 알린다.
+ */
+public class ManagedTaskExecutor implements Executor {
+
+    private static final Logger log = LoggerFactory.getLogger(ManagedTaskExecutor.class);
+
+    private final String name;
+    private final RejectionPolicy rejectionPolicy;
+    private final ThreadPoolExecutor threadPool;
+    private final ThreadFactory virtualThreadFactory;
+    private final Semaphore virtualThreadPermits;
+    private final int permits;
+
+    private final AtomicInteger activeCount = new AtomicInteger();
+    private final LongAdder submittedCount = new LongAdder();
+    private final LongAdder completedCount = new LongAdder();
+    private final LongAdder rejectedCount = new LongAdder();
+
+    public ManagedTaskExecutor(final String name, final int poolSize, final int queueCapacity,
+                               final RejectionPolicy rejectionPolicy) {
+        this(name, poolSize, queueCapacity, rejectionPolicy, false);
+    }
+
+    public ManagedTaskExecutor(final String name, final int poolSize, final int queueCapacity,
+                               final RejectionPolicy rejectionPolicy, final boolean virtualThreads) {
+        if (poolSize <= 0 || queueCapacity < 0) {
+            throw new IllegalArgumentException("Invalid executor size : poolSize=" + poolSize + ", queueCapacity=" + queueCapacity);
+        }
+        this.name = name;
+        this.rejectionPolicy = rejectionPolicy;
+        this.permits = poolSize + queueCapacity;
+
+        if (virtualThreads && VirtualThreads.isSupported()) {
+            this.threadPool = null;
+            this.virtualThreadFactory = VirtualThreads.newThreadFactory(name + "-");
+            this.virtualThreadPermits = new Semaphore(permits);
+            return;
+        }
+        if (virtualThreads) {
+            log.warn("Virtual threads are not supported on Java {}. executor '{}' uses a thread pool.",
+                Runtime.version().feature(), name);
+        }
+        this.virtualThreadFactory = null;
+        this.virtualThreadPermits = null;
+        this.threadPool = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+            queueCapacity == 0 ? new SynchronousQueue<>() : new ArrayBlockingQueue<>(queueCapacity),
+            new NamedThreadFactory(name),
+            (task, executor) -> reject(task));
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public RejectionPolicy getRejectionPolicy() {
+        return rejectionPolicy;
+    }
+
+    public boolean isVirtualThreads() {
+        return threadPool == null;
+    }
+
+    @Override
+    public void execute(final Runnable task) {
+        submittedCount.increment();
+        final var measured = new MeasuredTask(task);
+
+        if (threadPool != null) {
+            threadPool.execute(measured);
+            return;
+        }
+        if (!virtualThreadPermits.tryAcquire()) {
+            reject(measured);
+            return;
+        }
+        final var thread = virtualThreadFactory.newThread(() -> {
+            try {
+                measured.run();
+            } finally {
+                virtualThreadPermits.release();
+            }
+        });
+        thread.start();
+    }
+
+    public ExecutorMetrics getMetrics() {
+        final int queueSize;
+        if (threadPool != null) {
+            queueSize = threadPool.getQueue().size();
+        } else {
+            queueSize = Math.max(0, permits - virtualThreadPermits.availablePermits() - activeCount.get());
+        }
+        return new ExecutorMetrics(name, isVirtualThreads(), activeCount.get(), queueSize,
+            submittedCount.sum(), completedCount.sum(), rejectedCount.sum());
+    }
+
+    public void shutdown() {
+        if (threadPool != null) {
+            threadPool.shutdown();
+        }
+    }
+
+    private void reject(final Runnable task) {
+        rejectedCount.increment();
+        switch (rejectionPolicy) {
+            case CALLER_RUNS -> task.run();
+            case DISCARD -> {
+                log.warn("Task discarded by executor '{}'", name);
+                if (task instanceof final MeasuredTask measured && measured.task instanceof final DiscardableTask discardable) {
+                    discardable.onDiscard(new RejectedExecutionException("Task discarded by executor '" + name + "'"));
+                }
+            }
+            case ABORT -> throw new RejectedExecutionException("Task rejected by executor '" + name + "'");
+        }
+    }
+
+    private final class MeasuredTask implements Runnable {
+
+        private final Runnable task;
+
+        private MeasuredTask(final Runnable task) {
+            this.task = task;
+        }
+
+        @Override
+        public void run() {
+            activeCount.incrementAndGet();
+            try {
+                task.run();
+            } finally {
+                activeCount.decrementAndGet();
+                completedCount.increment();
+            }
+        }
+    }
+
+    private static final class NamedThreadFactory implements ThreadFactory {
+
+        private final String prefix;
+        private final AtomicInteger threadNumber = new AtomicInteger();
+
+        private NamedThreadFactory(final String name) {
+            this.prefix = name + "-";
+        }
+
+        @Override
+        public Thread newThread(final Runnable runnable) {
+            final var thread = new Thread(runnable, prefix + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
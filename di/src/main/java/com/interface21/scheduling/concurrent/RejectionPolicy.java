@@ -0,0 +1,22 @@
+package com.interface21.scheduling.concurrent;
+
+/**
+ * 큐가 가득 찼을 때 새 작업을 처리하는 방법.
+ */
+public enum RejectionPolicy {
+
+    /**
+     * {@link java.util.concurrent.RejectedExecutionException} 을 던진다.
+     */
+    ABORT,
+
+    /**
+     * 호출한 스레드에서 바로 실행한다.
+     */
+    CALLER_RUNS,
+
+    /**
+     * 작업을 버린다.
+     */
+    DISCARD
+}
@@ -0,0 +1,54 @@
+package com.interface21.scheduling.concurrent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 이름으로 {@link ManagedTaskExecutor} 를 찾는다. 등록되지 않은 이름은 기본 설정으로 만든다.
+ */
+public class TaskExecutorRegistry {
+
+    public static final String DEFAULT_EXECUTOR_NAME = "task";
+
+    private static final int DEFAULT_POOL_SIZE = Runtime.getRuntime().availableProcessors();
+    private static final int DEFAULT_QUEUE_CAPACITY = 1_000;
+
+    private final Map<String, ManagedTaskExecutor> executors = new ConcurrentHashMap<>();
+    private final boolean virtualThreads;
+
+    public TaskExecutorRegistry() {
+        this(false);
+    }
+
+    /**
+     * @param virtualThreads 기본 설정으로 만드는 executor 가 가상 스레드를 사용할지 여부
+     */
+    public TaskExecutorRegistry(final boolean virtualThreads) {
+        this.virtualThreads = virtualThreads;
+    }
+
+    public TaskExecutorRegistry registerExecutor(final ManagedTaskExecutor executor) {
+        executors.put(executor.getName(), executor);
+        return this;
+    }
+
+    public ManagedTaskExecutor getExecutor(final String name) {
+        final var executorName = (name == null || name.isEmpty()) ? DEFAULT_EXECUTOR_NAME : name;
+        return executors.computeIfAbsent(executorName, key ->
+            new ManagedTaskExecutor(key, DEFAULT_POOL_SIZE, DEFAULT_QUEUE_CAPACITY, RejectionPolicy.CALLER_RUNS, virtualThreads));
+    }
+
+    public List<ExecutorMetrics> getMetrics() {
+        final List<ExecutorMetrics> metrics = new ArrayList<>();
+        for (ManagedTaskExecutor executor : executors.values()) {
+            metrics.add(executor.getMetrics());
+        }
+        return metrics;
+    }
+
+    public void shutdown() {
+        executors.values().forEach(ManagedTaskExecutor::shutdown);
+    }
+}
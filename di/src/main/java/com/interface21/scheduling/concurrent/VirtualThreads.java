@@ -0,0 +1,49 @@
+package com.interface21.scheduling.concurrent;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * JDK 21 이상에서만 가상 스레드를 만든다. 컴파일 대상이 17 이므로 {@code Thread.ofVirtual()} 은 런타임에 찾는다.
+ */
+public abstract class VirtualThreads {
+
+    private static final MethodHandle OF_VIRTUAL = findOfVirtual();
+
+    public static boolean isSupported() {
+        return OF_VIRTUAL != null;
+    }
+
+    /**
+     * 가상 스레드를 만드는 ThreadFactory. 지원하지 않는 JVM 에서는 {@code null} 을 반환한다.
+     */
+    public static ThreadFactory newThreadFactory(final String namePrefix) {
+        if (OF_VIRTUAL == null) {
+            return null;
+        }
+        try {
+            final Object builder = OF_VIRTUAL.invoke();
+            final var builderType = Class.forName("java.lang.Thread$Builder");
+            final var lookup = MethodHandles.publicLookup();
+            final var name = lookup.findVirtual(builderType, "name", MethodType.methodType(builderType, String.class, long.class));
+            final var factory = lookup.findVirtual(builderType, "factory", MethodType.methodType(ThreadFactory.class));
+            return (ThreadFactory) factory.invoke(name.invoke(builder, namePrefix, 0L));
+        } catch (Throwable e) {
+            throw new IllegalStateException("Could not create virtual thread factory", e);
+        }
+    }
+
+    private static MethodHandle findOfVirtual() {
+        if (Runtime.version().feature() < 21) {
+            return null;
+        }
+        try {
+            final var builderType = Class.forName("java.lang.Thread$Builder$OfVirtual");
+            return MethodHandles.publicLookup().findStatic(Thread.class, "ofVirtual", MethodType.methodType(builderType));
+        } catch (ReflectiveOperationException e) {
+            return null;
+        }
+    }
+}
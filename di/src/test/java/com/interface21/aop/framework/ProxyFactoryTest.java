@@ -0,0 +1,243 @@
+package com.interface21.aop.framework;
+
+import com.interface21.aop.Advisor;
+import com.interface21.aop.MethodInterceptor;
+import com.interface21.aop.MethodInvocation;
+import com.interface21.beans.BeanInstantiationException;
+import com.interface21.beans.factory.support.DefaultListableBeanFactory;
+import com.interface21.beans.factory.support.GenericBeanDefinition;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ProxyFactoryTest {
+
+    @Test
+    void 인터셉터가_적용된_메서드만_체인을_거친다() {
+        final List<String> calls = new ArrayList<>();
+        final var proxy = (Calculator) new ProxyFactory(new Calculator(10))
+            .addAdvisor(advisor("add", invocation -> {
+                calls.add(invocation.getMethod().getName());
+                return invocation.proceed();
+            }))
+            .getProxy();
+
+        assertThat(proxy.getClass()).isNotEqualTo(Calculator.class);
+        assertThat(proxy.add(1, 2L)).isEqualTo(13L);
+        assertThat(proxy.name()).isEqualTo("calculator");
+        assertThat(calls).containsExactly("add");
+    }
+
+    @Test
+    void 인터셉터는_등록_순서대로_호출되고_인자를_바꿀_수_있다() {
+        final List<String> calls = new ArrayList<>();
+        final var proxy = (Calculator) new ProxyFactory(new Calculator(0))
+            .addAdvisor(advisor("add", invocation -> {
+                calls.add("first");
+                invocation.getArguments()[0] = 100;
+                return invocation.proceed();
+            }))
+            .addAdvisor(advisor("add", invocation -> {
+                calls.add("second");
+                return (long) invocation.proceed() * 2;
+            }))
+            .getProxy();
+
+        assertThat(proxy.add(1, 1L)).isEqualTo(202L);
+        assertThat(calls).containsExactly("first", "second");
+    }
+
+    @Test
+    void 선언된_예외는_그대로_던진다() {
+        final var proxy = (Calculator) new ProxyFactory(new Calculator(0))
+            .addAdvisor(advisor("fail", MethodInvocation::proceed))
+            .getProxy();
+
+        assertThatThrownBy(proxy::fail).isInstanceOf(IOException.class);
+    }
+
+    @Test
+    void public_이_아닌_메서드도_대상_객체로_위임한다() {
+        final var proxy = (Calculator) new ProxyFactory(new Calculator(10))
+            .addAdvisor(advisor("add", MethodInvocation::proceed))
+            .getProxy();
+
+        assertThat(proxy.base()).isEqualTo(10);
+        assertThat(proxy.describe()).isEqualTo("calculator(10)");
+    }
+
+    @Test
+    void final_메서드가_있는_클래스는_프록시하지_않는다() {
+        assertThatThrownBy(() -> new ProxyFactory(new FinalMethodGreeter())
+            .addAdvisor(advisor("greet", MethodInvocation::proceed))
+            .getProxy())
+            .isInstanceOf(BeanInstantiationException.class)
+            .hasMessageContaining(FinalMethodGreeter.class.getName())
+            .hasMessageContaining("prefix");
+    }
+
+    @Test
+    void final_클래스는_프록시하지_않는다() {
+        assertThatThrownBy(() -> new ProxyFactory(new FinalGreeter())
+            .addAdvisor(advisor("greet", MethodInvocation::proceed))
+            .getProxy())
+            .isInstanceOf(BeanInstantiationException.class)
+            .hasMessageContaining(FinalGreeter.class.getName());
+    }
+
+    @Test
+    void 프록시할_final_클래스를_구체_타입으로_조회하면_BeanInstantiationException_이_발생한다() {
+        final var autoProxyCreator = new AdvisorAutoProxyCreator();
+        autoProxyCreator.addAdvisor(advisor("greet", MethodInvocation::proceed));
+        final var beanFactory = new DefaultListableBeanFactory();
+        beanFactory.addBeanPostProcessor(autoProxyCreator);
+        beanFactory.registerBeanDefinition(FinalGreeter.class, new GenericBeanDefinition(FinalGreeter.class));
+
+        assertThatThrownBy(() -> beanFactory.getBean(FinalGreeter.class))
+            .isInstanceOf(BeanInstantiationException.class)
+            .hasMessageContaining(FinalGreeter.class.getName());
+    }
+
+    @Test
+    void 적용할_인터셉터가_없으면_대상을_그대로_반환한다() {
+        final var target = new Calculator(0);
+
+        assertThat(new ProxyFactory(target).addAdvisor(advisor("none", MethodInvocation::proceed)).getProxy())
+            .isSameAs(target);
+    }
+
+    @Test
+    void 다른_모듈의_클래스는_그_모듈의_Lookup_이_있어야_프록시한다() throws Exception {
+        final var isolatedClass = new IsolatingClassLoader(IsolatedGreeter.class).loadClass(IsolatedGreeter.class.getName());
+        final var target = isolatedClass.getConstructor().newInstance();
+        final var lookup = (MethodHandles.Lookup) isolatedClass.getMethod("lookup").invoke(null);
+
+        assertThatThrownBy(() -> new ProxyFactory(target).addAdvisor(advisor("greet", MethodInvocation::proceed)).getProxy())
+            .isInstanceOf(BeanInstantiationException.class);
+
+        final var proxy = new ProxyFactory(target)
+            .addAdvisor(advisor("greet", invocation -> "[" + invocation.proceed() + "]"))
+            .addLookup(lookup)
+            .getProxy();
+
+        assertThat(isolatedClass.getMethod("greet", String.class).invoke(proxy, "gugu")).isEqualTo("[hello gugu]");
+    }
+
+    private static Advisor advisor(final String methodName, final MethodInterceptor interceptor) {
+        return new Advisor() {
+            @Override
+            public boolean matches(final Method method, final Class<?> targetClass) {
+                return method.getName().equals(methodName);
+            }
+
+            @Override
+            public MethodInterceptor getInterceptor(final Method method, final Class<?> targetClass) {
+                return interceptor;
+            }
+        };
+    }
+
+    public static class Calculator {
+
+        private final int base;
+
+        public Calculator(final int base) {
+            this.base = base;
+        }
+
+        public long add(final int a, final long b) {
+            return base + a + b;
+        }
+
+        public String name() {
+            return "calculator";
+        }
+
+        public void fail() throws IOException {
+            throw new IOException("fail");
+        }
+
+        protected int base() {
+            return base;
+        }
+
+        String describe() {
+            return name() + "(" + base + ")";
+        }
+    }
+
+    public static class FinalMethodGreeter {
+
+        private final String prefix = "hello ";
+
+        public String greet(final String name) {
+            return prefix() + name;
+        }
+
+        public final String prefix() {
+            return prefix;
+        }
+    }
+
+    public static class IsolatedGreeter {
+
+        public static MethodHandles.Lookup lookup() {
+            return MethodHandles.lookup();
+        }
+
+        public String greet(final String name) {
+            return "hello " + name;
+        }
+    }
+
+    /**
+     * 웹 애플리케이션 클래스 로더처럼 주어진 클래스를 직접 정의해 프레임워크와 다른 이름 없는 모듈에 둔다.
+     */
+    private static class IsolatingClassLoader extends ClassLoader {
+
+        private final Class<?> isolatedClass;
+
+        IsolatingClassLoader(final Class<?> isolatedClass) {
+            super(isolatedClass.getClassLoader());
+            this.isolatedClass = isolatedClass;
+        }
+
+        @Override
+        protected Class<?> loadClass(final String name, final boolean resolve) throws ClassNotFoundException {
+            if (!name.equals(isolatedClass.getName())) {
+                return super.loadClass(name, resolve);
+            }
+            synchronized (getClassLoadingLock(name)) {
+                final var loaded = findLoadedClass(name);
+                if (loaded != null) {
+                    return loaded;
+                }
+                try (final var input = getParent().getResourceAsStream(name.replace('.', '/') + ".class")) {
+                    final var bytes = input.readAllBytes();
+                    return defineClass(name, bytes, 0, bytes.length);
+                } catch (IOException e) {
+                    throw new ClassNotFoundException(name, e);
+                }
+            }
+        }
+    }
+
+    public interface Greeter {
+        String greet(String name);
+    }
+
+    public static final class FinalGreeter implements Greeter {
+
+        @Override
+        public String greet(final String name) {
+            return "hello " + name;
+        }
+    }
+}
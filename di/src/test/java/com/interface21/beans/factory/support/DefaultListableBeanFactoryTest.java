@@ -1,8 +1,13 @@
 package com.interface21.beans.factory.support;
 
+import com.interface21.context.annotation.AnnotatedBeanDefinitionReader;
+import com.interface21.context.stereotype.Controller;
+import com.interface21.context.stereotype.Repository;
+import com.interface21.context.stereotype.Service;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.reflections.Reflections;
+import samples.ExampleConfig;
 import samples.SampleController;
 
 import java.lang.annotation.Annotation;
@@ -21,6 +26,10 @@ class DefaultListableBeanFactoryTest {
     void setUp() {
         reflections = new Reflections("samples");
         beanFactory = new DefaultListableBeanFactory();
+        new AnnotatedBeanDefinitionReader(beanFactory).loadBeanDefinitions(ExampleConfig.class);
+        for (Class<?> clazz : getTypesAnnotatedWith(Controller.class, Service.class, Repository.class)) {
+            beanFactory.registerBeanDefinition(clazz, new GenericBeanDefinition(clazz));
+        }
         beanFactory.initialize();
     }
 
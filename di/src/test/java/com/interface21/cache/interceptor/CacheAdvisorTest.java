@@ -0,0 +1,57 @@
+package com.interface21.cache.interceptor;
+
+import com.interface21.aop.framework.ProxyFactory;
+import com.interface21.cache.annotation.CacheEvict;
+import com.interface21.cache.annotation.Cacheable;
+import com.interface21.cache.support.TinyLfuCacheManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CacheAdvisorTest {
+
+    private TinyLfuCacheManager cacheManager;
+    private AccountRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new TinyLfuCacheManager();
+        repository = (AccountRepository) new ProxyFactory(new AccountRepository())
+            .addAdvisor(new CacheAdvisor(cacheManager))
+            .getProxy();
+    }
+
+    @Test
+    void Cacheable_메서드는_같은_인자로_다시_호출되면_대상을_호출하지_않는다() {
+        assertThat(repository.findByAccount("gugu")).isEqualTo("gugu#1");
+        assertThat(repository.findByAccount("gugu")).isEqualTo("gugu#1");
+
+        assertThat(cacheManager.getCache("accounts").getStats().hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    void CacheEvict_메서드가_호출되면_캐시를_비운다() {
+        repository.findByAccount("gugu");
+
+        repository.save("gugu");
+
+        assertThat(repository.findByAccount("gugu")).isEqualTo("gugu#2");
+    }
+
+    public static class AccountRepository {
+
+        private final AtomicInteger calls = new AtomicInteger();
+
+        @Cacheable("accounts")
+        public String findByAccount(final String account) {
+            return account + "#" + calls.incrementAndGet();
+        }
+
+        @CacheEvict(value = "accounts", allEntries = true)
+        public void save(final String account) {
+        }
+    }
+}
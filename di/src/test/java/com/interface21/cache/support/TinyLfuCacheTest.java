@@ -0,0 +1,130 @@
+package com.interface21.cache.support;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TinyLfuCacheTest {
+
+    @Test
+    void 최대_크기를_넘지_않는다() {
+        final var cache = new TinyLfuCache("users", 100, null);
+
+        for (int i = 0; i < 1_000; i++) {
+            cache.put(i, "value" + i);
+        }
+
+        assertThat(cache.size()).isEqualTo(100);
+        assertThat(cache.getStats().evictionCount()).isEqualTo(900);
+    }
+
+    @Test
+    void 자주_조회되는_항목은_한_번만_쓰인_항목들에_밀려나지_않는다() {
+        final var cache = new TinyLfuCache("users", 100, null);
+        for (int i = 0; i < 10; i++) {
+            cache.put("hot" + i, i);
+        }
+        for (int round = 0; round < 5; round++) {
+            for (int i = 0; i < 10; i++) {
+                cache.get("hot" + i);
+            }
+        }
+
+        for (int i = 0; i < 10_000; i++) {
+            cache.put("scan" + i, i);
+            if (i % 150 == 0) {
+                for (int j = 0; j < 10; j++) {
+                    cache.get("hot" + j);
+                }
+            }
+        }
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(cache.get("hot" + i)).isEqualTo(i);
+        }
+    }
+
+    @Test
+    void 쓰기_후_만료_시간이_지나면_조회되지_않는다() {
+        final var now = new AtomicLong();
+        final var cache = new TinyLfuCache("users", 10, Duration.ofSeconds(10), now::get);
+        cache.put("gugu", "user");
+
+        now.addAndGet(Duration.ofSeconds(9).toNanos());
+        assertThat(cache.get("gugu")).isEqualTo("user");
+
+        now.addAndGet(Duration.ofSeconds(1).toNanos());
+        assertThat(cache.get("gugu")).isNull();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void 조회_결과를_통계로_남긴다() {
+        final var cache = new TinyLfuCache("users", 10, null);
+        cache.put("gugu", "user");
+
+        cache.get("gugu");
+        cache.get("gugu");
+        cache.get("unknown");
+
+        final var stats = cache.getStats();
+        assertThat(stats.hitCount()).isEqualTo(2);
+        assertThat(stats.missCount()).isEqualTo(1);
+        assertThat(stats.hitRate()).isEqualTo(2.0 / 3);
+    }
+
+    @Test
+    void 키_또는_전체를_명시적으로_제거한다() {
+        final var cache = new TinyLfuCache("users", 10, null);
+        cache.put("a", 1);
+        cache.put("b", 2);
+
+        cache.evict("a");
+        assertThat(cache.get("a")).isNull();
+        assertThat(cache.get("b")).isEqualTo(2);
+
+        cache.clear();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void 여러_스레드가_동시에_조회하고_써도_최대_크기를_지킨다() throws Exception {
+        final var cache = new TinyLfuCache("users", 100, null);
+        final var executor = Executors.newFixedThreadPool(8);
+        try {
+            final var tasks = new ArrayList<Callable<Void>>();
+            for (int t = 0; t < 8; t++) {
+                tasks.add(() -> {
+                    final var random = ThreadLocalRandom.current();
+                    for (int i = 0; i < 20_000; i++) {
+                        final int key = random.nextInt(500);
+                        if (cache.get(key) == null) {
+                            cache.put(key, key);
+                        }
+                    }
+                    return null;
+                });
+            }
+            for (var future : executor.invokeAll(tasks)) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(cache.size()).isLessThanOrEqualTo(100);
+        for (int key = 0; key < 500; key++) {
+            final var value = cache.get(key);
+            assertThat(value == null || value.equals(key)).isTrue();
+        }
+        cache.put(-1, -1);
+        assertThat(cache.get(-1)).isEqualTo(-1);
+    }
+}
@@ -0,0 +1,170 @@
+package com.interface21.context.event;
+
+import com.interface21.scheduling.concurrent.ManagedTaskExecutor;
+import com.interface21.scheduling.concurrent.RejectionPolicy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SimpleApplicationEventMulticasterTest {
+
+    private ManagedTaskExecutor executor;
+    private SimpleApplicationEventMulticaster multicaster;
+    private EventListenerMethodProcessor processor;
+
+    @BeforeEach
+    void setUp() {
+        executor = new ManagedTaskExecutor("event", 1, 100, RejectionPolicy.CALLER_RUNS);
+        multicaster = new SimpleApplicationEventMulticaster(executor);
+        processor = new EventListenerMethodProcessor(multicaster);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    @Test
+    void 이벤트_타입과_상위_타입의_리스너가_모두_호출된다() {
+        final var listener = new SyncListener();
+        processor.postProcessAfterInitialization(listener, SyncListener.class);
+
+        multicaster.publishEvent(new Registered("gugu"));
+        multicaster.publishEvent("other");
+
+        assertThat(listener.received).containsExactlyInAnyOrder("registered:gugu", "any:Registered[account=gugu]", "any:other");
+    }
+
+    @Test
+    void 나중에_추가된_리스너도_이벤트를_받는다() {
+        final var first = new SyncListener();
+        processor.postProcessAfterInitialization(first, SyncListener.class);
+        multicaster.publishEvent(new Registered("gugu"));
+
+        final var second = new SyncListener();
+        processor.postProcessAfterInitialization(second, SyncListener.class);
+        multicaster.publishEvent(new Registered("brown"));
+
+        assertThat(second.received).containsExactlyInAnyOrder("registered:brown", "any:Registered[account=brown]");
+    }
+
+    @Test
+    void 비동기_리스너는_다른_스레드에서_모든_이벤트를_받는다() throws Exception {
+        final var listener = new AsyncListener(100);
+        processor.postProcessAfterInitialization(listener, AsyncListener.class);
+
+        for (int i = 0; i < 100; i++) {
+            multicaster.publishEvent(new Registered("user" + i));
+        }
+
+        assertThat(listener.latch.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(listener.threads).allMatch(name -> name.startsWith("event-"));
+    }
+
+    @Test
+    void 상위_클래스에_선언된_리스너_메서드도_등록한다() {
+        final var listener = new InheritedListener();
+        processor.postProcessAfterInitialization(listener, InheritedListener.class);
+
+        multicaster.publishEvent(new Registered("gugu"));
+
+        assertThat(((SyncListener) listener).received).containsExactlyInAnyOrder("registered:gugu", "any:Registered[account=gugu]");
+    }
+
+    @Test
+    void 큐가_가득_차면_DISCARD_정책은_이벤트를_버리고_발행한_스레드에서_호출하지_않는다() throws Exception {
+        final var listener = new AsyncListener(1);
+        final var drainTasks = new ArrayList<Runnable>();
+        final var queue = new BatchingEventQueue(asyncListenerMethod(listener), drainTasks::add, 1, 1, RejectionPolicy.DISCARD);
+
+        queue.enqueue(new Registered("first"));
+        queue.enqueue(new Registered("second"));
+
+        assertThat(listener.threads).isEmpty();
+        assertThat(queue.getDroppedCount()).isEqualTo(1);
+
+        drainTasks.forEach(Runnable::run);
+        assertThat(listener.latch.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(listener.threads).hasSize(1);
+    }
+
+    @Test
+    void 큐가_가득_차면_ABORT_정책은_예외를_던진다() throws Exception {
+        final var listener = new AsyncListener(1);
+        final var queue = new BatchingEventQueue(asyncListenerMethod(listener), task -> {
+        }, 1, 1, RejectionPolicy.ABORT);
+
+        queue.enqueue(new Registered("first"));
+
+        assertThatThrownBy(() -> queue.enqueue(new Registered("second")))
+            .isInstanceOf(RejectedExecutionException.class);
+        assertThat(listener.threads).isEmpty();
+    }
+
+    @Test
+    void 리스너_메서드는_인자가_하나여야_한다() throws Exception {
+        final Method method = InvalidListener.class.getMethod("on", String.class, String.class);
+
+        assertThatThrownBy(() -> multicaster.addListener(new InvalidListener(), method))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    record Registered(String account) {
+    }
+
+    static class SyncListener {
+
+        private final List<String> received = new CopyOnWriteArrayList<>();
+
+        @EventListener
+        public void onRegistered(final Registered event) {
+            received.add("registered:" + event.account());
+        }
+
+        @EventListener
+        public void onAny(final Object event) {
+            received.add("any:" + event);
+        }
+    }
+
+    static class InheritedListener extends SyncListener {
+    }
+
+    private static ApplicationListenerMethod asyncListenerMethod(final AsyncListener listener) throws NoSuchMethodException {
+        return new ApplicationListenerMethod(listener, AsyncListener.class.getMethod("onRegistered", Registered.class));
+    }
+
+    static class AsyncListener {
+
+        private final CountDownLatch latch;
+        private final List<String> threads = new CopyOnWriteArrayList<>();
+
+        AsyncListener(final int count) {
+            this.latch = new CountDownLatch(count);
+        }
+
+        @EventListener(async = true)
+        public void onRegistered(final Registered event) {
+            threads.add(Thread.currentThread().getName());
+            latch.countDown();
+        }
+    }
+
+    static class InvalidListener {
+
+        @EventListener
+        public void on(final String first, final String second) {
+        }
+    }
+}
@@ -0,0 +1,117 @@
+package com.interface21.core.convert.support;
+
+import com.interface21.core.convert.ConversionFailedException;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Type;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DefaultConversionServiceTest {
+
+    private final DefaultConversionService conversionService = new DefaultConversionService();
+
+    @Test
+    void 기본_타입과_래퍼_타입으로_변환한다() {
+        assertThat(conversionService.convert("10", int.class)).isEqualTo(10);
+        assertThat(conversionService.convert("10", Long.class)).isEqualTo(10L);
+        assertThat(conversionService.convert("true", boolean.class)).isTrue();
+        assertThat(conversionService.convert("a", char.class)).isEqualTo('a');
+    }
+
+    @Test
+    void enum_UUID_java_time_타입으로_변환한다() {
+        final var uuid = UUID.randomUUID();
+
+        assertThat(conversionService.convert("PATCH", Method.class)).isEqualTo(Method.PATCH);
+        assertThat(conversionService.convert(uuid.toString(), UUID.class)).isEqualTo(uuid);
+        assertThat(conversionService.convert("2024-05-01", LocalDate.class)).isEqualTo(LocalDate.of(2024, 5, 1));
+        assertThat(conversionService.convert("PT1M", Duration.class)).isEqualTo(Duration.ofMinutes(1));
+    }
+
+    @Test
+    void 배열과_컬렉션으로_변환한다() throws Exception {
+        final Type listOfLong = Holder.class.getDeclaredField("ids").getGenericType();
+        final Type setOfMethod = Holder.class.getDeclaredField("methods").getGenericType();
+
+        assertThat(conversionService.convert(new String[]{"1", "2"}, int[].class)).containsExactly(1, 2);
+        assertThat(conversionService.convert("1, 2, 3", List.class, listOfLong)).isEqualTo(List.of(1L, 2L, 3L));
+        assertThat(conversionService.convert(new String[]{"GET", "GET"}, Set.class, setOfMethod)).isEqualTo(Set.of(Method.GET));
+    }
+
+    @Test
+    void 등록한_변환기를_사용한다() {
+        conversionService.addConverter(Money.class, source -> new Money(Long.parseLong(source.replace("원", ""))));
+
+        assertThat(conversionService.convert("1000원", Money.class)).isEqualTo(new Money(1000));
+    }
+
+    @Test
+    void 기본_타입_변환_MethodHandle_은_박싱하지_않는다() throws Throwable {
+        final var handle = conversionService.getConverterHandle(int.class);
+
+        final int value = (int) handle.invokeExact("42");
+
+        assertThat(value).isEqualTo(42);
+    }
+
+    @Test
+    void 기본_타입_변환_MethodHandle_도_잘못된_값이나_null_이면_ConversionFailedException_이_발생한다() {
+        final var intHandle = conversionService.getConverterHandle(int.class);
+        final var booleanHandle = conversionService.getConverterHandle(boolean.class);
+
+        assertThatThrownBy(() -> {
+            final int value = (int) intHandle.invokeExact("abc");
+        }).isInstanceOf(ConversionFailedException.class).hasCauseInstanceOf(NumberFormatException.class);
+        assertThatThrownBy(() -> {
+            final int value = (int) intHandle.invokeExact((String) null);
+        }).isInstanceOf(ConversionFailedException.class);
+        assertThatThrownBy(() -> {
+            final boolean value = (boolean) booleanHandle.invokeExact((String) null);
+        }).isInstanceOf(ConversionFailedException.class);
+    }
+
+    @Test
+    void 지원하지_않는_타입이나_잘못된_값은_예외가_발생한다() {
+        assertThat(conversionService.canConvert(Runnable.class)).isFalse();
+        assertThatThrownBy(() -> conversionService.convert("value", Runnable.class))
+            .isInstanceOf(ConversionFailedException.class);
+        assertThatThrownBy(() -> conversionService.convert("abc", int.class))
+            .isInstanceOf(ConversionFailedException.class)
+            .hasCauseInstanceOf(NumberFormatException.class);
+    }
+
+    @Test
+    void boolean_은_true_와_false_만_대소문자_구분_없이_변환한다() {
+        final var booleanHandle = conversionService.getConverterHandle(boolean.class);
+
+        assertThat(conversionService.convert("TRUE", boolean.class)).isTrue();
+        assertThat(conversionService.convert("False", Boolean.class)).isFalse();
+        assertThatThrownBy(() -> conversionService.convert("yes", Boolean.class))
+            .isInstanceOf(ConversionFailedException.class);
+        assertThatThrownBy(() -> conversionService.convert("", boolean.class))
+            .isInstanceOf(ConversionFailedException.class);
+        assertThatThrownBy(() -> {
+            final boolean value = (boolean) booleanHandle.invokeExact("1");
+        }).isInstanceOf(ConversionFailedException.class).hasCauseInstanceOf(IllegalArgumentException.class);
+    }
+
+    enum Method {
+        GET, PATCH
+    }
+
+    record Money(long amount) {
+    }
+
+    static class Holder {
+
+        List<Long> ids;
+        Set<Method> methods;
+    }
+}
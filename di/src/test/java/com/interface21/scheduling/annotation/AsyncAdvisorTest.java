@@ -0,0 +1,172 @@
+package com.interface21.scheduling.annotation;
+
+import com.interface21.aop.framework.ProxyFactory;
+import com.interface21.beans.BeanInstantiationException;
+import com.interface21.scheduling.concurrent.ManagedTaskExecutor;
+import com.interface21.scheduling.concurrent.RejectionPolicy;
+import com.interface21.scheduling.concurrent.TaskExecutorRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AsyncAdvisorTest {
+
+    private TaskExecutorRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new TaskExecutorRegistry()
+            .registerExecutor(new ManagedTaskExecutor("audit", 1, 10, RejectionPolicy.ABORT));
+    }
+
+    @AfterEach
+    void tearDown() {
+        registry.shutdown();
+    }
+
+    @Test
+    void Async_메서드는_지정한_executor_스레드에서_실행된다() throws Exception {
+        final var service = proxy(new AuditService());
+
+        final var threadName = service.currentThreadName().get(1, TimeUnit.SECONDS);
+
+        assertThat(threadName).startsWith("audit-");
+        assertThat(registry.getExecutor("audit").getMetrics().submittedCount()).isEqualTo(1);
+    }
+
+    @Test
+    void void_메서드는_호출한_스레드를_막지_않는다() throws Exception {
+        final var target = new AuditService();
+        final var service = proxy(target);
+        final var release = new CountDownLatch(1);
+
+        service.await(release);
+        release.countDown();
+
+        assertThat(target.completed.await(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void 비동기_메서드의_예외는_future_로_전달된다() {
+        final var service = proxy(new AuditService());
+
+        assertThatThrownBy(() -> service.fail().get(1, TimeUnit.SECONDS))
+            .isInstanceOf(ExecutionException.class)
+            .hasCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void executor_가_호출을_버리면_future_는_예외로_완료된다() throws Exception {
+        final var discardRegistry = new TaskExecutorRegistry()
+            .registerExecutor(new ManagedTaskExecutor("audit", 1, 0, RejectionPolicy.DISCARD));
+        final var service = (AuditService) new ProxyFactory(new AuditService())
+            .addAdvisor(new AsyncAdvisor(discardRegistry))
+            .getProxy();
+        final var release = new CountDownLatch(1);
+        try {
+            service.await(release);
+
+            assertThatThrownBy(() -> service.currentThreadName().get(1, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class)
+                .hasCauseInstanceOf(RejectedExecutionException.class);
+        } finally {
+            release.countDown();
+            discardRegistry.shutdown();
+        }
+    }
+
+    @Test
+    void 반환_타입이_void_나_CompletableFuture_가_아니면_프록시를_만들_수_없다() {
+        assertThatThrownBy(() -> new ProxyFactory(new InvalidService()).addAdvisor(new AsyncAdvisor(registry)).getProxy())
+            .isInstanceOf(BeanInstantiationException.class);
+    }
+
+    @Test
+    void CompletableFuture_의_상위_타입을_반환하는_메서드도_비동기로_실행한다() throws Exception {
+        final var service = (ReportService) new ProxyFactory(new ReportService())
+            .addAdvisor(new AsyncAdvisor(registry))
+            .getProxy();
+
+        assertThat(service.stage().toCompletableFuture().get(1, TimeUnit.SECONDS)).startsWith("audit-");
+        assertThat(service.future().get(1, TimeUnit.SECONDS)).startsWith("audit-");
+    }
+
+    @Test
+    void CompletableFuture_의_하위_타입을_반환하면_프록시를_만들_수_없다() {
+        assertThatThrownBy(() -> new ProxyFactory(new CustomFutureService()).addAdvisor(new AsyncAdvisor(registry)).getProxy())
+            .isInstanceOf(BeanInstantiationException.class);
+    }
+
+    private AuditService proxy(final AuditService target) {
+        return (AuditService) new ProxyFactory(target)
+            .addAdvisor(new AsyncAdvisor(registry))
+            .getProxy();
+    }
+
+    public static class AuditService {
+
+        private final CountDownLatch completed = new CountDownLatch(1);
+
+        @Async("audit")
+        public CompletableFuture<String> currentThreadName() {
+            return CompletableFuture.completedFuture(Thread.currentThread().getName());
+        }
+
+        @Async("audit")
+        public void await(final CountDownLatch latch) throws InterruptedException {
+            latch.await();
+            completed.countDown();
+        }
+
+        @Async("audit")
+        public CompletableFuture<String> fail() {
+            throw new IllegalStateException("audit failed");
+        }
+    }
+
+    public static class ReportService {
+
+        @Async("audit")
+        public CompletionStage<String> stage() {
+            return CompletableFuture.completedFuture(Thread.currentThread().getName());
+        }
+
+        @Async("audit")
+        public Future<String> future() {
+            final var task = new FutureTask<>(() -> Thread.currentThread().getName());
+            task.run();
+            return task;
+        }
+    }
+
+    public static class CustomFutureService {
+
+        @Async("audit")
+        public CustomFuture<String> find() {
+            return new CustomFuture<>();
+        }
+    }
+
+    public static class CustomFuture<T> extends CompletableFuture<T> {
+    }
+
+    public static class InvalidService {
+
+        @Async
+        public String find() {
+            return "value";
+        }
+    }
+}
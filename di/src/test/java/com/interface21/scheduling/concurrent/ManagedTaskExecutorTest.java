@@ -0,0 +1,70 @@
+package com.interface21.scheduling.concurrent;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ManagedTaskExecutorTest {
+
+    @Test
+    void 큐가_가득_차면_ABORT_정책은_예외를_던진다() throws Exception {
+        final var executor = new ManagedTaskExecutor("abort", 1, 1, RejectionPolicy.ABORT);
+        final var release = new CountDownLatch(1);
+        final var started = new CountDownLatch(1);
+        try {
+            executor.execute(() -> {
+                started.countDown();
+                awaitQuietly(release);
+            });
+            started.await(1, TimeUnit.SECONDS);
+            executor.execute(() -> awaitQuietly(release));
+
+            assertThatThrownBy(() -> executor.execute(() -> {
+            })).isInstanceOf(RejectedExecutionException.class);
+
+            final var metrics = executor.getMetrics();
+            assertThat(metrics.activeCount()).isEqualTo(1);
+            assertThat(metrics.queueSize()).isEqualTo(1);
+            assertThat(metrics.rejectedCount()).isEqualTo(1);
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void 큐가_가득_차면_CALLER_RUNS_정책은_호출한_스레드에서_실행한다() throws Exception {
+        final var executor = new ManagedTaskExecutor("caller-runs", 1, 0, RejectionPolicy.CALLER_RUNS);
+        final var release = new CountDownLatch(1);
+        final var started = new CountDownLatch(1);
+        final var runner = new AtomicReference<Thread>();
+        try {
+            executor.execute(() -> {
+                started.countDown();
+                awaitQuietly(release);
+            });
+            started.await(1, TimeUnit.SECONDS);
+
+            executor.execute(() -> runner.set(Thread.currentThread()));
+
+            assertThat(runner.get()).isSameAs(Thread.currentThread());
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+    }
+
+    private static void awaitQuietly(final CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.interface21.webmvc.servlet.mvc;
+
+import com.interface21.webmvc.servlet.mvc.tobe.AnnotationHandlerMapping;
+import com.interface21.webmvc.servlet.mvc.tobe.HandlerExecutionHandlerAdapter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 핸들러 조회, 인자 처리, 핸들러 실행, JSON 렌더링까지 {@link DispatcherServlet#service} 한 번의 비용.
+ * 요청과 응답 mock 객체를 만드는 비용도 포함된다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DispatcherServletBenchmark {
+
+    private DispatcherServlet dispatcherServlet;
+
+    @Setup
+    public void setUp() {
+        dispatcherServlet = new DispatcherServlet();
+        dispatcherServlet.addHandlerMapping(new AnnotationHandlerMapping("com.interface21.webmvc.servlet.mvc.benchmark"));
+        dispatcherServlet.addHandlerAdapter(new HandlerExecutionHandlerAdapter());
+        dispatcherServlet.init();
+    }
+
+    @Benchmark
+    public int service() throws Exception {
+        final var request = new MockHttpServletRequest("GET", "/api/user/42");
+        final var response = new MockHttpServletResponse();
+        dispatcherServlet.service(request, response);
+        return response.getContentLength();
+    }
+}
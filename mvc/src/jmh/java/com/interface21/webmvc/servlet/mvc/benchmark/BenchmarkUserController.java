@@ -0,0 +1,21 @@
+package com.interface21.webmvc.servlet.mvc.benchmark;
+
+import com.interface21.context.stereotype.Controller;
+import com.interface21.web.bind.annotation.PathVariable;
+import com.interface21.web.bind.annotation.RequestMapping;
+import com.interface21.web.bind.annotation.RequestMethod;
+import com.interface21.webmvc.servlet.ModelAndView;
+import com.interface21.webmvc.servlet.view.JsonView;
+
+@Controller
+public class BenchmarkUserController {
+
+    @RequestMapping(value = "/api/user/{id}", method = RequestMethod.GET)
+    public ModelAndView show(@PathVariable("id") final long id) {
+        return new ModelAndView(new JsonView())
+            .addObject("user", new User(id, "gugu", "gugu@woowahan.com"));
+    }
+
+    public record User(long id, String account, String email) {
+    }
+}
@@ -0,0 +1,77 @@
+package com.interface21.webmvc.servlet.mvc.tobe;
+
+import com.interface21.web.bind.annotation.RequestMethod;
+import com.interface21.webmvc.servlet.ModelAndView;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 라우트 수에 따른 {@link AnnotationHandlerMapping#getHandler} 비용.
+ * 라우트의 절반은 정적 패턴, 절반은 URI 변수가 있는 패턴이다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AnnotationHandlerMappingBenchmark {
+
+    @Param({"10", "1000", "10000"})
+    private int routes;
+
+    private AnnotationHandlerMapping handlerMapping;
+    private MockHttpServletRequest staticRequest;
+    private MockHttpServletRequest patternRequest;
+    private MockHttpServletRequest unmatchedRequest;
+
+    @Setup
+    public void setUp() throws Exception {
+        final var handlerExecution = new HandlerExecution(List.of(), new NoopController(), NoopController.class.getMethod("handle"));
+        handlerMapping = new AnnotationHandlerMapping();
+        for (int i = 0; i < routes / 2; i++) {
+            handlerMapping.addHandlerExecution(new HandlerKey("/api/resources" + i + "/items", RequestMethod.GET), handlerExecution);
+            handlerMapping.addHandlerExecution(new HandlerKey("/api/resources" + i + "/items/{id}", RequestMethod.GET), handlerExecution);
+        }
+
+        final int target = routes / 4;
+        staticRequest = new MockHttpServletRequest("GET", "/api/resources" + target + "/items");
+        patternRequest = new MockHttpServletRequest("GET", "/api/resources" + target + "/items/42");
+        unmatchedRequest = new MockHttpServletRequest("GET", "/api/missing/items");
+    }
+
+    @Benchmark
+    public Object staticRoute() {
+        return handlerMapping.getHandler(staticRequest);
+    }
+
+    @Benchmark
+    public Object patternRoute() {
+        return handlerMapping.getHandler(patternRequest);
+    }
+
+    @Benchmark
+    public Object unmatched() {
+        return handlerMapping.getHandler(unmatchedRequest);
+    }
+
+    public static class NoopController {
+
+        public ModelAndView handle() {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.interface21.webmvc.servlet.mvc.tobe;
+
+import com.interface21.web.bind.annotation.PathVariable;
+import com.interface21.web.bind.annotation.RequestMethod;
+import com.interface21.web.bind.annotation.RequestParam;
+import com.interface21.web.method.support.HandlerMethodArgumentResolver;
+import com.interface21.webmvc.servlet.ModelAndView;
+import com.interface21.webmvc.servlet.mvc.HandlerMapping;
+import com.interface21.webmvc.servlet.mvc.tobe.support.HttpRequestArgumentResolver;
+import com.interface21.webmvc.servlet.mvc.tobe.support.HttpResponseArgumentResolver;
+import com.interface21.webmvc.servlet.mvc.tobe.support.ModelArgumentResolver;
+import com.interface21.webmvc.servlet.mvc.tobe.support.PathVariableArgumentResolver;
+import com.interface21.webmvc.servlet.mvc.tobe.support.RequestParamArgumentResolver;
+import com.interface21.webmvc.servlet.mvc.tobe.support.RouteTree;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * resolver 종류별 {@link HandlerExecution#handle} 비용. 핸들러는 인자만 받고 바로 반환한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HandlerExecutionBenchmark {
+
+    private static final List<HandlerMethodArgumentResolver> RESOLVERS = List.of(
+        new HttpRequestArgumentResolver(),
+        new HttpResponseArgumentResolver(),
+        new RequestParamArgumentResolver(),
+        new PathVariableArgumentResolver(),
+        new ModelArgumentResolver()
+    );
+
+    private final MockHttpServletResponse response = new MockHttpServletResponse();
+
+    private HandlerExecution servletExecution;
+    private HandlerExecution requestParamExecution;
+    private HandlerExecution pathVariableExecution;
+    private HandlerExecution modelExecution;
+    private MockHttpServletRequest request;
+
+    @Setup
+    public void setUp() throws Exception {
+        final var controller = new BenchmarkController();
+        servletExecution = create(controller, "servlet", HttpServletRequest.class, HttpServletResponse.class);
+        requestParamExecution = create(controller, "requestParam", String.class, int.class);
+        pathVariableExecution = create(controller, "pathVariable", long.class);
+        modelExecution = create(controller, "model", UserForm.class);
+
+        request = new MockHttpServletRequest("GET", "/users/42");
+        request.addParameter("account", "gugu");
+        request.addParameter("age", "20");
+        final var routeTree = new RouteTree<String>();
+        routeTree.add("/users/{id}", RequestMethod.GET, "user");
+        request.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, routeTree.match("/users/42", RequestMethod.GET));
+    }
+
+    private static HandlerExecution create(final Object controller, final String name, final Class<?>... parameterTypes) throws Exception {
+        return new HandlerExecution(RESOLVERS, controller, BenchmarkController.class.getMethod(name, parameterTypes));
+    }
+
+    @Benchmark
+    public ModelAndView servlet() throws Exception {
+        return servletExecution.handle(request, response);
+    }
+
+    @Benchmark
+    public ModelAndView requestParam() throws Exception {
+        return requestParamExecution.handle(request, response);
+    }
+
+    @Benchmark
+    public ModelAndView pathVariable() throws Exception {
+        return pathVariableExecution.handle(request, response);
+    }
+
+    @Benchmark
+    public ModelAndView model() throws Exception {
+        return modelExecution.handle(request, response);
+    }
+
+    public static class BenchmarkController {
+
+        private static final ModelAndView RESULT = new ModelAndView(null);
+
+        public ModelAndView servlet(final HttpServletRequest request, final HttpServletResponse response) {
+            return RESULT;
+        }
+
+        public ModelAndView requestParam(@RequestParam("account") final String account, @RequestParam("age") final int age) {
+            return RESULT;
+        }
+
+        public ModelAndView pathVariable(@PathVariable("id") final long id) {
+            return RESULT;
+        }
+
+        public ModelAndView model(final UserForm user) {
+            return RESULT;
+        }
+    }
+
+    public static class UserForm {
+
+        private String account;
+        private int age;
+
+        public void setAccount(final String account) {
+            this.account = account;
+        }
+
+        public void setAge(final int age) {
+            this.age = age;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.interface21.webmvc.servlet.view;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 모델 크기에 따른 {@link JsonView#render} 비용. 응답 mock 객체를 만드는 비용도 포함된다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonViewBenchmark {
+
+    private static final int LARGE_MODEL_SIZE = 1_000;
+
+    private final JsonView jsonView = new JsonView();
+    private final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/users");
+
+    private Map<String, Object> smallModel;
+    private Map<String, Object> largeModel;
+
+    @Setup
+    public void setUp() {
+        smallModel = Map.of("user", new User(1, "gugu", "gugu@woowahan.com"));
+        final List<User> users = new ArrayList<>();
+        for (int i = 0; i < LARGE_MODEL_SIZE; i++) {
+            users.add(new User(i, "user" + i, "user" + i + "@woowahan.com"));
+        }
+        largeModel = Map.of("users", users);
+    }
+
+    @Benchmark
+    public int smallModel() throws Exception {
+        final var response = new MockHttpServletResponse();
+        jsonView.render(smallModel, request, response);
+        return response.getContentLength();
+    }
+
+    @Benchmark
+    public int largeModel() throws Exception {
+        final var response = new MockHttpServletResponse();
+        jsonView.render(largeModel, request, response);
+        return response.getContentLength();
+    }
+
+    public record User(long id, String account, String email) {
+    }
+}
@@ -1,12 +1,21 @@
 package com.interface21.web;
 
+import com.interface21.context.ApplicationContext;
 import com.interface21.context.support.AnnotationConfigWebApplicationContext;
+import com.interface21.webmvc.servlet.cache.ResponseCache;
+import com.interface21.webmvc.servlet.compress.ResponseCompressor;
+import com.interface21.webmvc.servlet.metrics.MetricsServlet;
+import com.interface21.webmvc.servlet.metrics.RequestMetrics;
 import com.interface21.webmvc.servlet.mvc.DispatcherServlet;
 import com.interface21.webmvc.servlet.mvc.asis.ControllerHandlerAdapter;
 import com.interface21.webmvc.servlet.mvc.asis.ManualHandlerMapping;
 import com.interface21.webmvc.servlet.mvc.tobe.AnnotationHandlerMapping;
 import com.interface21.webmvc.servlet.mvc.tobe.HandlerExecutionHandlerAdapter;
+import com.interface21.webmvc.servlet.view.ContentNegotiator;
+import com.interface21.webmvc.servlet.view.ObjectWriterRegistry;
 import jakarta.servlet.ServletContext;
+import jakarta.servlet.ServletContextEvent;
+import jakarta.servlet.ServletContextListener;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -14,21 +23,85 @@ public class MyWebApplicationInitializer implements WebApplicationInitializer {
 
     private static final Logger log = LoggerFactory.getLogger(MyWebApplicationInitializer.class);
 
+    private static final String VIRTUAL_THREADS_PROPERTY = "interface21.dispatcher.virtual-threads";
+    private static final String METRICS_PATH_PROPERTY = "interface21.metrics.path";
+    private static final String DEFAULT_METRICS_PATH = "/metrics";
+    private static final String SERVER_TIMING_SAMPLE_RATE_PROPERTY = "interface21.server-timing.sample-rate";
+    private static final String DEFAULT_SERVER_TIMING_SAMPLE_RATE = "0.01";
+
     @Override
     public void onStartup(final ServletContext container) {
-        final var applicationContext = new AnnotationConfigWebApplicationContext();
+        final var applicationContext = new AnnotationConfigWebApplicationContext("camp.nextstep");
+        closeOnShutdown(container, applicationContext);
+        configureJsonView(applicationContext);
 
         final var dispatcherServlet = new DispatcherServlet();
+        dispatcherServlet.setDispatchOnVirtualThreads(Boolean.getBoolean(VIRTUAL_THREADS_PROPERTY));
+        dispatcherServlet.setResponseCompressor(new ResponseCompressor());
+        dispatcherServlet.setResponseCache(getResponseCache(applicationContext));
+        final var requestMetrics = getRequestMetrics(applicationContext);
+        dispatcherServlet.setRequestMetrics(requestMetrics);
+        dispatcherServlet.setServerTimingSampleRate(Double.parseDouble(
+            System.getProperty(SERVER_TIMING_SAMPLE_RATE_PROPERTY, DEFAULT_SERVER_TIMING_SAMPLE_RATE)));
         dispatcherServlet.addHandlerMapping(new ManualHandlerMapping());
-        dispatcherServlet.addHandlerMapping(new AnnotationHandlerMapping("camp.nextstep.controller"));
+        dispatcherServlet.addHandlerMapping(new AnnotationHandlerMapping(applicationContext));
 
         dispatcherServlet.addHandlerAdapter(new ControllerHandlerAdapter());
         dispatcherServlet.addHandlerAdapter(new HandlerExecutionHandlerAdapter());
 
         final var dispatcher = container.addServlet("dispatcher", dispatcherServlet);
         dispatcher.setLoadOnStartup(1);
+        dispatcher.setAsyncSupported(true);
         dispatcher.addMapping("/");
 
+        registerMetricsServlet(container, requestMetrics);
+
         log.info("Start AppWebApplication Initializer");
     }
+
+    /**
+     * 웹 애플리케이션이 내려갈 때 컨텍스트를 닫아 {@code @Async} 와 이벤트 executor 의 스레드를 멈춘다.
+     */
+    private void closeOnShutdown(final ServletContext container, final ApplicationContext applicationContext) {
+        container.addListener(new ServletContextListener() {
+            @Override
+            public void contextDestroyed(final ServletContextEvent event) {
+                applicationContext.close();
+                log.info("Closed application context");
+            }
+        });
+    }
+
+    private ResponseCache getResponseCache(final ApplicationContext applicationContext) {
+        final var responseCache = applicationContext.getBean(ResponseCache.class);
+        return responseCache != null ? responseCache : new ResponseCache();
+    }
+
+    private RequestMetrics getRequestMetrics(final ApplicationContext applicationContext) {
+        final var requestMetrics = applicationContext.getBean(RequestMetrics.class);
+        return requestMetrics != null ? requestMetrics : new RequestMetrics();
+    }
+
+    /**
+     * 시스템 프로퍼티로 경로를 바꿀 수 있고, 빈 값이면 등록하지 않는다.
+     */
+    private void registerMetricsServlet(final ServletContext container, final RequestMetrics requestMetrics) {
+        final var path = System.getProperty(METRICS_PATH_PROPERTY, DEFAULT_METRICS_PATH);
+        if (path.isBlank()) {
+            return;
+        }
+        container.addServlet("metrics", new MetricsServlet(requestMetrics)).addMapping(path);
+        log.info("Metrics endpoint : {}", path);
+    }
+
+    private void configureJsonView(final ApplicationContext applicationContext) {
+        final var objectWriterRegistry = applicationContext.getBean(ObjectWriterRegistry.class);
+        if (objectWriterRegistry != null) {
+            ObjectWriterRegistry.setSharedInstance(objectWriterRegistry);
+        }
+        final var contentNegotiator = applicationContext.getBean(ContentNegotiator.class);
+        if (contentNegotiator != null) {
+            ContentNegotiator.setSharedInstance(contentNegotiator);
+        }
+    }
 }
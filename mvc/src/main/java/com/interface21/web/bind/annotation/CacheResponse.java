@@ -0,0 +1,29 @@
+package com.interface21.web.bind.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * GET 핸들러의 응답(상태, 헤더, 본문 바이트)을 서버에 캐시한다.
+ * 캐시에 있으면 인자 변환, 핸들러 호출, 뷰 렌더링을 모두 건너뛰고 저장한 응답을 그대로 쓴다.
+ * <p>
+ * 캐시 키는 HTTP 메서드, 요청 URI, {@link #params()} 에 지정한 파라미터 값, {@link #vary()} 에 지정한 헤더 값으로 만든다.
+ * {@link #tags()} 로 묶은 항목은 {@code ResponseCache#evictTag} 로 한 번에 무효화할 수 있다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CacheResponse {
+
+    /**
+     * 캐시를 유지하는 시간(초).
+     */
+    long ttl();
+
+    String[] params() default {};
+
+    String[] vary() default {};
+
+    String[] tags() default {};
+}
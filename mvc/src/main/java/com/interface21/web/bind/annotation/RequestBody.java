@@ -0,0 +1,17 @@
+package com.interface21.web.bind.annotation;
+
+import java.lang.annotation.*;
+
+/**
+ * 요청 본문의 JSON 을 파라미터 타입으로 읽는다. 제네릭 타입(예: {@code List<User>})도 그대로 읽는다.
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface RequestBody {
+
+    /**
+     * false 면 본문이 비어 있을 때 null 을 넘긴다.
+     */
+    boolean required() default true;
+}
@@ -11,4 +11,20 @@ public @interface RequestMapping {
     String value() default "";
 
     RequestMethod[] method() default {};
+
+    /**
+     * 요청의 Content-Type 이 이 미디어 타입 중 하나에 포함될 때만 매핑한다. 비어 있으면 검사하지 않는다.
+     */
+    String[] consumes() default {};
+
+    /**
+     * 핸들러가 응답할 수 있는 미디어 타입. 같은 URL 과 메서드에 여러 핸들러가 있으면 Accept 헤더로 고르고,
+     * 뷰는 이 중에서 응답 형식을 고른다. 비어 있으면 검사하지 않는다.
+     */
+    String[] produces() default {};
+
+    /**
+     * 핸들러가 {@code CompletionStage} 를 반환할 때 결과를 기다리는 최대 시간(ms). 음수면 컨테이너의 기본값을 사용한다.
+     */
+    long timeout() default -1;
 }
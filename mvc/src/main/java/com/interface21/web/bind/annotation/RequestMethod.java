@@ -1,5 +1,25 @@
 package com.interface21.web.bind.annotation;
 
 public enum RequestMethod {
-    GET, HEAD, POST, PUT, PATCH, DELETE, OPTIONS, TRACE
+    GET, HEAD, POST, PUT, PATCH, DELETE, OPTIONS, TRACE;
+
+    /**
+     * 요청의 HTTP 메서드 문자열을 새 문자열을 만들지 않고 해석한다. 알 수 없는 메서드면 {@code null} 을 반환한다.
+     */
+    public static RequestMethod resolve(final String method) {
+        if (method == null) {
+            return null;
+        }
+        return switch (method) {
+            case "GET" -> GET;
+            case "HEAD" -> HEAD;
+            case "POST" -> POST;
+            case "PUT" -> PUT;
+            case "PATCH" -> PATCH;
+            case "DELETE" -> DELETE;
+            case "OPTIONS" -> OPTIONS;
+            case "TRACE" -> TRACE;
+            default -> null;
+        };
+    }
 }
@@ -1,5 +1,221 @@
 package com.interface21.web.http;
 
-public class MediaType {
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@code type/subtype;parameter=value} 형태의 미디어 타입. Accept 헤더의 미디어 범위(예: {@code text/*})와 q 값도 표현한다.
+ * <p>
+ * type, subtype, 파라미터 이름은 소문자로 바꿔 둔다. q 값은 파라미터에 넣지 않고 {@link #getQuality()} 로만 꺼낸다.
+ */
+public final class MediaType {
+
+    public static final String ALL_VALUE = "*/*";
+    public static final String APPLICATION_JSON_VALUE = "application/json";
     public static final String APPLICATION_JSON_UTF8_VALUE = "application/json;charset=UTF-8";
+    public static final String APPLICATION_SMILE_VALUE = "application/x-jackson-smile";
+
+    public static final MediaType ALL = parse(ALL_VALUE);
+    public static final MediaType APPLICATION_JSON = parse(APPLICATION_JSON_VALUE);
+    public static final MediaType APPLICATION_JSON_UTF8 = parse(APPLICATION_JSON_UTF8_VALUE);
+    public static final MediaType APPLICATION_SMILE = parse(APPLICATION_SMILE_VALUE);
+
+    private static final String WILDCARD = "*";
+    private static final String QUALITY_PARAMETER = "q";
+    private static final List<MediaType> ALL_LIST = List.of(ALL);
+    private static final int MEDIA_TYPES_CACHE_LIMIT = 256;
+    private static final Map<String, List<MediaType>> mediaTypesCache = new ConcurrentHashMap<>();
+
+    private final String type;
+    private final String subtype;
+    private final Map<String, String> parameters;
+    private final double quality;
+    private final String value;
+
+    private MediaType(final String type, final String subtype, final Map<String, String> parameters, final double quality) {
+        this.type = type;
+        this.subtype = subtype;
+        this.parameters = parameters;
+        this.quality = quality;
+        final var value = new StringBuilder(type).append('/').append(subtype);
+        parameters.forEach((name, parameterValue) -> value.append(';').append(name).append('=').append(parameterValue));
+        this.value = value.toString();
+    }
+
+    /**
+     * @throws IllegalArgumentException 형식이 잘못된 경우
+     */
+    public static MediaType parse(final String mediaType) {
+        if (mediaType == null || mediaType.isBlank()) {
+            throw new IllegalArgumentException("Media type must not be empty");
+        }
+        final var parts = mediaType.split(";");
+        final var fullType = parts[0].strip().toLowerCase(Locale.ROOT);
+        final var types = ALL_VALUE.equals(fullType) || WILDCARD.equals(fullType)
+            ? new String[]{WILDCARD, WILDCARD}
+            : fullType.split("/", -1);
+        if (types.length != 2 || types[0].isEmpty() || types[1].isEmpty()
+            || WILDCARD.equals(types[0]) && !WILDCARD.equals(types[1])) {
+            throw new IllegalArgumentException("Invalid media type: " + mediaType);
+        }
+
+        final var parameters = new LinkedHashMap<String, String>();
+        double quality = 1.0;
+        for (int i = 1; i < parts.length; i++) {
+            final var parameter = parts[i].strip();
+            if (parameter.isEmpty()) {
+                continue;
+            }
+            final int separator = parameter.indexOf('=');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Invalid media type parameter: " + mediaType);
+            }
+            final var name = parameter.substring(0, separator).strip().toLowerCase(Locale.ROOT);
+            final var parameterValue = unquote(parameter.substring(separator + 1).strip());
+            if (QUALITY_PARAMETER.equals(name)) {
+                quality = parseQuality(parameterValue, mediaType);
+            } else {
+                parameters.put(name, parameterValue);
+            }
+        }
+        return new MediaType(types[0], types[1], Collections.unmodifiableMap(parameters), quality);
+    }
+
+    /**
+     * 쉼표로 구분한 목록(Accept 헤더 등)을 읽는다. 형식이 잘못된 항목은 건너뛰고, 비어 있으면 {@link #ALL} 만 담아 반환한다.
+     * 요청마다 같은 헤더 값이 반복되므로 파싱한 결과를 일정 개수까지 캐시한다.
+     */
+    public static List<MediaType> parseMediaTypes(final String mediaTypes) {
+        if (mediaTypes == null || mediaTypes.isBlank()) {
+            return ALL_LIST;
+        }
+        final var cached = mediaTypesCache.get(mediaTypes);
+        if (cached != null) {
+            return cached;
+        }
+        final List<MediaType> parsed = new ArrayList<>();
+        for (String element : mediaTypes.split(",")) {
+            try {
+                parsed.add(parse(element));
+            } catch (IllegalArgumentException e) {
+                // 해석할 수 없는 항목은 없는 것으로 본다.
+            }
+        }
+        final var result = List.copyOf(parsed);
+        if (mediaTypesCache.size() < MEDIA_TYPES_CACHE_LIMIT) {
+            mediaTypesCache.putIfAbsent(mediaTypes, result);
+        }
+        return result;
+    }
+
+    /**
+     * 이 타입이 미디어 범위로서 {@code other} 를 포함하는지. 파라미터는 비교하지 않는다.
+     */
+    public boolean includes(final MediaType other) {
+        if (isWildcardType()) {
+            return true;
+        }
+        if (!type.equals(other.type)) {
+            return false;
+        }
+        return isWildcardSubtype() || subtype.equals(other.subtype);
+    }
+
+    public boolean isCompatibleWith(final MediaType other) {
+        return includes(other) || other.includes(this);
+    }
+
+    /**
+     * {@code acceptedTypes} 중 이 타입을 포함하는 가장 구체적인 범위의 q 값. 포함하는 범위가 없으면 0 이다.
+     */
+    public double getAcceptedQuality(final List<MediaType> acceptedTypes) {
+        double quality = 0;
+        int specificity = -1;
+        for (MediaType acceptedType : acceptedTypes) {
+            if (acceptedType.includes(this) && acceptedType.getSpecificity() > specificity) {
+                quality = acceptedType.quality;
+                specificity = acceptedType.getSpecificity();
+            }
+        }
+        return quality;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public String getSubtype() {
+        return subtype;
+    }
+
+    public String getParameter(final String name) {
+        return parameters.get(name.toLowerCase(Locale.ROOT));
+    }
+
+    public Map<String, String> getParameters() {
+        return parameters;
+    }
+
+    public double getQuality() {
+        return quality;
+    }
+
+    public boolean isWildcardType() {
+        return WILDCARD.equals(type);
+    }
+
+    public boolean isWildcardSubtype() {
+        return WILDCARD.equals(subtype);
+    }
+
+    private int getSpecificity() {
+        if (isWildcardType()) {
+            return 0;
+        }
+        return isWildcardSubtype() ? 1 : 2;
+    }
+
+    private static String unquote(final String value) {
+        if (value.length() >= 2 && value.charAt(0) == '"' && value.charAt(value.length() - 1) == '"') {
+            return value.substring(1, value.length() - 1);
+        }
+        return value;
+    }
+
+    private static double parseQuality(final String value, final String mediaType) {
+        try {
+            final double quality = Double.parseDouble(value);
+            if (quality < 0 || quality > 1) {
+                throw new IllegalArgumentException("Invalid quality value: " + mediaType);
+            }
+            return quality;
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid quality value: " + mediaType, e);
+        }
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (!(o instanceof final MediaType that)) return false;
+        return value.equals(that.value) && quality == that.quality;
+    }
+
+    @Override
+    public int hashCode() {
+        return value.hashCode();
+    }
+
+    /**
+     * q 값을 뺀 {@code type/subtype;name=value} 형태. Content-Type 헤더에 그대로 쓸 수 있다.
+     */
+    @Override
+    public String toString() {
+        return value;
+    }
 }
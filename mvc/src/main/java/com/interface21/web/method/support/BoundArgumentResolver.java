@@ -0,0 +1,13 @@
+package com.interface21.web.method.support;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * 파라미터 하나에 미리 묶인 resolver. 어떤 resolver 를 쓸지와 어노테이션 값은 핸들러를 등록할 때 정해진다.
+ */
+@FunctionalInterface
+public interface BoundArgumentResolver {
+
+    Object resolve(HttpServletRequest request, HttpServletResponse response);
+}
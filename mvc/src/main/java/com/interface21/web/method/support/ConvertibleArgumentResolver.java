@@ -0,0 +1,20 @@
+package com.interface21.web.method.support;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.lang.invoke.MethodHandle;
+
+/**
+ * 요청에서 꺼낸 문자열과 그 문자열을 파라미터 타입으로 바꾸는 MethodHandle 을 따로 제공하는 resolver.
+ * 핸들러 호출기는 기본 타입 파라미터에 문자열을 그대로 넘기고 변환 MethodHandle 을 호출 체인에 끼워 넣어 박싱을 피한다.
+ */
+public interface ConvertibleArgumentResolver extends BoundArgumentResolver {
+
+    String resolveValue(HttpServletRequest request, HttpServletResponse response);
+
+    /**
+     * {@code (String)parameterType} 형태의 MethodHandle.
+     */
+    MethodHandle getConverter();
+}
@@ -9,4 +9,12 @@ public interface HandlerMethodArgumentResolver {
     boolean supportsParameter(MethodParameter parameter);
 
     Object resolveArgument(MethodParameter parameter, HttpServletRequest request, HttpServletResponse response);
+
+    /**
+     * {@link #supportsParameter} 가 true 인 파라미터에 이 resolver 를 묶는다.
+     * 요청마다 반복되는 어노테이션 조회나 타입 검사는 여기서 한 번만 하도록 재정의한다.
+     */
+    default BoundArgumentResolver bind(MethodParameter parameter) {
+        return (request, response) -> resolveArgument(parameter, request, response);
+    }
 }
@@ -8,6 +8,8 @@ public class ModelAndView {
 
     private final View view;
     private final Map<String, Object> model;
+    private Object version;
+    private long lastModified = -1;
 
     public ModelAndView(final View view) {
         this.view = view;
@@ -19,6 +21,22 @@ public class ModelAndView {
         return this;
     }
 
+    /**
+     * 모델의 버전. 지정하면 뷰를 렌더링하기 전에 이 값으로 만든 ETag 로 조건부 요청을 검사해서 본문을 만들지 않고 304 로 응답할 수 있다.
+     */
+    public ModelAndView setVersion(final Object version) {
+        this.version = version;
+        return this;
+    }
+
+    /**
+     * 모델이 마지막으로 바뀐 시각(epoch 밀리초). {@code If-Modified-Since} 검사에 사용한다.
+     */
+    public ModelAndView setLastModified(final long lastModified) {
+        this.lastModified = lastModified;
+        return this;
+    }
+
     public Object getObject(final String attributeName) {
         return model.get(attributeName);
     }
@@ -27,6 +45,14 @@ public class ModelAndView {
         return Collections.unmodifiableMap(model);
     }
 
+    public Object getVersion() {
+        return version;
+    }
+
+    public long getLastModified() {
+        return lastModified;
+    }
+
     public View getView() {
         return view;
     }
@@ -0,0 +1,48 @@
+package com.interface21.webmvc.servlet.cache;
+
+import com.interface21.web.http.HttpHeaders;
+import com.interface21.webmvc.servlet.View;
+import com.interface21.webmvc.servlet.view.ConditionalRequestSupport;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.util.Map;
+
+/**
+ * 캐시에 저장한 응답. 뷰처럼 렌더링하면 저장한 상태와 헤더, 본문 바이트를 그대로 쓴다.
+ * 저장한 ETag 가 {@code If-None-Match} 와 같으면 본문 없이 304 로 응답한다.
+ */
+public class CachedResponse implements View {
+
+    private final int status;
+    private final String contentType;
+    private final String[][] headers;
+    private final byte[] body;
+
+    CachedResponse(final int status, final String contentType, final String[][] headers, final byte[] body) {
+        this.status = status;
+        this.contentType = contentType;
+        this.headers = headers;
+        this.body = body;
+    }
+
+    @Override
+    public void render(final Map<String, ?> model, final HttpServletRequest request, final HttpServletResponse response) throws Exception {
+        response.setStatus(status);
+        String etag = null;
+        for (String[] header : headers) {
+            response.addHeader(header[0], header[1]);
+            if (HttpHeaders.ETAG.equalsIgnoreCase(header[0])) {
+                etag = header[1];
+            }
+        }
+        if (etag != null && ConditionalRequestSupport.checkNotModified(request, response, etag, -1)) {
+            return;
+        }
+        if (contentType != null) {
+            response.setContentType(contentType);
+        }
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+}
@@ -0,0 +1,102 @@
+package com.interface21.webmvc.servlet.cache;
+
+import com.interface21.cache.CacheStats;
+import com.interface21.cache.support.TinyLfuCache;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * {@code @CacheResponse} 핸들러의 응답을 보관한다. 크기 제한과 교체는 {@link TinyLfuCache} 에 맡긴다.
+ * <p>
+ * 핸들러마다 ttl 이 다르므로 만료 시각은 항목마다 저장한다.
+ * 태그 무효화는 태그별 세대 번호를 올리는 방식이다. 항목은 저장할 때의 세대 번호를 함께 들고 있다가
+ * 조회할 때 현재 번호와 다르면 버려진다. 세대 번호는 핸들러를 호출하기 전에 읽어 두므로,
+ * 핸들러가 실행되는 동안 무효화된 응답은 저장되더라도 바로 버려진다.
+ *
+ * @see com.interface21.web.bind.annotation.CacheResponse
+ */
+public class ResponseCache {
+
+    public static final long DEFAULT_MAXIMUM_SIZE = 10_000;
+
+    private static final long[] NO_VERSIONS = new long[0];
+
+    private final TinyLfuCache cache;
+    private final LongSupplier ticker;
+    private final ConcurrentHashMap<String, AtomicLong> tagVersions = new ConcurrentHashMap<>();
+
+    public ResponseCache() {
+        this(DEFAULT_MAXIMUM_SIZE);
+    }
+
+    public ResponseCache(final long maximumSize) {
+        this(maximumSize, System::nanoTime);
+    }
+
+    ResponseCache(final long maximumSize, final LongSupplier ticker) {
+        this.cache = new TinyLfuCache("responses", maximumSize, Duration.ZERO);
+        this.ticker = ticker;
+    }
+
+    public CachedResponse get(final String key) {
+        final var entry = (Entry) cache.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (ticker.getAsLong() - entry.expiresAt >= 0 || isStale(entry)) {
+            cache.evict(key);
+            return null;
+        }
+        return entry.response;
+    }
+
+    /**
+     * 핸들러를 호출하기 전에 읽어서 {@link #put} 에 넘긴다.
+     */
+    public long[] getTagVersions(final String[] tags) {
+        if (tags.length == 0) {
+            return NO_VERSIONS;
+        }
+        final long[] versions = new long[tags.length];
+        for (int i = 0; i < tags.length; i++) {
+            versions[i] = currentVersion(tags[i]);
+        }
+        return versions;
+    }
+
+    public void put(final String key, final CachedResponse response, final ResponseCachePolicy policy, final long[] versions) {
+        cache.put(key, new Entry(response, ticker.getAsLong() + policy.getTtlNanos(), policy.getTags(), versions));
+    }
+
+    public void evictTag(final String tag) {
+        tagVersions.computeIfAbsent(tag, key -> new AtomicLong()).incrementAndGet();
+    }
+
+    public void clear() {
+        cache.clear();
+    }
+
+    public CacheStats getStats() {
+        return cache.getStats();
+    }
+
+    private boolean isStale(final Entry entry) {
+        for (int i = 0; i < entry.tags.length; i++) {
+            if (currentVersion(entry.tags[i]) != entry.versions[i]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private long currentVersion(final String tag) {
+        final var version = tagVersions.get(tag);
+        return version == null ? 0 : version.get();
+    }
+
+    private record Entry(CachedResponse response, long expiresAt, String[] tags, long[] versions) {
+    }
+}
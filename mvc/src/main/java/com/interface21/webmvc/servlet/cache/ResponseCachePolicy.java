@@ -0,0 +1,74 @@
+package com.interface21.webmvc.servlet.cache;
+
+import com.interface21.web.bind.annotation.CacheResponse;
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 핸들러 메서드에 붙은 {@link CacheResponse} 를 핸들러를 등록할 때 한 번 읽어 둔 것.
+ */
+public class ResponseCachePolicy {
+
+    private static final char SEPARATOR = '\u0000';
+
+    private final long ttlNanos;
+    private final String[] params;
+    private final String[] vary;
+    private final String[] tags;
+
+    public ResponseCachePolicy(final CacheResponse cacheResponse) {
+        if (cacheResponse.ttl() <= 0) {
+            throw new IllegalArgumentException("ttl must be positive : " + cacheResponse.ttl());
+        }
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(cacheResponse.ttl());
+        this.params = cacheResponse.params();
+        this.vary = cacheResponse.vary();
+        this.tags = cacheResponse.tags();
+    }
+
+    /**
+     * {@link CacheResponse} 가 없으면 {@code null} 을 반환한다.
+     */
+    public static ResponseCachePolicy of(final Method method) {
+        final var cacheResponse = method.getAnnotation(CacheResponse.class);
+        return cacheResponse == null ? null : new ResponseCachePolicy(cacheResponse);
+    }
+
+    public String createKey(final HttpServletRequest request) {
+        final var key = new StringBuilder(64)
+            .append(request.getMethod())
+            .append(' ')
+            .append(request.getRequestURI());
+        for (String param : params) {
+            key.append(SEPARATOR).append(param).append('=');
+            final var values = request.getParameterValues(param);
+            if (values != null) {
+                for (String value : values) {
+                    key.append(value).append(SEPARATOR);
+                }
+            }
+        }
+        for (String header : vary) {
+            key.append(SEPARATOR).append(header).append(':');
+            final var value = request.getHeader(header);
+            if (value != null) {
+                key.append(value);
+            }
+        }
+        return key.toString();
+    }
+
+    public long getTtlNanos() {
+        return ttlNanos;
+    }
+
+    public String[] getVary() {
+        return vary;
+    }
+
+    public String[] getTags() {
+        return tags;
+    }
+}
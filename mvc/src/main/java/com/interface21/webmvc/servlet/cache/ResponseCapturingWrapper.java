@@ -0,0 +1,235 @@
+package com.interface21.webmvc.servlet.cache;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 뷰가 쓰는 상태, 헤더, 본문을 그대로 전달하면서 캐시에 저장할 수 있도록 기록한다.
+ * 핸들러가 wrapper 를 만들기 전에 원래 응답에 설정한 상태와 헤더도 함께 기록한다.
+ * 200 이 아니거나, 에러/리다이렉트를 보냈거나, 쿠키를 설정한 응답은 저장하지 않는다.
+ * 뷰가 {@code Vary} 로 알린 요청 헤더는 {@link #variesOnlyBy} 로 캐시 키에 들어 있는지 확인해야 한다.
+ */
+public class ResponseCapturingWrapper extends HttpServletResponseWrapper {
+
+    private static final DateTimeFormatter HTTP_DATE = DateTimeFormatter.RFC_1123_DATE_TIME.withZone(ZoneOffset.UTC);
+
+    private final List<String[]> headers = new ArrayList<>();
+    private final List<String> varyHeaderNames = new ArrayList<>();
+    private final ByteArrayOutputStream body = new ByteArrayOutputStream();
+    private int status;
+    private boolean cacheable = true;
+    private TeeOutputStream outputStream;
+    private PrintWriter writer;
+
+    public ResponseCapturingWrapper(final HttpServletResponse response) {
+        super(response);
+        this.status = response.getStatus();
+        for (String name : response.getHeaderNames()) {
+            for (String value : response.getHeaders(name)) {
+                record(name, value);
+            }
+        }
+    }
+
+    @Override
+    public void setStatus(final int status) {
+        this.status = status;
+        super.setStatus(status);
+    }
+
+    @Override
+    public void sendError(final int status) throws IOException {
+        cacheable = false;
+        super.sendError(status);
+    }
+
+    @Override
+    public void sendError(final int status, final String message) throws IOException {
+        cacheable = false;
+        super.sendError(status, message);
+    }
+
+    @Override
+    public void sendRedirect(final String location) throws IOException {
+        cacheable = false;
+        super.sendRedirect(location);
+    }
+
+    @Override
+    public void addCookie(final Cookie cookie) {
+        cacheable = false;
+        super.addCookie(cookie);
+    }
+
+    @Override
+    public void setHeader(final String name, final String value) {
+        headers.removeIf(header -> header[0].equalsIgnoreCase(name));
+        if ("vary".equalsIgnoreCase(name)) {
+            varyHeaderNames.clear();
+        }
+        record(name, value);
+        super.setHeader(name, value);
+    }
+
+    @Override
+    public void addHeader(final String name, final String value) {
+        record(name, value);
+        super.addHeader(name, value);
+    }
+
+    @Override
+    public void setDateHeader(final String name, final long date) {
+        headers.removeIf(header -> header[0].equalsIgnoreCase(name));
+        record(name, HTTP_DATE.format(Instant.ofEpochMilli(date)));
+        super.setDateHeader(name, date);
+    }
+
+    @Override
+    public void addDateHeader(final String name, final long date) {
+        record(name, HTTP_DATE.format(Instant.ofEpochMilli(date)));
+        super.addDateHeader(name, date);
+    }
+
+    @Override
+    public void setIntHeader(final String name, final int value) {
+        headers.removeIf(header -> header[0].equalsIgnoreCase(name));
+        record(name, Integer.toString(value));
+        super.setIntHeader(name, value);
+    }
+
+    @Override
+    public void addIntHeader(final String name, final int value) {
+        record(name, Integer.toString(value));
+        super.addIntHeader(name, value);
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+        if (outputStream == null) {
+            outputStream = new TeeOutputStream(super.getOutputStream());
+        }
+        return outputStream;
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+        if (writer == null) {
+            writer = new PrintWriter(new OutputStreamWriter(getOutputStream(), getCharacterEncoding()));
+        }
+        return writer;
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+        if (writer != null) {
+            writer.flush();
+        }
+        super.flushBuffer();
+    }
+
+    /**
+     * 응답의 {@code Vary} 헤더가 {@code headerNames} 밖의 요청 헤더를 가리키지 않는지.
+     * 가리키면 같은 캐시 키에 다른 표현(예: Accept 에 따라 고른 JSON 과 Smile)이 저장될 수 있다.
+     */
+    public boolean variesOnlyBy(final String[] headerNames) {
+        for (String varyHeaderName : varyHeaderNames) {
+            if (!containsIgnoreCase(headerNames, varyHeaderName)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 저장할 수 없는 응답이면 {@code null} 을 반환한다.
+     */
+    public CachedResponse toCachedResponse() {
+        if (writer != null) {
+            writer.flush();
+        }
+        if (!cacheable || status != SC_OK) {
+            return null;
+        }
+        return new CachedResponse(status, getContentType(), headers.toArray(String[][]::new), body.toByteArray());
+    }
+
+    private void record(final String name, final String value) {
+        final var lowerCaseName = name.toLowerCase(Locale.ROOT);
+        switch (lowerCaseName) {
+            case "set-cookie" -> cacheable = false;
+            case "content-type", "content-length", "content-encoding", "transfer-encoding", "date", "server-timing" -> {
+            }
+            case "vary" -> {
+                for (String varyHeaderName : value.split(",")) {
+                    varyHeaderNames.add(varyHeaderName.strip());
+                }
+                headers.add(new String[]{name, value});
+            }
+            default -> headers.add(new String[]{name, value});
+        }
+    }
+
+    private static boolean containsIgnoreCase(final String[] values, final String value) {
+        for (String candidate : values) {
+            if (candidate.equalsIgnoreCase(value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private final class TeeOutputStream extends ServletOutputStream {
+
+        private final ServletOutputStream target;
+
+        private TeeOutputStream(final ServletOutputStream target) {
+            this.target = target;
+        }
+
+        @Override
+        public void write(final int b) throws IOException {
+            body.write(b);
+            target.write(b);
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) throws IOException {
+            body.write(b, off, len);
+            target.write(b, off, len);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            target.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            target.close();
+        }
+
+        @Override
+        public boolean isReady() {
+            return target.isReady();
+        }
+
+        @Override
+        public void setWriteListener(final WriteListener writeListener) {
+            target.setWriteListener(writeListener);
+        }
+    }
+}
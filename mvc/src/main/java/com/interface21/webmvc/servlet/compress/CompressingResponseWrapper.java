@@ -0,0 +1,292 @@
+package com.interface21.webmvc.servlet.compress;
+
+import com.interface21.web.http.HttpHeaders;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * 뷰가 쓴 본문을 {@code minSize} 바이트까지 모아 두었다가 압축할지 정한다.
+ * <p>
+ * 본문이 {@code minSize} 를 넘거나 그 전에 flush 되면, Content-Type 이 허용 목록에 있을 때 압축을 시작한다.
+ * 그렇지 않으면 모아 둔 본문을 그대로 쓴다. 뷰가 미리 알려 준 Content-Length 가 {@code minSize} 보다 작으면 모으지 않고 바로 쓴다.
+ * 모아 둔 본문 없이 flush 되거나 응답이 이미 커밋됐으면 압축 헤더를 보낼 수 없으므로 그대로 쓴다.
+ * 압축한 응답의 강한 ETag 는 원본과 바이트가 다르므로 약한 ETag 로 바꾼다.
+ * 렌더링이 끝나면 {@link #finish()} 를 호출해야 압축 trailer 가 쓰이고 Deflater 가 풀로 돌아간다.
+ * 렌더링이 실패해도 Deflater 가 풀로 돌아가도록 {@link #release()} 를 finally 에서 호출한다.
+ */
+public class CompressingResponseWrapper extends HttpServletResponseWrapper {
+
+    private static final byte[] GZIP_HEADER = {0x1f, (byte) 0x8b, Deflater.DEFLATED, 0, 0, 0, 0, 0, 0, (byte) 0xff};
+    private static final int OUTPUT_BUFFER_SIZE = 8_192;
+
+    private final ResponseCompressor compressor;
+    private final ContentCoding coding;
+    private long contentLength = -1;
+    private CompressingOutputStream outputStream;
+    private PrintWriter writer;
+
+    CompressingResponseWrapper(final HttpServletResponse response, final ResponseCompressor compressor, final ContentCoding coding) {
+        super(response);
+        this.compressor = compressor;
+        this.coding = coding;
+    }
+
+    @Override
+    public void setContentLength(final int length) {
+        setContentLengthLong(length);
+    }
+
+    @Override
+    public void setContentLengthLong(final long length) {
+        if (outputStream != null && outputStream.state != State.BUFFERING) {
+            if (outputStream.state == State.PASSTHROUGH) {
+                super.setContentLengthLong(length);
+            }
+            return;
+        }
+        this.contentLength = length;
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+        if (writer != null) {
+            throw new IllegalStateException("getWriter() has already been called");
+        }
+        return getCompressingOutputStream();
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+        if (writer == null) {
+            if (outputStream != null) {
+                throw new IllegalStateException("getOutputStream() has already been called");
+            }
+            writer = new PrintWriter(new OutputStreamWriter(getCompressingOutputStream(), getCharacterEncoding()));
+        }
+        return writer;
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+        if (writer != null) {
+            writer.flush();
+        } else if (outputStream != null) {
+            outputStream.flush();
+        }
+        super.flushBuffer();
+    }
+
+    @Override
+    public void resetBuffer() {
+        if (outputStream != null && outputStream.state == State.BUFFERING) {
+            outputStream.count = 0;
+        }
+        super.resetBuffer();
+    }
+
+    public boolean isCompressed() {
+        return outputStream != null && outputStream.compressed;
+    }
+
+    public void finish() throws IOException {
+        if (writer != null) {
+            writer.close();
+            return;
+        }
+        if (outputStream != null) {
+            outputStream.close();
+            return;
+        }
+        if (contentLength >= 0) {
+            super.setContentLengthLong(contentLength);
+        }
+    }
+
+    /**
+     * 빌린 Deflater 를 풀로 돌려주고 더 쓰지 못하게 한다. {@link #finish()} 한 뒤에는 아무 일도 하지 않는다.
+     */
+    public void release() {
+        if (outputStream != null) {
+            outputStream.release();
+        }
+    }
+
+    private CompressingOutputStream getCompressingOutputStream() throws IOException {
+        if (outputStream == null) {
+            outputStream = new CompressingOutputStream(super.getOutputStream());
+        }
+        return outputStream;
+    }
+
+    private enum State {
+        BUFFERING, PASSTHROUGH, COMPRESSING, CLOSED
+    }
+
+    private final class CompressingOutputStream extends ServletOutputStream {
+
+        private final ServletOutputStream target;
+        private final byte[] buffer;
+        private int count;
+        private State state;
+        private boolean compressed;
+
+        private Deflater deflater;
+        private CRC32 crc;
+        private byte[] output;
+
+        private CompressingOutputStream(final ServletOutputStream target) {
+            this.target = target;
+            this.buffer = new byte[compressor.getMinSize()];
+            this.state = isCommitted() ? State.PASSTHROUGH : State.BUFFERING;
+        }
+
+        @Override
+        public void write(final int b) throws IOException {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) throws IOException {
+            if (state == State.BUFFERING) {
+                if (contentLength >= 0 && contentLength < buffer.length || !compressor.isCompressible(getContentType())) {
+                    startPassthrough();
+                } else if (count + len <= buffer.length) {
+                    System.arraycopy(b, off, buffer, count, len);
+                    count += len;
+                    return;
+                } else {
+                    startCompressing();
+                }
+            }
+            switch (state) {
+                case PASSTHROUGH -> target.write(b, off, len);
+                case COMPRESSING -> deflate(b, off, len);
+                default -> throw new IOException("Stream is closed");
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (state == State.BUFFERING) {
+                if (count > 0 && compressor.isCompressible(getContentType())) {
+                    startCompressing();
+                } else {
+                    startPassthrough();
+                }
+            }
+            if (state == State.COMPRESSING) {
+                int length;
+                do {
+                    length = deflater.deflate(output, 0, output.length, Deflater.SYNC_FLUSH);
+                    target.write(output, 0, length);
+                } while (length == output.length);
+            }
+            target.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (state == State.BUFFERING) {
+                contentLength = count;
+                startPassthrough();
+            }
+            if (state == State.COMPRESSING) {
+                finishCompressing();
+            }
+            state = State.CLOSED;
+        }
+
+        @Override
+        public boolean isReady() {
+            return target.isReady();
+        }
+
+        @Override
+        public void setWriteListener(final WriteListener writeListener) {
+            target.setWriteListener(writeListener);
+        }
+
+        private void startPassthrough() throws IOException {
+            state = State.PASSTHROUGH;
+            if (contentLength >= 0) {
+                CompressingResponseWrapper.super.setContentLengthLong(contentLength);
+            }
+            if (count > 0) {
+                target.write(buffer, 0, count);
+                count = 0;
+            }
+        }
+
+        private void startCompressing() throws IOException {
+            state = State.COMPRESSING;
+            compressed = true;
+            setHeader(HttpHeaders.CONTENT_ENCODING, coding.getToken());
+            addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            final var etag = getHeader(HttpHeaders.ETAG);
+            if (etag != null && !etag.startsWith("W/")) {
+                setHeader(HttpHeaders.ETAG, "W/" + etag);
+            }
+
+            deflater = compressor.getPool(coding).borrow();
+            output = new byte[OUTPUT_BUFFER_SIZE];
+            if (coding == ContentCoding.GZIP) {
+                crc = new CRC32();
+                target.write(GZIP_HEADER);
+            }
+            if (count > 0) {
+                deflate(buffer, 0, count);
+                count = 0;
+            }
+        }
+
+        private void deflate(final byte[] b, final int off, final int len) throws IOException {
+            if (crc != null) {
+                crc.update(b, off, len);
+            }
+            deflater.setInput(b, off, len);
+            while (!deflater.needsInput()) {
+                final int length = deflater.deflate(output, 0, output.length, Deflater.NO_FLUSH);
+                target.write(output, 0, length);
+            }
+        }
+
+        private void finishCompressing() throws IOException {
+            try {
+                deflater.finish();
+                while (!deflater.finished()) {
+                    final int length = deflater.deflate(output, 0, output.length, Deflater.NO_FLUSH);
+                    target.write(output, 0, length);
+                }
+                if (crc != null) {
+                    writeIntLe((int) crc.getValue());
+                    writeIntLe((int) deflater.getBytesRead());
+                }
+            } finally {
+                release();
+            }
+        }
+
+        private void release() {
+            state = State.CLOSED;
+            if (deflater != null) {
+                compressor.getPool(coding).release(deflater);
+                deflater = null;
+            }
+        }
+
+        private void writeIntLe(final int value) throws IOException {
+            target.write(value & 0xff);
+            target.write((value >>> 8) & 0xff);
+            target.write((value >>> 16) & 0xff);
+            target.write((value >>> 24) & 0xff);
+        }
+    }
+}
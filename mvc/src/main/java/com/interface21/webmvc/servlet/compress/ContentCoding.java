@@ -0,0 +1,26 @@
+package com.interface21.webmvc.servlet.compress;
+
+/**
+ * 지원하는 Content-Encoding. gzip 은 헤더와 trailer 를 직접 쓰므로 zlib 래퍼 없는 raw deflate 를 사용한다.
+ */
+enum ContentCoding {
+
+    GZIP("gzip", true),
+    DEFLATE("deflate", false);
+
+    private final String token;
+    private final boolean nowrap;
+
+    ContentCoding(final String token, final boolean nowrap) {
+        this.token = token;
+        this.nowrap = nowrap;
+    }
+
+    String getToken() {
+        return token;
+    }
+
+    boolean isNowrap() {
+        return nowrap;
+    }
+}
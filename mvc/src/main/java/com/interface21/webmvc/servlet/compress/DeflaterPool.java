@@ -0,0 +1,33 @@
+package com.interface21.webmvc.servlet.compress;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.zip.Deflater;
+
+/**
+ * 응답마다 zlib 네이티브 상태를 새로 할당하지 않도록 {@link Deflater} 를 재사용한다.
+ * 풀이 비어 있으면 새로 만들고, 가득 찬 상태에서 반환된 Deflater 는 바로 해제한다.
+ */
+final class DeflaterPool {
+
+    private final int level;
+    private final boolean nowrap;
+    private final ArrayBlockingQueue<Deflater> pool;
+
+    DeflaterPool(final int level, final boolean nowrap, final int capacity) {
+        this.level = level;
+        this.nowrap = nowrap;
+        this.pool = new ArrayBlockingQueue<>(capacity);
+    }
+
+    Deflater borrow() {
+        final var deflater = pool.poll();
+        return deflater != null ? deflater : new Deflater(level, nowrap);
+    }
+
+    void release(final Deflater deflater) {
+        deflater.reset();
+        if (!pool.offer(deflater)) {
+            deflater.end();
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.interface21.webmvc.servlet.compress;
+
+import com.interface21.web.http.HttpHeaders;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.zip.Deflater;
+
+/**
+ * {@code Accept-Encoding} 으로 gzip 또는 deflate 를 고르고 응답을 압축하는 wrapper 를 만든다.
+ * <p>
+ * 본문이 {@code minSize} 바이트보다 작거나 Content-Type 이 허용 목록에 없으면 압축하지 않는다.
+ * 같은 q 값이면 gzip 을 우선한다. Deflater 는 coding 마다 풀에서 빌려 쓴다.
+ */
+public class ResponseCompressor {
+
+    public static final int DEFAULT_MIN_SIZE = 1_024;
+    public static final Set<String> DEFAULT_MIME_TYPES = Set.of(
+        "application/json", "application/javascript", "application/xml",
+        "text/html", "text/plain", "text/css", "text/javascript", "text/xml"
+    );
+
+    private static final int DEFAULT_POOL_SIZE = 64;
+
+    private final int minSize;
+    private final Set<String> mimeTypes;
+    private final Map<ContentCoding, DeflaterPool> pools = new EnumMap<>(ContentCoding.class);
+
+    public ResponseCompressor() {
+        this(DEFAULT_MIN_SIZE, DEFAULT_MIME_TYPES, Deflater.DEFAULT_COMPRESSION, DEFAULT_POOL_SIZE);
+    }
+
+    public ResponseCompressor(final int minSize, final Set<String> mimeTypes, final int level, final int poolSize) {
+        if (minSize <= 0) {
+            throw new IllegalArgumentException("minSize must be positive : " + minSize);
+        }
+        this.minSize = minSize;
+        this.mimeTypes = Set.copyOf(mimeTypes);
+        for (ContentCoding coding : ContentCoding.values()) {
+            pools.put(coding, new DeflaterPool(level, coding.isNowrap(), poolSize));
+        }
+    }
+
+    /**
+     * 클라이언트가 지원하는 coding 이 없으면 {@code null} 을 반환한다.
+     */
+    public CompressingResponseWrapper wrap(final HttpServletRequest request, final HttpServletResponse response) {
+        if ("HEAD".equals(request.getMethod())) {
+            return null;
+        }
+        final var coding = negotiate(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        if (coding == null) {
+            return null;
+        }
+        return new CompressingResponseWrapper(response, this, coding);
+    }
+
+    int getMinSize() {
+        return minSize;
+    }
+
+    DeflaterPool getPool(final ContentCoding coding) {
+        return pools.get(coding);
+    }
+
+    boolean isCompressible(final String contentType) {
+        if (contentType == null) {
+            return false;
+        }
+        final int parameterStart = contentType.indexOf(';');
+        final var mimeType = (parameterStart < 0 ? contentType : contentType.substring(0, parameterStart))
+            .strip()
+            .toLowerCase(Locale.ROOT);
+        return mimeTypes.contains(mimeType);
+    }
+
+    static ContentCoding negotiate(final String acceptEncoding) {
+        if (acceptEncoding == null || acceptEncoding.isBlank()) {
+            return null;
+        }
+        double gzip = -1;
+        double deflate = -1;
+        double wildcard = -1;
+        for (String element : acceptEncoding.split(",")) {
+            final int parameterStart = element.indexOf(';');
+            final var token = (parameterStart < 0 ? element : element.substring(0, parameterStart)).strip();
+            final double quality = parameterStart < 0 ? 1.0 : parseQuality(element.substring(parameterStart + 1));
+            if ("gzip".equalsIgnoreCase(token) || "x-gzip".equalsIgnoreCase(token)) {
+                gzip = Math.max(gzip, quality);
+            } else if ("deflate".equalsIgnoreCase(token)) {
+                deflate = Math.max(deflate, quality);
+            } else if ("*".equals(token)) {
+                wildcard = quality;
+            }
+        }
+        if (gzip < 0) {
+            gzip = wildcard;
+        }
+        if (deflate < 0) {
+            deflate = wildcard;
+        }
+        if (gzip <= 0 && deflate <= 0) {
+            return null;
+        }
+        return gzip >= deflate ? ContentCoding.GZIP : ContentCoding.DEFLATE;
+    }
+
+    private static double parseQuality(final String parameters) {
+        for (String parameter : parameters.split(";")) {
+            final var trimmed = parameter.strip();
+            if (trimmed.startsWith("q=") || trimmed.startsWith("Q=")) {
+                try {
+                    return Double.parseDouble(trimmed.substring(2));
+                } catch (NumberFormatException e) {
+                    return 0;
+                }
+            }
+        }
+        return 1.0;
+    }
+}
@@ -0,0 +1,138 @@
+package com.interface21.webmvc.servlet.metrics;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 응답 본문으로 쓴 바이트 수를 센다. 버퍼를 두지 않고 원래 스트림과 writer 에 바로 넘긴다.
+ * <p>
+ * writer 로 쓴 문자는 UTF-8 이면 인코딩한 길이로, 그 밖의 인코딩이면 문자 수로 센다.
+ */
+public class CountingResponseWrapper extends HttpServletResponseWrapper {
+
+    private long bytesWritten;
+    private CountingOutputStream outputStream;
+    private CountingWriter writer;
+
+    public CountingResponseWrapper(final HttpServletResponse response) {
+        super(response);
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() throws IOException {
+        if (outputStream == null) {
+            outputStream = new CountingOutputStream(super.getOutputStream());
+        }
+        return outputStream;
+    }
+
+    @Override
+    public PrintWriter getWriter() throws IOException {
+        if (writer == null) {
+            final boolean utf8 = StandardCharsets.UTF_8.name().equalsIgnoreCase(getCharacterEncoding());
+            writer = new CountingWriter(super.getWriter(), utf8);
+        }
+        return writer;
+    }
+
+    public long getBytesWritten() {
+        return bytesWritten;
+    }
+
+    private static int utf8Length(final char c) {
+        if (c < 0x80) {
+            return 1;
+        }
+        if (c < 0x800 || Character.isSurrogate(c)) {
+            return 2;
+        }
+        return 3;
+    }
+
+    private final class CountingOutputStream extends ServletOutputStream {
+
+        private final ServletOutputStream target;
+
+        private CountingOutputStream(final ServletOutputStream target) {
+            this.target = target;
+        }
+
+        @Override
+        public void write(final int b) throws IOException {
+            target.write(b);
+            bytesWritten++;
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) throws IOException {
+            target.write(b, off, len);
+            bytesWritten += len;
+        }
+
+        @Override
+        public void flush() throws IOException {
+            target.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            target.close();
+        }
+
+        @Override
+        public boolean isReady() {
+            return target.isReady();
+        }
+
+        @Override
+        public void setWriteListener(final WriteListener writeListener) {
+            target.setWriteListener(writeListener);
+        }
+    }
+
+    private final class CountingWriter extends PrintWriter {
+
+        private final boolean utf8;
+
+        private CountingWriter(final PrintWriter target, final boolean utf8) {
+            super(target);
+            this.utf8 = utf8;
+        }
+
+        @Override
+        public void write(final int c) {
+            super.write(c);
+            bytesWritten += utf8 ? utf8Length((char) c) : 1;
+        }
+
+        @Override
+        public void write(final char[] buf, final int off, final int len) {
+            super.write(buf, off, len);
+            if (!utf8) {
+                bytesWritten += len;
+                return;
+            }
+            for (int i = off; i < off + len; i++) {
+                bytesWritten += utf8Length(buf[i]);
+            }
+        }
+
+        @Override
+        public void write(final String s, final int off, final int len) {
+            super.write(s, off, len);
+            if (!utf8) {
+                bytesWritten += len;
+                return;
+            }
+            for (int i = off; i < off + len; i++) {
+                bytesWritten += utf8Length(s.charAt(i));
+            }
+        }
+    }
+}
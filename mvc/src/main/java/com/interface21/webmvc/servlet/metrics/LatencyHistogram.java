@@ -0,0 +1,168 @@
+package com.interface21.webmvc.servlet.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * HdrHistogram 처럼 2의 거듭제곱 구간마다 같은 개수의 하위 구간을 두는 지연 시간 히스토그램.
+ * <p>
+ * 값은 마이크로초 단위로 기록하며, 64 미만은 정확히, 그 이상은 너비가 값의 1/64(약 1.6%) 이하인 구간에 센다.
+ * quantile 은 구간의 가운데 값으로 보고하므로 상대 오차는 약 0.8% 이내다. 구간은 stripe 마다 약 16KB 를 차지한다.
+ * 약 9.5시간을 넘는 값은 마지막 구간에 센다.
+ * 기록하는 스레드끼리 경합하지 않도록 스레드 id 로 고른 stripe 에 나누어 세고, {@link #snapshot()} 할 때 합친다.
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 6;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int MAX_EXPONENT = 35;
+    static final int BUCKET_COUNT = SUB_BUCKET_COUNT + (MAX_EXPONENT - SUB_BUCKET_BITS + 1) * SUB_BUCKET_COUNT;
+
+    private static final int MAX_STRIPES = 8;
+
+    private final Stripe[] stripes;
+
+    public LatencyHistogram() {
+        this(Math.min(MAX_STRIPES, Integer.highestOneBit(Runtime.getRuntime().availableProcessors() * 2 - 1)));
+    }
+
+    LatencyHistogram(final int stripeCount) {
+        if (Integer.bitCount(stripeCount) != 1) {
+            throw new IllegalArgumentException("stripeCount must be a power of two : " + stripeCount);
+        }
+        this.stripes = new Stripe[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new Stripe();
+        }
+    }
+
+    public void recordNanos(final long nanos) {
+        final long micros = Math.max(0, nanos / 1_000);
+        final var stripe = stripes[stripeIndex()];
+        stripe.counts.incrementAndGet(bucketIndex(micros));
+        stripe.sumNanos.addAndGet(Math.max(0, nanos));
+    }
+
+    public Snapshot snapshot() {
+        final long[] counts = new long[BUCKET_COUNT];
+        long count = 0;
+        long sumNanos = 0;
+        for (Stripe stripe : stripes) {
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                final long bucketCount = stripe.counts.get(i);
+                counts[i] += bucketCount;
+                count += bucketCount;
+            }
+            sumNanos += stripe.sumNanos.get();
+        }
+        return new Snapshot(counts, count, sumNanos);
+    }
+
+    private int stripeIndex() {
+        final int hash = (int) Thread.currentThread().getId() * 0x9E3779B9;
+        return (hash >>> 16) & (stripes.length - 1);
+    }
+
+    static int bucketIndex(final long micros) {
+        if (micros < SUB_BUCKET_COUNT) {
+            return (int) micros;
+        }
+        final int exponent = 63 - Long.numberOfLeadingZeros(micros);
+        if (exponent > MAX_EXPONENT) {
+            return BUCKET_COUNT - 1;
+        }
+        final int subBucket = (int) (micros >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKET_COUNT - 1);
+        return SUB_BUCKET_COUNT + (exponent - SUB_BUCKET_BITS) * SUB_BUCKET_COUNT + subBucket;
+    }
+
+    /**
+     * 구간에 속하는 값의 가운데 값을 마이크로초로 반환한다.
+     */
+    static long bucketMidpoint(final int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        final int shift = (index - SUB_BUCKET_COUNT) / SUB_BUCKET_COUNT;
+        return bucketLowest(index) + ((1L << shift) >>> 1);
+    }
+
+    /**
+     * 구간에 속하는 가장 작은 값을 마이크로초로 반환한다.
+     */
+    static long bucketLowest(final int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        final int shift = (index - SUB_BUCKET_COUNT) / SUB_BUCKET_COUNT;
+        final int subBucket = (index - SUB_BUCKET_COUNT) % SUB_BUCKET_COUNT;
+        return (long) (SUB_BUCKET_COUNT + subBucket) << shift;
+    }
+
+    private static final class Stripe {
+
+        private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+        private final AtomicLong sumNanos = new AtomicLong();
+    }
+
+    public static final class Snapshot {
+
+        private final long[] counts;
+        private final long count;
+        private final long sumNanos;
+
+        private Snapshot(final long[] counts, final long count, final long sumNanos) {
+            this.counts = counts;
+            this.count = count;
+            this.sumNanos = sumNanos;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public long getSumNanos() {
+            return sumNanos;
+        }
+
+        /**
+         * @param quantile 0 이상 1 이하
+         * @return 기록된 값이 없으면 0
+         */
+        public long getValueAtQuantileMicros(final double quantile) {
+            if (count == 0) {
+                return 0;
+            }
+            final long rank = Math.max(1, (long) Math.ceil(quantile * count));
+            long cumulative = 0;
+            for (int i = 0; i < counts.length; i++) {
+                cumulative += counts[i];
+                if (cumulative >= rank) {
+                    return bucketMidpoint(i);
+                }
+            }
+            return bucketMidpoint(counts.length - 1);
+        }
+
+        /**
+         * 경계마다 그 값 이하로 기록된 수를 누적해 반환한다.
+         * 경계가 걸친 구간은 통째로 세므로 경계보다 최대 약 1.6% 큰 값까지 포함될 수 있다.
+         *
+         * @param upperBoundsMicros 오름차순으로 정렬된 경계
+         */
+        public long[] getCumulativeCounts(final long[] upperBoundsMicros) {
+            final long[] cumulativeCounts = new long[upperBoundsMicros.length];
+            long cumulative = 0;
+            int bound = 0;
+            for (int i = 0; i < counts.length && bound < upperBoundsMicros.length; i++) {
+                while (bound < upperBoundsMicros.length && bucketLowest(i) > upperBoundsMicros[bound]) {
+                    cumulativeCounts[bound++] = cumulative;
+                }
+                cumulative += counts[i];
+            }
+            while (bound < upperBoundsMicros.length) {
+                cumulativeCounts[bound++] = cumulative;
+            }
+            return cumulativeCounts;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.interface21.webmvc.servlet.metrics;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+/**
+ * {@link RequestMetrics} 를 Prometheus text format 으로 응답한다.
+ */
+public class MetricsServlet extends HttpServlet {
+
+    private static final long serialVersionUID = 1L;
+    private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private final transient RequestMetrics requestMetrics;
+
+    public MetricsServlet(final RequestMetrics requestMetrics) {
+        this.requestMetrics = requestMetrics;
+    }
+
+    @Override
+    protected void doGet(final HttpServletRequest request, final HttpServletResponse response) throws IOException {
+        final var body = new StringWriter();
+        requestMetrics.writePrometheus(body);
+        response.setContentType(CONTENT_TYPE);
+        response.getWriter().write(body.toString());
+    }
+}
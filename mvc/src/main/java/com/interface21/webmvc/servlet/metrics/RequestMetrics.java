@@ -0,0 +1,146 @@
+package com.interface21.webmvc.servlet.metrics;
+
+import com.interface21.web.bind.annotation.RequestMethod;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 라우트 패턴과 메서드별 {@link RouteMetrics} 와 처리 중인 요청 수를 모으고 Prometheus text format 으로 쓴다.
+ * <p>
+ * 지연 시간은 누적 버킷을 담은 histogram 으로, 상태 코드별 요청 수와 응답 바이트 수는 counter 로 내보낸다.
+ * 히스토그램은 초기화하지 않고 계속 누적하므로, quantile 은 Prometheus 에서 {@code histogram_quantile} 과 {@code rate} 로
+ * 원하는 구간에 대해 계산한다.
+ * 핸들러를 찾지 못한 요청은 {@value #UNMATCHED_ROUTE} 라우트로 모으고, 알 수 없는 HTTP 메서드는 기록하지 않는다.
+ */
+public class RequestMetrics {
+
+    public static final String UNMATCHED_ROUTE = "UNMATCHED";
+
+    private static final double[] BUCKET_BOUNDS_SECONDS = {0.001, 0.0025, 0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10};
+    private static final long[] BUCKET_BOUNDS_MICROS = Arrays.stream(BUCKET_BOUNDS_SECONDS)
+        .mapToLong(seconds -> Math.round(seconds * 1_000_000))
+        .toArray();
+    private static final int METHOD_COUNT = RequestMethod.values().length;
+
+    private final ConcurrentHashMap<String, AtomicReferenceArray<RouteMetrics>> routes = new ConcurrentHashMap<>();
+    private final LongAdder inFlight = new LongAdder();
+
+    public void requestStarted() {
+        inFlight.increment();
+    }
+
+    /**
+     * @param route 핸들러를 찾지 못했으면 null
+     */
+    public void requestFinished(final String method, final String route, final int status, final long nanos, final long bytes) {
+        inFlight.decrement();
+        final var requestMethod = RequestMethod.resolve(method);
+        if (requestMethod == null) {
+            return;
+        }
+        getRouteMetrics(requestMethod, route == null ? UNMATCHED_ROUTE : route).record(status, nanos, bytes);
+    }
+
+    public long getInFlight() {
+        return inFlight.sum();
+    }
+
+    /**
+     * @return 기록된 적이 없으면 null
+     */
+    public RouteMetrics getRouteMetrics(final String method, final String route) {
+        final var requestMethod = RequestMethod.resolve(method);
+        final var byMethod = routes.get(route);
+        return requestMethod == null || byMethod == null ? null : byMethod.get(requestMethod.ordinal());
+    }
+
+    private RouteMetrics getRouteMetrics(final RequestMethod requestMethod, final String route) {
+        var byMethod = routes.get(route);
+        if (byMethod == null) {
+            byMethod = routes.computeIfAbsent(route, ignored -> new AtomicReferenceArray<>(METHOD_COUNT));
+        }
+        final int index = requestMethod.ordinal();
+        final var metrics = byMethod.get(index);
+        if (metrics != null) {
+            return metrics;
+        }
+        byMethod.compareAndSet(index, null, new RouteMetrics(requestMethod.name(), route));
+        return byMethod.get(index);
+    }
+
+    public void writePrometheus(final Writer writer) throws IOException {
+        final var snapshot = sortedRouteMetrics();
+
+        writer.write("# HELP http_server_requests_seconds Request latency by route.\n");
+        writer.write("# TYPE http_server_requests_seconds histogram\n");
+        for (RouteMetrics metrics : snapshot) {
+            final var labels = labels(metrics);
+            final var latency = metrics.getLatency();
+            final long[] cumulativeCounts = latency.getCumulativeCounts(BUCKET_BOUNDS_MICROS);
+            for (int i = 0; i < BUCKET_BOUNDS_SECONDS.length; i++) {
+                writer.write("http_server_requests_seconds_bucket{" + labels + ",le=\"" + BUCKET_BOUNDS_SECONDS[i] + "\"} "
+                    + cumulativeCounts[i] + "\n");
+            }
+            writer.write("http_server_requests_seconds_bucket{" + labels + ",le=\"+Inf\"} " + latency.getCount() + "\n");
+            writer.write("http_server_requests_seconds_count{" + labels + "} " + latency.getCount() + "\n");
+            writer.write("http_server_requests_seconds_sum{" + labels + "} " + seconds(latency.getSumNanos()) + "\n");
+        }
+
+        writer.write("# HELP http_server_requests_total Requests by route and status.\n");
+        writer.write("# TYPE http_server_requests_total counter\n");
+        for (RouteMetrics metrics : snapshot) {
+            final var labels = labels(metrics);
+            for (int status = 0; status < metrics.getMaxStatus(); status++) {
+                final long count = metrics.getStatusCount(status);
+                if (count > 0) {
+                    writer.write("http_server_requests_total{" + labels + ",status=\"" + status + "\"} " + count + "\n");
+                }
+            }
+        }
+
+        writer.write("# HELP http_server_response_bytes_total Response body bytes written by route.\n");
+        writer.write("# TYPE http_server_response_bytes_total counter\n");
+        for (RouteMetrics metrics : snapshot) {
+            writer.write("http_server_response_bytes_total{" + labels(metrics) + "} " + metrics.getBytesWritten() + "\n");
+        }
+
+        writer.write("# HELP http_server_requests_in_flight Requests currently being processed.\n");
+        writer.write("# TYPE http_server_requests_in_flight gauge\n");
+        writer.write("http_server_requests_in_flight " + getInFlight() + "\n");
+    }
+
+    private List<RouteMetrics> sortedRouteMetrics() {
+        final List<RouteMetrics> snapshot = new ArrayList<>();
+        routes.values().forEach(byMethod -> {
+            for (int i = 0; i < byMethod.length(); i++) {
+                final var metrics = byMethod.get(i);
+                if (metrics != null) {
+                    snapshot.add(metrics);
+                }
+            }
+        });
+        snapshot.sort(Comparator.comparing(RouteMetrics::getRoute).thenComparing(RouteMetrics::getMethod));
+        return snapshot;
+    }
+
+    private static String labels(final RouteMetrics metrics) {
+        return "method=\"" + metrics.getMethod() + "\",route=\"" + escape(metrics.getRoute()) + "\"";
+    }
+
+    private static String escape(final String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    private static String seconds(final long nanos) {
+        return String.format(Locale.ROOT, "%.6f", nanos / 1e9);
+    }
+}
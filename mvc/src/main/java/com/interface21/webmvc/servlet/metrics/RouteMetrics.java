@@ -0,0 +1,65 @@
+package com.interface21.webmvc.servlet.metrics;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 한 라우트 패턴과 메서드의 지연 시간, 상태 코드별 요청 수, 응답 바이트 수.
+ */
+public class RouteMetrics {
+
+    private static final int MAX_STATUS = 600;
+
+    private final String method;
+    private final String route;
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final AtomicReferenceArray<LongAdder> statusCounts = new AtomicReferenceArray<>(MAX_STATUS);
+    private final LongAdder bytesWritten = new LongAdder();
+
+    RouteMetrics(final String method, final String route) {
+        this.method = method;
+        this.route = route;
+    }
+
+    void record(final int status, final long nanos, final long bytes) {
+        latency.recordNanos(nanos);
+        bytesWritten.add(bytes);
+        if (status < 0 || status >= MAX_STATUS) {
+            return;
+        }
+        var counter = statusCounts.get(status);
+        if (counter == null) {
+            statusCounts.compareAndSet(status, null, new LongAdder());
+            counter = statusCounts.get(status);
+        }
+        counter.increment();
+    }
+
+    public String getMethod() {
+        return method;
+    }
+
+    public String getRoute() {
+        return route;
+    }
+
+    public LatencyHistogram.Snapshot getLatency() {
+        return latency.snapshot();
+    }
+
+    /**
+     * @return 한 번도 응답하지 않은 상태 코드는 0
+     */
+    public long getStatusCount(final int status) {
+        final var counter = status < 0 || status >= MAX_STATUS ? null : statusCounts.get(status);
+        return counter == null ? 0 : counter.sum();
+    }
+
+    int getMaxStatus() {
+        return MAX_STATUS;
+    }
+
+    public long getBytesWritten() {
+        return bytesWritten.sum();
+    }
+}
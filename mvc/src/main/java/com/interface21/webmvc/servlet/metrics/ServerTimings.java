@@ -0,0 +1,132 @@
+package com.interface21.webmvc.servlet.metrics;
+
+import com.interface21.web.http.HttpHeaders;
+import com.interface21.webmvc.servlet.mvc.HandlerMapping;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Locale;
+
+/**
+ * 샘플링된 요청 하나의 처리 단계별 시각을 기록하고 {@code Server-Timing} 헤더와 debug 로그로 남긴다.
+ * <p>
+ * 단계는 핸들러 조회(lookup), 인자 처리(bind), 핸들러 실행(handler), 비동기 결과 대기(wait), 뷰 렌더링(render) 이다.
+ * 헤더는 본문을 쓰기 전에 붙여야 하므로 렌더링 전에 그때까지의 단계를 쓰고,
+ * render 와 total 은 렌더링이 끝났을 때 응답이 아직 commit 되지 않은 경우에만 덧붙인다. 로그에는 항상 남는다.
+ * <p>
+ * 요청 속성으로 전달하므로, 샘플링되지 않은 요청에서는 {@link #get} 이 null 을 반환하고 아무것도 기록하지 않는다.
+ */
+public class ServerTimings {
+
+    private static final Logger log = LoggerFactory.getLogger(ServerTimings.class);
+
+    private static final String ATTRIBUTE = ServerTimings.class.getName();
+
+    private final long startedAt;
+    private long lookedUpAt;
+    private long boundAt;
+    private long handledAt;
+    private long renderStartedAt;
+    private long renderedAt;
+    private boolean deferred;
+
+    private ServerTimings(final long startedAt) {
+        this.startedAt = startedAt;
+    }
+
+    public static ServerTimings start(final HttpServletRequest request) {
+        final var timings = new ServerTimings(System.nanoTime());
+        request.setAttribute(ATTRIBUTE, timings);
+        return timings;
+    }
+
+    /**
+     * @return 샘플링되지 않은 요청이면 null
+     */
+    public static ServerTimings get(final HttpServletRequest request) {
+        return (ServerTimings) request.getAttribute(ATTRIBUTE);
+    }
+
+    public void markHandlerLookedUp() {
+        lookedUpAt = System.nanoTime();
+    }
+
+    public void markArgumentsResolved() {
+        boundAt = System.nanoTime();
+    }
+
+    /**
+     * @param deferred 핸들러가 비동기 결과를 반환했으면 true. 결과를 기다린 시간을 wait 로 따로 쓴다.
+     */
+    public void markHandled(final boolean deferred) {
+        this.handledAt = System.nanoTime();
+        this.deferred = deferred;
+    }
+
+    /**
+     * 렌더링을 시작하기 전에 호출한다. 그때까지의 단계를 헤더로 쓴다.
+     */
+    public void startRender(final HttpServletResponse response) {
+        renderStartedAt = System.nanoTime();
+        if (!response.isCommitted()) {
+            response.setHeader(HttpHeaders.SERVER_TIMING, toHeaderValue(false));
+        }
+    }
+
+    /**
+     * 렌더링이 끝나면 호출한다. 응답이 아직 commit 되지 않았으면 render 와 total 을 헤더에 덧붙이고, debug 로그를 남긴다.
+     */
+    public void finishRender(final HttpServletRequest request, final HttpServletResponse response) {
+        renderedAt = System.nanoTime();
+        if (!response.isCommitted()) {
+            response.setHeader(HttpHeaders.SERVER_TIMING, toHeaderValue(true));
+        }
+        if (log.isDebugEnabled()) {
+            log.debug("Server-Timing method={} route={} status={} lookup={} bind={} handler={} wait={} render={} total={}",
+                request.getMethod(), request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE), response.getStatus(),
+                millis(startedAt, lookedUpAt), millis(lookedUpAt, boundAt), millis(handlerStartedAt(), handledAt),
+                deferred ? millis(handledAt, renderStartedAt) : "-", millis(renderStartedAt, renderedAt), millis(startedAt, renderedAt));
+        }
+    }
+
+    String toHeaderValue(final boolean rendered) {
+        final var value = new StringBuilder();
+        append(value, "lookup", startedAt, lookedUpAt);
+        append(value, "bind", lookedUpAt, boundAt);
+        append(value, "handler", handlerStartedAt(), handledAt);
+        if (deferred) {
+            append(value, "wait", handledAt, renderStartedAt);
+        }
+        if (rendered) {
+            append(value, "render", renderStartedAt, renderedAt);
+            append(value, "total", startedAt, renderedAt);
+        }
+        return value.toString();
+    }
+
+    private long handlerStartedAt() {
+        return boundAt != 0 ? boundAt : lookedUpAt;
+    }
+
+    /**
+     * 두 시각 중 하나라도 기록되지 않았으면 그 단계는 쓰지 않는다.
+     */
+    private static void append(final StringBuilder value, final String name, final long from, final long to) {
+        if (from == 0 || to == 0) {
+            return;
+        }
+        if (!value.isEmpty()) {
+            value.append(", ");
+        }
+        value.append(name).append(";dur=").append(millis(from, to));
+    }
+
+    private static String millis(final long from, final long to) {
+        if (from == 0 || to == 0) {
+            return "-";
+        }
+        return String.format(Locale.ROOT, "%.3f", (to - from) / 1e6);
+    }
+}
@@ -0,0 +1,34 @@
+package com.interface21.webmvc.servlet.mvc;
+
+import com.interface21.webmvc.servlet.ModelAndView;
+
+import java.util.concurrent.CompletionStage;
+
+/**
+ * 핸들러가 나중에 완료되는 {@link ModelAndView} 를 반환할 때 사용한다.
+ * <p>
+ * {@link DispatcherServlet} 은 Servlet 비동기 처리를 시작해 컨테이너 스레드를 돌려주고, 결과가 완료되면 뷰를 렌더링한다.
+ * {@code timeoutMillis} 안에 완료되지 않으면 503 으로 응답한다. 음수면 컨테이너의 기본 timeout 을 사용한다.
+ */
+public class DeferredResult {
+
+    private final CompletionStage<? extends ModelAndView> result;
+    private final long timeoutMillis;
+
+    public DeferredResult(final CompletionStage<? extends ModelAndView> result) {
+        this(result, -1);
+    }
+
+    public DeferredResult(final CompletionStage<? extends ModelAndView> result, final long timeoutMillis) {
+        this.result = result;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    public CompletionStage<? extends ModelAndView> getResult() {
+        return result;
+    }
+
+    public long getTimeoutMillis() {
+        return timeoutMillis;
+    }
+}
@@ -0,0 +1,132 @@
+package com.interface21.webmvc.servlet.mvc;
+
+import com.interface21.webmvc.servlet.ModelAndView;
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
+
+/**
+ * 비동기 요청 하나의 {@link DeferredResult} 가 완료되거나 timeout 이 나면 응답을 마무리한다.
+ * 결과 완료와 timeout 이 동시에 일어나도 한쪽만 응답을 쓰도록 {@code finished} 로 막는다.
+ */
+class DeferredResultHandler implements AsyncListener, BiConsumer<ModelAndView, Throwable> {
+
+    private static final Logger log = LoggerFactory.getLogger(DeferredResultHandler.class);
+
+    private final DeferredResult deferredResult;
+    private final AsyncContext asyncContext;
+    private final ModelAndViewRenderer renderer;
+    private final AtomicBoolean finished = new AtomicBoolean();
+
+    DeferredResultHandler(final DeferredResult deferredResult, final AsyncContext asyncContext, final ModelAndViewRenderer renderer) {
+        this.deferredResult = deferredResult;
+        this.asyncContext = asyncContext;
+        this.renderer = renderer;
+    }
+
+    void start() {
+        if (deferredResult.getTimeoutMillis() >= 0) {
+            asyncContext.setTimeout(deferredResult.getTimeoutMillis());
+        }
+        asyncContext.addListener(this);
+        deferredResult.getResult().whenComplete(this);
+    }
+
+    @Override
+    public void accept(final ModelAndView modelAndView, final Throwable throwable) {
+        if (!finished.compareAndSet(false, true)) {
+            return;
+        }
+        final var request = (HttpServletRequest) asyncContext.getRequest();
+        final var response = (HttpServletResponse) asyncContext.getResponse();
+        try {
+            if (throwable != null) {
+                handleFailure(unwrap(throwable), response);
+                return;
+            }
+            renderer.render(modelAndView, request, response);
+        } catch (Throwable e) {
+            log.error("Exception : {}", e.getMessage(), e);
+            sendError(response, HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+        } finally {
+            asyncContext.complete();
+        }
+    }
+
+    @Override
+    public void onTimeout(final AsyncEvent event) {
+        if (!finished.compareAndSet(false, true)) {
+            return;
+        }
+        log.warn("Async request timed out after {} ms", asyncContext.getTimeout());
+        deferredResult.getResult().toCompletableFuture().cancel(true);
+        sendError((HttpServletResponse) asyncContext.getResponse(), HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        asyncContext.complete();
+    }
+
+    @Override
+    public void onError(final AsyncEvent event) {
+        if (finished.compareAndSet(false, true)) {
+            log.debug("Async request failed : {}", event.getThrowable() == null ? null : event.getThrowable().getMessage());
+            deferredResult.getResult().toCompletableFuture().cancel(true);
+        }
+    }
+
+    @Override
+    public void onComplete(final AsyncEvent event) {
+    }
+
+    @Override
+    public void onStartAsync(final AsyncEvent event) {
+    }
+
+    private void handleFailure(final Throwable throwable, final HttpServletResponse response) {
+        if (throwable instanceof TimeoutException) {
+            log.warn("Async result timed out : {}", throwable.getMessage());
+            sendError(response, HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+            return;
+        }
+        final int status = DispatcherServlet.getClientErrorStatus(throwable);
+        if (status != 0) {
+            log.debug("Client error : {}", throwable.getMessage());
+            sendError(response, status);
+            return;
+        }
+        log.error("Exception : {}", throwable.getMessage(), throwable);
+        sendError(response, HttpServletResponse.SC_INTERNAL_SERVER_ERROR);
+    }
+
+    static Throwable unwrap(final Throwable throwable) {
+        if (throwable instanceof CompletionException && throwable.getCause() != null) {
+            return throwable.getCause();
+        }
+        return throwable;
+    }
+
+    private static void sendError(final HttpServletResponse response, final int status) {
+        if (response.isCommitted()) {
+            return;
+        }
+        try {
+            response.sendError(status);
+        } catch (IOException e) {
+            log.debug("Could not send error response : {}", e.getMessage());
+        }
+    }
+
+    @FunctionalInterface
+    interface ModelAndViewRenderer {
+
+        void render(ModelAndView modelAndView, HttpServletRequest request, HttpServletResponse response) throws Exception;
+    }
+}
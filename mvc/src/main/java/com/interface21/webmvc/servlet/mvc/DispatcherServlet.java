@@ -1,6 +1,19 @@
 package com.interface21.webmvc.servlet.mvc;
 
+import com.interface21.core.convert.ConversionFailedException;
+import com.interface21.scheduling.concurrent.VirtualThreads;
+import com.interface21.web.http.HttpHeaders;
 import com.interface21.webmvc.servlet.ModelAndView;
+import com.interface21.webmvc.servlet.cache.ResponseCache;
+import com.interface21.webmvc.servlet.cache.ResponseCachePolicy;
+import com.interface21.webmvc.servlet.cache.ResponseCapturingWrapper;
+import com.interface21.webmvc.servlet.compress.ResponseCompressor;
+import com.interface21.webmvc.servlet.metrics.CountingResponseWrapper;
+import com.interface21.webmvc.servlet.metrics.RequestMetrics;
+import com.interface21.webmvc.servlet.metrics.ServerTimings;
+import com.interface21.webmvc.servlet.view.ConditionalRequestSupport;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServlet;
 import jakarta.servlet.http.HttpServletRequest;
@@ -8,6 +21,14 @@ import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
 public class DispatcherServlet extends HttpServlet {
 
     private static final long serialVersionUID = 1L;
@@ -16,6 +37,12 @@ public class DispatcherServlet extends HttpServlet {
     private final HandlerMappingRegistry handlerMappingRegistry;
     private final HandlerAdapterRegistry handlerAdapterRegistry;
     private HandlerExecutor handlerExecutor;
+    private boolean dispatchOnVirtualThreads;
+    private transient ThreadFactory dispatchThreadFactory;
+    private transient ResponseCompressor responseCompressor;
+    private transient ResponseCache responseCache;
+    private transient RequestMetrics requestMetrics;
+    private double serverTimingSampleRate;
 
     public DispatcherServlet() {
         this.handlerMappingRegistry = new HandlerMappingRegistry();
@@ -25,6 +52,56 @@ public class DispatcherServlet extends HttpServlet {
     @Override
     public void init() {
         this.handlerExecutor = new HandlerExecutor(handlerAdapterRegistry);
+        if (dispatchOnVirtualThreads && dispatchThreadFactory == null) {
+            if (VirtualThreads.isSupported()) {
+                this.dispatchThreadFactory = VirtualThreads.newThreadFactory("dispatch-");
+            } else {
+                log.warn("Virtual threads are not supported on Java {}. handlers run on container threads", Runtime.version().feature());
+            }
+        }
+    }
+
+    /**
+     * 켜면 핸들러 실행과 뷰 렌더링을 요청마다 새 가상 스레드에서 한다. 컨테이너 스레드는 Servlet 비동기 처리를 시작한 뒤 바로 반환된다.
+     * 가상 스레드를 지원하지 않는 JVM(JDK 21 미만)에서는 기존처럼 컨테이너 스레드에서 실행한다.
+     */
+    public void setDispatchOnVirtualThreads(final boolean dispatchOnVirtualThreads) {
+        this.dispatchOnVirtualThreads = dispatchOnVirtualThreads;
+    }
+
+    /**
+     * 지정하면 뷰가 쓰는 본문을 클라이언트가 지원하는 gzip 또는 deflate 로 압축한다.
+     */
+    public void setResponseCompressor(final ResponseCompressor responseCompressor) {
+        this.responseCompressor = responseCompressor;
+    }
+
+    /**
+     * 지정하면 {@code @CacheResponse} 핸들러의 GET 응답을 캐시한다.
+     */
+    public void setResponseCache(final ResponseCache responseCache) {
+        this.responseCache = responseCache;
+    }
+
+    /**
+     * 지정하면 라우트 패턴과 메서드별 지연 시간, 상태 코드, 응답 바이트 수와 처리 중인 요청 수를 기록한다.
+     * 비동기로 처리한 요청은 비동기 처리가 끝날 때 기록한다.
+     */
+    public void setRequestMetrics(final RequestMetrics requestMetrics) {
+        this.requestMetrics = requestMetrics;
+    }
+
+    /**
+     * 0 보다 크면 그 비율의 요청에서 처리 단계별 시간을 {@code Server-Timing} 헤더와 debug 로그로 남긴다. 1 이면 모든 요청이다.
+     *
+     * @see ServerTimings
+     */
+    public void setServerTimingSampleRate(final double serverTimingSampleRate) {
+        this.serverTimingSampleRate = serverTimingSampleRate;
+    }
+
+    void setDispatchThreadFactory(final ThreadFactory dispatchThreadFactory) {
+        this.dispatchThreadFactory = dispatchThreadFactory;
     }
 
     public void addHandlerMapping(final HandlerMapping handlerMapping) {
@@ -39,23 +116,302 @@ public class DispatcherServlet extends HttpServlet {
     protected void service(final HttpServletRequest request, final HttpServletResponse response) throws ServletException {
         log.debug("Method : {}, Request URI : {}", request.getMethod(), request.getRequestURI());
 
+        if (requestMetrics == null) {
+            doService(request, response);
+            return;
+        }
+        final long start = System.nanoTime();
+        final var countingResponse = new CountingResponseWrapper(response);
+        requestMetrics.requestStarted();
+        boolean failed = true;
         try {
-            final var handler = handlerMappingRegistry.getHandler(request);
-            if (handler.isEmpty()) {
-                response.setStatus(404);
+            doService(request, countingResponse);
+            failed = false;
+        } finally {
+            if (failed || !request.isAsyncStarted()) {
+                recordMetrics(request, countingResponse, start, failed);
+            } else {
+                request.getAsyncContext().addListener(new MetricsAsyncListener(request, countingResponse, start));
+            }
+        }
+    }
+
+    private void doService(final HttpServletRequest request, final HttpServletResponse response) throws ServletException {
+        try {
+            final var timings = sampleServerTimings(request);
+            final var handler = getHandler(request, response);
+            if (timings != null) {
+                timings.markHandlerLookedUp();
+            }
+            if (handler == null) {
+                return;
+            }
+            final var cachePolicy = getResponseCachePolicy(handler, request);
+            if (cachePolicy != null) {
+                handleCacheable(handler, cachePolicy, request, response);
+                return;
+            }
+            if (dispatchThreadFactory != null && request.isAsyncSupported()) {
+                dispatch(handler, request, response);
                 return;
             }
 
-            final var modelAndView = handlerExecutor.handle(request, response, handler.get());
-            render(modelAndView, request, response);
+            final var result = handlerExecutor.handle(request, response, handler);
+            if (result instanceof final DeferredResult deferredResult) {
+                handleDeferredResult(deferredResult, request, response);
+                return;
+            }
+            render((ModelAndView) result, request, response);
         } catch (Throwable e) {
-            log.error("Exception : {}", e.getMessage(), e);
+            final int status = getClientErrorStatus(e);
+            if (status == 0) {
+                log.error("Exception : {}", e.getMessage(), e);
+                throw new ServletException(e.getMessage());
+            }
+            log.debug("Client error : {}", e.getMessage());
+            sendError(response, status);
+        }
+    }
+
+    /**
+     * 요청 값을 핸들러 인자로 바인딩하지 못한 예외의 응답 상태 코드. 클라이언트 오류가 아니면 0 이다.
+     */
+    static int getClientErrorStatus(final Throwable e) {
+        if (e instanceof HttpMessageNotReadableException || e instanceof ConversionFailedException
+            || e instanceof MissingRequestValueException) {
+            return HttpServletResponse.SC_BAD_REQUEST;
+        }
+        if (e instanceof PayloadTooLargeException) {
+            return HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE;
+        }
+        if (e instanceof HttpMediaTypeNotSupportedException) {
+            return HttpServletResponse.SC_UNSUPPORTED_MEDIA_TYPE;
+        }
+        return 0;
+    }
+
+    private static void sendError(final HttpServletResponse response, final int status) throws ServletException {
+        if (response.isCommitted()) {
+            return;
+        }
+        try {
+            response.sendError(status);
+        } catch (IOException e) {
             throw new ServletException(e.getMessage());
         }
     }
 
+    /**
+     * 핸들러가 없으면 404, 경로는 맞지만 Content-Type 이나 Accept 를 받는 핸들러가 없으면 415, 406 으로 응답하고 {@code null} 을 반환한다.
+     */
+    private Object getHandler(final HttpServletRequest request, final HttpServletResponse response) throws IOException {
+        try {
+            final var handler = handlerMappingRegistry.getHandler(request);
+            if (handler == null) {
+                response.setStatus(HttpServletResponse.SC_NOT_FOUND);
+            }
+            return handler;
+        } catch (HttpMediaTypeNotSupportedException e) {
+            log.debug(e.getMessage());
+            response.sendError(HttpServletResponse.SC_UNSUPPORTED_MEDIA_TYPE);
+        } catch (HttpMediaTypeNotAcceptableException e) {
+            log.debug(e.getMessage());
+            response.sendError(HttpServletResponse.SC_NOT_ACCEPTABLE);
+        }
+        return null;
+    }
+
+    /**
+     * 핸들러 실행 결과를 {@link CompletableFuture} 로 받아 {@link DeferredResult} 와 같은 방식으로 응답을 마무리한다.
+     * 컨테이너의 비동기 timeout 이 지나면 503 으로 응답한다.
+     */
+    private void dispatch(final Object handler, final HttpServletRequest request, final HttpServletResponse response) {
+        final var asyncContext = request.startAsync(request, response);
+        final var result = new CompletableFuture<ModelAndView>();
+        new DeferredResultHandler(new DeferredResult(result), asyncContext, this::render).start();
+        dispatchThreadFactory.newThread(() -> execute(handler, request, response, result)).start();
+    }
+
+    private void execute(final Object handler, final HttpServletRequest request, final HttpServletResponse response,
+                         final CompletableFuture<ModelAndView> result) {
+        try {
+            final var handled = handlerExecutor.handle(request, response, handler);
+            if (handled instanceof final DeferredResult deferredResult) {
+                final var deferred = deferredResult.getResult().toCompletableFuture();
+                if (deferredResult.getTimeoutMillis() >= 0) {
+                    deferred.orTimeout(deferredResult.getTimeoutMillis(), TimeUnit.MILLISECONDS);
+                }
+                deferred.whenComplete((modelAndView, e) -> {
+                    if (e == null) {
+                        result.complete(modelAndView);
+                    } else {
+                        result.completeExceptionally(e);
+                    }
+                });
+                return;
+            }
+            result.complete((ModelAndView) handled);
+        } catch (Throwable e) {
+            result.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * 비동기를 지원하지 않는 요청(예: 비동기 설정이 없는 필터를 거친 요청)은 결과를 기다려 현재 스레드에서 렌더링한다.
+     */
+    private void handleDeferredResult(final DeferredResult deferredResult, final HttpServletRequest request, final HttpServletResponse response) throws Throwable {
+        if (request.isAsyncSupported()) {
+            final var asyncContext = request.startAsync(request, response);
+            new DeferredResultHandler(deferredResult, asyncContext, this::render).start();
+            return;
+        }
+
+        final var future = deferredResult.getResult().toCompletableFuture();
+        try {
+            final var timeout = deferredResult.getTimeoutMillis();
+            render(timeout < 0 ? future.get() : future.get(timeout, TimeUnit.MILLISECONDS), request, response);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            response.sendError(HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        } catch (ExecutionException e) {
+            throw DeferredResultHandler.unwrap(e.getCause());
+        }
+    }
+
+    private ServerTimings sampleServerTimings(final HttpServletRequest request) {
+        if (serverTimingSampleRate <= 0
+            || serverTimingSampleRate < 1 && ThreadLocalRandom.current().nextDouble() >= serverTimingSampleRate) {
+            return null;
+        }
+        return ServerTimings.start(request);
+    }
+
+    private ResponseCachePolicy getResponseCachePolicy(final Object handler, final HttpServletRequest request) {
+        if (responseCache == null || !"GET".equals(request.getMethod())) {
+            return null;
+        }
+        return handlerExecutor.getResponseCachePolicy(handler);
+    }
+
+    /**
+     * 캐시에 있으면 저장한 응답을 쓰고, 없으면 핸들러를 실행해 렌더링한 응답을 저장한다.
+     * 비동기 결과는 저장하지 않는다.
+     */
+    private void handleCacheable(final Object handler, final ResponseCachePolicy cachePolicy,
+                                 final HttpServletRequest request, final HttpServletResponse response) throws Throwable {
+        final var key = cachePolicy.createKey(request);
+        final var cachedResponse = responseCache.get(key);
+        if (cachedResponse != null) {
+            render(new ModelAndView(cachedResponse), request, response);
+            return;
+        }
+
+        final var tagVersions = responseCache.getTagVersions(cachePolicy.getTags());
+        final var result = handlerExecutor.handle(request, response, handler);
+        if (result instanceof final DeferredResult deferredResult) {
+            handleDeferredResult(deferredResult, request, response);
+            return;
+        }
+        final var capturingResponse = render((ModelAndView) result, request, response, cachePolicy);
+        if (capturingResponse == null) {
+            return;
+        }
+        final var captured = capturingResponse.variesOnlyBy(cachePolicy.getVary()) ? capturingResponse.toCachedResponse() : null;
+        if (captured != null) {
+            responseCache.put(key, captured, cachePolicy, tagVersions);
+        }
+    }
+
     private void render(final ModelAndView modelAndView, final HttpServletRequest request, final HttpServletResponse response) throws Exception {
+        render(modelAndView, request, response, null);
+    }
+
+    /**
+     * {@code cachePolicy} 가 있으면 압축하기 전의 응답을 기록한 wrapper 를 반환한다. 304 로 응답했으면 {@code null} 이다.
+     */
+    private ResponseCapturingWrapper render(final ModelAndView modelAndView, final HttpServletRequest request,
+                                            final HttpServletResponse response, final ResponseCachePolicy cachePolicy) throws Exception {
+        final var timings = ServerTimings.get(request);
+        if (timings == null) {
+            return renderView(modelAndView, request, response, cachePolicy);
+        }
+        timings.startRender(response);
+        try {
+            return renderView(modelAndView, request, response, cachePolicy);
+        } finally {
+            timings.finishRender(request, response);
+        }
+    }
+
+    private ResponseCapturingWrapper renderView(final ModelAndView modelAndView, final HttpServletRequest request,
+                                                final HttpServletResponse response, final ResponseCachePolicy cachePolicy) throws Exception {
+        if (isNotModified(modelAndView, request, response)) {
+            return null;
+        }
         final var view = modelAndView.getView();
-        view.render(modelAndView.getModel(), request, response);
+        final var compressingResponse = responseCompressor == null ? null : responseCompressor.wrap(request, response);
+        final HttpServletResponse target = compressingResponse == null ? response : compressingResponse;
+        final var capturingResponse = cachePolicy == null ? null : new ResponseCapturingWrapper(target);
+        if (capturingResponse != null && cachePolicy.getVary().length > 0) {
+            capturingResponse.addHeader(HttpHeaders.VARY, String.join(", ", cachePolicy.getVary()));
+        }
+
+        try {
+            view.render(modelAndView.getModel(), request, capturingResponse == null ? target : capturingResponse);
+            if (compressingResponse != null) {
+                compressingResponse.finish();
+            }
+        } finally {
+            if (compressingResponse != null) {
+                compressingResponse.release();
+            }
+        }
+        return capturingResponse;
+    }
+
+    private void recordMetrics(final HttpServletRequest request, final CountingResponseWrapper response,
+                               final long start, final boolean failed) {
+        final var route = (String) request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        final int status = failed ? HttpServletResponse.SC_INTERNAL_SERVER_ERROR : response.getStatus();
+        requestMetrics.requestFinished(request.getMethod(), route, status, System.nanoTime() - start, response.getBytesWritten());
+    }
+
+    private boolean isNotModified(final ModelAndView modelAndView, final HttpServletRequest request, final HttpServletResponse response) {
+        final var version = modelAndView.getVersion();
+        if (version == null && modelAndView.getLastModified() < 0) {
+            return false;
+        }
+        final var etag = version == null ? null : ConditionalRequestSupport.versionETag(version);
+        return ConditionalRequestSupport.checkNotModified(request, response, etag, modelAndView.getLastModified());
+    }
+
+    private final class MetricsAsyncListener implements AsyncListener {
+
+        private final HttpServletRequest request;
+        private final CountingResponseWrapper response;
+        private final long start;
+
+        private MetricsAsyncListener(final HttpServletRequest request, final CountingResponseWrapper response, final long start) {
+            this.request = request;
+            this.response = response;
+            this.start = start;
+        }
+
+        @Override
+        public void onComplete(final AsyncEvent event) {
+            recordMetrics(request, response, start, false);
+        }
+
+        @Override
+        public void onTimeout(final AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(final AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(final AsyncEvent event) {
+        }
     }
 }
@@ -1,11 +1,22 @@
 package com.interface21.webmvc.servlet.mvc;
 
 import com.interface21.webmvc.servlet.ModelAndView;
+import com.interface21.webmvc.servlet.cache.ResponseCachePolicy;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
 public interface HandlerAdapter {
     boolean supports(final Object handler);
 
-    ModelAndView handle(final HttpServletRequest request, final HttpServletResponse response, final Object handler) throws Exception;
+    /**
+     * {@link ModelAndView} 또는 비동기로 완료되는 {@link DeferredResult} 를 반환한다.
+     */
+    Object handle(final HttpServletRequest request, final HttpServletResponse response, final Object handler) throws Exception;
+
+    /**
+     * 핸들러의 응답을 캐시할 수 있으면 캐시 정책을, 아니면 {@code null} 을 반환한다.
+     */
+    default ResponseCachePolicy getResponseCachePolicy(final Object handler) {
+        return null;
+    }
 }
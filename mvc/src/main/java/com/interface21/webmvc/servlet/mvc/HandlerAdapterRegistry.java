@@ -1,20 +1,26 @@
 package com.interface21.webmvc.servlet.mvc;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Arrays;
 
+/**
+ * 요청마다 호출되므로 스트림을 만들지 않고 배열을 순회한다.
+ */
 public class HandlerAdapterRegistry {
 
-    private final List<HandlerAdapter> handlerAdapters = new ArrayList<>();
+    private HandlerAdapter[] handlerAdapters = new HandlerAdapter[0];
 
     public void addHandlerAdapter(final HandlerAdapter handlerAdapter) {
-        handlerAdapters.add(handlerAdapter);
+        final var added = Arrays.copyOf(handlerAdapters, handlerAdapters.length + 1);
+        added[handlerAdapters.length] = handlerAdapter;
+        handlerAdapters = added;
     }
 
     public HandlerAdapter getHandlerAdapter(final Object handler) {
-        return handlerAdapters.stream()
-                .filter(ha -> ha.supports(handler))
-                .findFirst()
-                .orElseThrow(IllegalArgumentException::new);
+        for (HandlerAdapter handlerAdapter : handlerAdapters) {
+            if (handlerAdapter.supports(handler)) {
+                return handlerAdapter;
+            }
+        }
+        throw new IllegalArgumentException("No adapter for handler: " + handler);
     }
 }
@@ -1,6 +1,7 @@
 package com.interface21.webmvc.servlet.mvc;
 
-import com.interface21.webmvc.servlet.ModelAndView;
+import com.interface21.webmvc.servlet.cache.ResponseCachePolicy;
+import com.interface21.webmvc.servlet.metrics.ServerTimings;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
@@ -12,8 +13,17 @@ public class HandlerExecutor {
         this.handlerAdapterRegistry = handlerAdapterRegistry;
     }
 
-    public ModelAndView handle(final HttpServletRequest request, final HttpServletResponse response, final Object handler) throws Exception {
+    public Object handle(final HttpServletRequest request, final HttpServletResponse response, final Object handler) throws Exception {
         final var handlerAdapter = handlerAdapterRegistry.getHandlerAdapter(handler);
-        return handlerAdapter.handle(request, response, handler);
+        final var result = handlerAdapter.handle(request, response, handler);
+        final var timings = ServerTimings.get(request);
+        if (timings != null) {
+            timings.markHandled(result instanceof DeferredResult);
+        }
+        return result;
+    }
+
+    public ResponseCachePolicy getResponseCachePolicy(final Object handler) {
+        return handlerAdapterRegistry.getHandlerAdapter(handler).getResponseCachePolicy(handler);
     }
 }
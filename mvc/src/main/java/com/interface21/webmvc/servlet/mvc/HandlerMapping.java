@@ -4,6 +4,22 @@ import jakarta.servlet.http.HttpServletRequest;
 
 public interface HandlerMapping {
 
+    /**
+     * 핸들러를 찾으면서 추출한 URI 변수를 담는 요청 속성 이름.
+     */
+    String URI_TEMPLATE_VARIABLES_ATTRIBUTE = HandlerMapping.class.getName() + ".uriTemplateVariables";
+
+    /**
+     * 요청과 매칭된 URL 패턴을 담는 요청 속성 이름.
+     */
+    String BEST_MATCHING_PATTERN_ATTRIBUTE = HandlerMapping.class.getName() + ".bestMatchingPattern";
+
+    /**
+     * 매칭된 핸들러가 {@code produces} 로 선언한 미디어 타입 목록({@code List<MediaType>})을 담는 요청 속성 이름.
+     * 선언하지 않았으면 속성이 없다.
+     */
+    String PRODUCIBLE_MEDIA_TYPES_ATTRIBUTE = HandlerMapping.class.getName() + ".producibleMediaTypes";
+
     void initialize();
 
     Object getHandler(final HttpServletRequest request);
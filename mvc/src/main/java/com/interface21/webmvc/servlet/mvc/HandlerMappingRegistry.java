@@ -2,24 +2,32 @@ package com.interface21.webmvc.servlet.mvc;
 
 import jakarta.servlet.http.HttpServletRequest;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Objects;
-import java.util.Optional;
+import java.util.Arrays;
 
+/**
+ * 요청마다 호출되므로 스트림이나 Optional 을 만들지 않고 배열을 순회한다.
+ */
 public class HandlerMappingRegistry {
 
-    private final List<HandlerMapping> handlerMappings = new ArrayList<>();
+    private HandlerMapping[] handlerMappings = new HandlerMapping[0];
 
     public void addHandlerMapping(final HandlerMapping handlerMapping) {
         handlerMapping.initialize();
-        handlerMappings.add(handlerMapping);
+        final var added = Arrays.copyOf(handlerMappings, handlerMappings.length + 1);
+        added[handlerMappings.length] = handlerMapping;
+        handlerMappings = added;
     }
 
-    public Optional<Object> getHandler(final HttpServletRequest request) {
-        return handlerMappings.stream()
-                .map(hm -> hm.getHandler(request))
-                .filter(Objects::nonNull)
-                .findFirst();
+    /**
+     * @return 요청을 처리할 핸들러가 없으면 null
+     */
+    public Object getHandler(final HttpServletRequest request) {
+        for (HandlerMapping handlerMapping : handlerMappings) {
+            final var handler = handlerMapping.getHandler(request);
+            if (handler != null) {
+                return handler;
+            }
+        }
+        return null;
     }
 }
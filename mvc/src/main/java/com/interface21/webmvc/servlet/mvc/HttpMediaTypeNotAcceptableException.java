@@ -0,0 +1,11 @@
+package com.interface21.webmvc.servlet.mvc;
+
+/**
+ * 요청과 매칭되는 핸들러는 있지만 Accept 헤더가 받는 형식으로 응답하는 핸들러가 없다. 406 으로 응답한다.
+ */
+public class HttpMediaTypeNotAcceptableException extends RuntimeException {
+
+    public HttpMediaTypeNotAcceptableException(String accept) {
+        super("Could not find acceptable representation for Accept [" + accept + "]");
+    }
+}
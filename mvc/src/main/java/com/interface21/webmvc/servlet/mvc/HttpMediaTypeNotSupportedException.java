@@ -0,0 +1,11 @@
+package com.interface21.webmvc.servlet.mvc;
+
+/**
+ * 요청과 매칭되는 핸들러는 있지만 요청의 Content-Type 을 받는 핸들러가 없다. 415 로 응답한다.
+ */
+public class HttpMediaTypeNotSupportedException extends RuntimeException {
+
+    public HttpMediaTypeNotSupportedException(String contentType) {
+        super("Content-Type [" + contentType + "] is not supported");
+    }
+}
@@ -0,0 +1,15 @@
+package com.interface21.webmvc.servlet.mvc;
+
+/**
+ * 요청 본문이 없거나 파라미터 타입으로 읽을 수 없다. 400 으로 응답한다.
+ */
+public class HttpMessageNotReadableException extends RuntimeException {
+
+    public HttpMessageNotReadableException(String message) {
+        super(message);
+    }
+
+    public HttpMessageNotReadableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,8 @@
+package com.interface21.webmvc.servlet.mvc;
+
+public class MissingRequestValueException extends RuntimeException {
+
+    public MissingRequestValueException(String kind, String name, Class<?> type) {
+        super("Required " + kind + " '" + name + "' for method parameter type " + type.getSimpleName() + " is not present");
+    }
+}
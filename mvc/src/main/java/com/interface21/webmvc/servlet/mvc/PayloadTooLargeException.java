@@ -0,0 +1,11 @@
+package com.interface21.webmvc.servlet.mvc;
+
+/**
+ * 요청 본문이 허용한 크기보다 크다. 413 으로 응답한다.
+ */
+public class PayloadTooLargeException extends RuntimeException {
+
+    public PayloadTooLargeException(long maxSize) {
+        super("Request body exceeds the limit of " + maxSize + " bytes");
+    }
+}
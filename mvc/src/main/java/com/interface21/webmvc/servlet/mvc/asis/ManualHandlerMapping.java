@@ -27,6 +27,10 @@ public class ManualHandlerMapping implements HandlerMapping {
     public Controller getHandler(final HttpServletRequest request) {
         final var requestURI = request.getRequestURI();
         log.debug("Request Mapping Uri : {}", requestURI);
-        return controllers.get(requestURI);
+        final var controller = controllers.get(requestURI);
+        if (controller != null) {
+            request.setAttribute(BEST_MATCHING_PATTERN_ATTRIBUTE, requestURI);
+        }
+        return controller;
     }
 }
@@ -1,45 +1,65 @@
 package com.interface21.webmvc.servlet.mvc.tobe;
 
+import com.interface21.context.ApplicationContext;
 import com.interface21.web.bind.annotation.RequestMethod;
+import com.interface21.web.http.HttpHeaders;
 import com.interface21.webmvc.servlet.mvc.HandlerMapping;
+import com.interface21.webmvc.servlet.mvc.tobe.support.RouteMatch;
+import com.interface21.webmvc.servlet.mvc.tobe.support.RouteTree;
 import jakarta.servlet.http.HttpServletRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.HashMap;
-import java.util.Map;
-
 public class AnnotationHandlerMapping implements HandlerMapping {
 
     private static final Logger log = LoggerFactory.getLogger(AnnotationHandlerMapping.class);
 
+    private final ApplicationContext applicationContext;
     private final Object[] basePackage;
-    private final Map<HandlerKey, HandlerExecution> handlerExecutions;
+    private final RouteTree<HandlerExecution> routeTree;
 
     public AnnotationHandlerMapping(final Object... basePackage) {
+        this.applicationContext = null;
         this.basePackage = basePackage;
-        this.handlerExecutions = new HashMap<>();
+        this.routeTree = new RouteTree<>();
+    }
+
+    public AnnotationHandlerMapping(final ApplicationContext applicationContext) {
+        this.applicationContext = applicationContext;
+        this.basePackage = new Object[0];
+        this.routeTree = new RouteTree<>();
     }
 
     public void initialize() {
         final var controllerScanner = new ControllerScanner();
-        handlerExecutions.putAll(controllerScanner.scan(basePackage));
+        final var handlerExecutions = applicationContext != null
+            ? controllerScanner.scan(applicationContext)
+            : controllerScanner.scan(basePackage);
+        handlerExecutions.forEach(this::addHandlerExecution);
         log.info("Initialized AnnotationHandlerMapping!");
     }
 
-    public Object getHandler(final HttpServletRequest request) {
-        final var requestUri = request.getRequestURI();
-        final var requestMethod = RequestMethod.valueOf(request.getMethod().toUpperCase());
-        log.debug("requestUri : {}, requestMethod : {}", requestUri, requestMethod);
-        return getHandlerInternal(new HandlerKey(requestUri, requestMethod));
+    void addHandlerExecution(final HandlerKey handlerKey, final HandlerExecution handlerExecution) {
+        routeTree.add(handlerKey.getUrl(), handlerKey.getRequestMethod(),
+            handlerKey.getConsumes(), handlerKey.getProduces(), handlerExecution);
     }
 
-    private HandlerExecution getHandlerInternal(final HandlerKey requestHandlerKey) {
-        for (HandlerKey handlerKey : handlerExecutions.keySet()) {
-            if (handlerKey.isMatch(requestHandlerKey)) {
-                return handlerExecutions.get(handlerKey);
-            }
+    public Object getHandler(final HttpServletRequest request) {
+        final var requestMethod = RequestMethod.resolve(request.getMethod());
+        if (requestMethod == null) {
+            return null;
+        }
+        final RouteMatch<HandlerExecution> match = routeTree.hasMediaTypeConditions()
+            ? routeTree.match(request.getRequestURI(), requestMethod, request.getContentType(), request.getHeader(HttpHeaders.ACCEPT))
+            : routeTree.match(request.getRequestURI(), requestMethod);
+        if (match == null) {
+            return null;
+        }
+        request.setAttribute(URI_TEMPLATE_VARIABLES_ATTRIBUTE, match);
+        request.setAttribute(BEST_MATCHING_PATTERN_ATTRIBUTE, match.getPattern());
+        if (!match.getProducibleMediaTypes().isEmpty()) {
+            request.setAttribute(PRODUCIBLE_MEDIA_TYPES_ATTRIBUTE, match.getProducibleMediaTypes());
         }
-        return null;
+        return match.getHandler();
     }
 }
@@ -1,19 +1,19 @@
 package com.interface21.webmvc.servlet.mvc.tobe;
 
+import com.interface21.context.ApplicationContext;
 import com.interface21.context.stereotype.Controller;
-import com.interface21.core.util.ReflectionUtils;
+import com.interface21.context.support.AnnotationConfigWebApplicationContext;
 import com.interface21.web.bind.annotation.RequestMapping;
 import com.interface21.web.bind.annotation.RequestMethod;
+import com.interface21.web.http.MediaType;
 import com.interface21.web.method.support.HandlerMethodArgumentResolver;
 import com.interface21.webmvc.servlet.mvc.tobe.support.*;
-import org.reflections.Reflections;
-import org.reflections.scanners.Scanners;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.lang.reflect.Method;
 import java.util.Arrays;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -27,16 +27,24 @@ public class ControllerScanner {
         new HttpResponseArgumentResolver(),
         new RequestParamArgumentResolver(),
         new PathVariableArgumentResolver(),
+        new RequestBodyArgumentResolver(),
         new ModelArgumentResolver()
     );
 
     public Map<HandlerKey, HandlerExecution> scan(Object... basePackage) {
-        Reflections reflections = new Reflections(basePackage, Scanners.TypesAnnotated, Scanners.SubTypes, Scanners.MethodsAnnotated);
-        final var handlers = new HashMap<HandlerKey, HandlerExecution>();
-        final var controllers = reflections.getTypesAnnotatedWith(Controller.class);
-        for (Class<?> controller : controllers) {
-            Object target = ReflectionUtils.newInstance(controller);
-            addHandlerExecution(handlers, target, controller.getMethods());
+        final var basePackages = Arrays.stream(basePackage)
+            .map(String::valueOf)
+            .toArray(String[]::new);
+        return scan(new AnnotationConfigWebApplicationContext(basePackages));
+    }
+
+    public Map<HandlerKey, HandlerExecution> scan(final ApplicationContext applicationContext) {
+        final var handlers = new LinkedHashMap<HandlerKey, HandlerExecution>();
+        for (Class<?> controller : applicationContext.getBeanClasses()) {
+            if (controller.isAnnotationPresent(Controller.class)) {
+                final var target = applicationContext.getBean(controller);
+                addHandlerExecution(handlers, target, controller.getMethods());
+            }
         }
         return handlers;
     }
@@ -55,7 +63,7 @@ public class ControllerScanner {
     }
 
     private Map<HandlerKey, HandlerExecution> createHandlerExecutions(final Object target, final Method method, final RequestMapping requestMapping) {
-        return mapHandlerKeys(requestMapping.value(), requestMapping.method())
+        return mapHandlerKeys(requestMapping)
             .stream()
             .collect(Collectors.toMap(
                 handlerKey -> handlerKey,
@@ -63,13 +71,21 @@ public class ControllerScanner {
             ));
     }
 
-    private List<HandlerKey> mapHandlerKeys(final String value, final RequestMethod[] originalMethods) {
-        var targetMethods = originalMethods;
+    private List<HandlerKey> mapHandlerKeys(final RequestMapping requestMapping) {
+        var targetMethods = requestMapping.method();
         if (targetMethods.length == 0) {
             targetMethods = RequestMethod.values();
         }
+        final var consumes = parseMediaTypes(requestMapping.consumes());
+        final var produces = parseMediaTypes(requestMapping.produces());
         return Arrays.stream(targetMethods)
-            .map(method -> new HandlerKey(value, method))
+            .map(method -> new HandlerKey(requestMapping.value(), method, consumes, produces))
             .collect(Collectors.toList());
     }
+
+    private List<MediaType> parseMediaTypes(final String[] mediaTypes) {
+        return Arrays.stream(mediaTypes)
+            .map(MediaType::parse)
+            .toList();
+    }
 }
@@ -1,78 +1,160 @@
 package com.interface21.webmvc.servlet.mvc.tobe;
 
 import com.interface21.core.MethodParameter;
+import com.interface21.web.bind.annotation.RequestMapping;
+import com.interface21.web.method.support.BoundArgumentResolver;
+import com.interface21.web.method.support.ConvertibleArgumentResolver;
 import com.interface21.web.method.support.HandlerMethodArgumentResolver;
 import com.interface21.webmvc.servlet.ModelAndView;
+import com.interface21.webmvc.servlet.cache.ResponseCachePolicy;
+import com.interface21.webmvc.servlet.metrics.ServerTimings;
+import com.interface21.webmvc.servlet.mvc.DeferredResult;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
-import java.util.Arrays;
+import java.lang.reflect.Type;
+import java.lang.reflect.UndeclaredThrowableException;
 import java.util.List;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
-
+import java.util.concurrent.CompletionStage;
+
+/**
+ * 핸들러 메서드와 파라미터마다 미리 골라 둔 resolver 를 묶어 실행한다.
+ * 파라미터를 처리할 resolver 가 없으면 핸들러를 등록할 때 예외가 발생한다.
+ * <p>
+ * 핸들러 메서드는 등록할 때 만든 {@code (Object[])Object} 형태의 MethodHandle 로 호출한다.
+ * 기본 타입 파라미터를 {@link ConvertibleArgumentResolver} 가 처리하면 인자 배열에는 문자열을 담고,
+ * 변환 MethodHandle 이 기본 타입 값을 바로 넘기므로 박싱되지 않는다.
+ * <p>
+ * 핸들러가 {@link CompletionStage} 를 반환하면 {@link RequestMapping#timeout()} 을 붙여 {@link DeferredResult} 로 감싼다.
+ */
 public class HandlerExecution {
 
-    private static final Logger log = LoggerFactory.getLogger(HandlerExecution.class);
-
-    private static final Map<Method, MethodParameter[]> methodParameterCache = new ConcurrentHashMap<>();
+    private static final Object[] EMPTY_ARGUMENTS = new Object[0];
 
-    private final List<HandlerMethodArgumentResolver> argumentResolver;
     private final Object declaredObject;
     private final Method method;
+    private final BoundArgumentResolver[] argumentResolvers;
+    private final MethodHandle invoker;
+    private final long asyncTimeout;
+    private final ResponseCachePolicy responseCachePolicy;
 
     public HandlerExecution(final List<HandlerMethodArgumentResolver> argumentResolvers,
                             final Object declaredObject,
                             final Method method) {
-        this.argumentResolver = argumentResolvers;
         this.declaredObject = declaredObject;
         this.method = method;
+        final var boundResolvers = bindArgumentResolvers(argumentResolvers, method);
+        this.invoker = createInvoker(declaredObject, method, boundResolvers);
+        this.argumentResolvers = resolveRawValues(method, boundResolvers);
+        this.asyncTimeout = getAsyncTimeout(method);
+        this.responseCachePolicy = ResponseCachePolicy.of(method);
     }
 
     public ModelAndView handle(HttpServletRequest request, HttpServletResponse response) throws Exception {
-        MethodParameter[] methodParameters = getMethodParameters();
-        Object[] arguments = new Object[methodParameters.length];
+        return (ModelAndView) invoke(request, response);
+    }
+
+    /**
+     * 핸들러가 반환한 {@link ModelAndView} 또는 {@link DeferredResult} 를 반환한다.
+     */
+    public Object invoke(final HttpServletRequest request, final HttpServletResponse response) throws Exception {
+        final Object[] arguments = argumentResolvers.length == 0 ? EMPTY_ARGUMENTS : new Object[argumentResolvers.length];
+        for (int i = 0; i < argumentResolvers.length; i++) {
+            arguments[i] = argumentResolvers[i].resolve(request, response);
+        }
+        final var timings = ServerTimings.get(request);
+        if (timings != null) {
+            timings.markArgumentsResolved();
+        }
 
-        for (int i = 0; i < methodParameters.length; i++) {
-            arguments[i] = getArguments(methodParameters[i], request, response);
+        final Object result;
+        try {
+            result = invoker.invokeExact(arguments);
+        } catch (Exception | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new UndeclaredThrowableException(e);
         }
+        if (result instanceof CompletionStage<?>) {
+            return toDeferredResult(result);
+        }
+        return result;
+    }
 
-        return (ModelAndView) method.invoke(declaredObject, arguments);
+    @SuppressWarnings("unchecked")
+    private DeferredResult toDeferredResult(final Object result) {
+        return new DeferredResult((CompletionStage<? extends ModelAndView>) result, asyncTimeout);
     }
 
-    private MethodParameter[] getMethodParameters() {
-        MethodParameter[] methodParameters = methodParameterCache.get(method);
+    public ResponseCachePolicy getResponseCachePolicy() {
+        return responseCachePolicy;
+    }
 
-        if (methodParameters == null) {
-            methodParameters = new MethodParameter[method.getParameterCount()];
-            Class<?>[] parameterTypes = method.getParameterTypes();
-            Annotation[][] parameterAnnotations = method.getParameterAnnotations();
-            String[] parameterNames = Arrays.stream(method.getParameters())
-                .map(Parameter::getName)
-                .toArray(String[]::new);
+    private static long getAsyncTimeout(final Method method) {
+        final var requestMapping = method.getAnnotation(RequestMapping.class);
+        return requestMapping == null ? -1 : requestMapping.timeout();
+    }
 
-            for (int i = 0; i < methodParameters.length; i++) {
-                methodParameters[i] = new MethodParameter(method, parameterTypes[i], parameterAnnotations[i], parameterNames[i]);
+    private static MethodHandle createInvoker(final Object declaredObject, final Method method, final BoundArgumentResolver[] boundResolvers) {
+        final var parameterTypes = method.getParameterTypes();
+        try {
+            method.setAccessible(true);
+            var handle = MethodHandles.lookup().unreflect(method).bindTo(declaredObject);
+            for (int i = 0; i < parameterTypes.length; i++) {
+                if (parameterTypes[i].isPrimitive() && boundResolvers[i] instanceof final ConvertibleArgumentResolver resolver) {
+                    handle = MethodHandles.filterArguments(handle, i, resolver.getConverter());
+                }
             }
+            return handle.asSpreader(Object[].class, parameterTypes.length)
+                .asType(MethodType.methodType(Object.class, Object[].class));
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Cannot access handler method: " + method, e);
+        }
+    }
 
-            methodParameterCache.put(method, methodParameters);
+    /**
+     * 변환 MethodHandle 을 끼워 넣은 파라미터는 변환하지 않은 문자열을 인자 배열에 담는다.
+     */
+    private static BoundArgumentResolver[] resolveRawValues(final Method method, final BoundArgumentResolver[] boundResolvers) {
+        final var parameterTypes = method.getParameterTypes();
+        final var resolvers = boundResolvers.clone();
+        for (int i = 0; i < resolvers.length; i++) {
+            if (parameterTypes[i].isPrimitive() && resolvers[i] instanceof final ConvertibleArgumentResolver resolver) {
+                resolvers[i] = resolver::resolveValue;
+            }
         }
+        return resolvers;
+    }
 
-        return methodParameters;
+    private static BoundArgumentResolver[] bindArgumentResolvers(final List<HandlerMethodArgumentResolver> argumentResolvers,
+                                                                 final Method method) {
+        final Parameter[] parameters = method.getParameters();
+        final Type[] genericParameterTypes = method.getGenericParameterTypes();
+        final Annotation[][] parameterAnnotations = method.getParameterAnnotations();
+
+        final BoundArgumentResolver[] boundResolvers = new BoundArgumentResolver[parameters.length];
+        for (int i = 0; i < parameters.length; i++) {
+            final var methodParameter = new MethodParameter(method, parameters[i].getType(), genericParameterTypes[i],
+                parameterAnnotations[i], parameters[i].getName());
+            boundResolvers[i] = findArgumentResolver(argumentResolvers, methodParameter).bind(methodParameter);
+        }
+        return boundResolvers;
     }
 
-    private Object getArguments(MethodParameter methodParameter, HttpServletRequest request, HttpServletResponse response) {
-        for (HandlerMethodArgumentResolver resolver : argumentResolver) {
+    private static HandlerMethodArgumentResolver findArgumentResolver(final List<HandlerMethodArgumentResolver> argumentResolvers,
+                                                                      final MethodParameter methodParameter) {
+        for (HandlerMethodArgumentResolver resolver : argumentResolvers) {
             if (resolver.supportsParameter(methodParameter)) {
-                return resolver.resolveArgument(methodParameter, request, response);
+                return resolver;
             }
         }
-
-        throw new IllegalStateException("No suitable resolver for argument: " + methodParameter.getType());
+        throw new IllegalStateException("No suitable resolver for argument: " + methodParameter.getType()
+            + " of " + methodParameter.getMethod());
     }
 }
@@ -1,6 +1,6 @@
 package com.interface21.webmvc.servlet.mvc.tobe;
 
-import com.interface21.webmvc.servlet.ModelAndView;
+import com.interface21.webmvc.servlet.cache.ResponseCachePolicy;
 import com.interface21.webmvc.servlet.mvc.HandlerAdapter;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -13,7 +13,12 @@ public class HandlerExecutionHandlerAdapter implements HandlerAdapter {
     }
 
     @Override
-    public ModelAndView handle(final HttpServletRequest request, final HttpServletResponse response, final Object handler) throws Exception {
-        return ((HandlerExecution) handler).handle(request, response);
+    public Object handle(final HttpServletRequest request, final HttpServletResponse response, final Object handler) throws Exception {
+        return ((HandlerExecution) handler).invoke(request, response);
+    }
+
+    @Override
+    public ResponseCachePolicy getResponseCachePolicy(final Object handler) {
+        return ((HandlerExecution) handler).getResponseCachePolicy();
     }
 }
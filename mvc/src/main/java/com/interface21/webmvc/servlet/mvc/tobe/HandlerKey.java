@@ -1,25 +1,28 @@
 package com.interface21.webmvc.servlet.mvc.tobe;
 
 import com.interface21.web.bind.annotation.RequestMethod;
-import com.interface21.webmvc.servlet.mvc.tobe.support.PathPatternUtil;
+import com.interface21.web.http.MediaType;
 
+import java.util.List;
 import java.util.Objects;
 
 public class HandlerKey {
 
     private final String url;
     private final RequestMethod requestMethod;
+    private final List<MediaType> consumes;
+    private final List<MediaType> produces;
 
     public HandlerKey(final String url, final RequestMethod requestMethod) {
-        this.url = url;
-        this.requestMethod = requestMethod;
+        this(url, requestMethod, List.of(), List.of());
     }
 
-    public boolean isMatch(final HandlerKey handlerKey) {
-        if (!requestMethod.equals(handlerKey.getRequestMethod())) {
-            return false;
-        }
-        return PathPatternUtil.isUrlMatch(url, handlerKey.getUrl());
+    public HandlerKey(final String url, final RequestMethod requestMethod,
+                      final List<MediaType> consumes, final List<MediaType> produces) {
+        this.url = url;
+        this.requestMethod = requestMethod;
+        this.consumes = List.copyOf(consumes);
+        this.produces = List.copyOf(produces);
     }
 
     public String getUrl() {
@@ -30,20 +33,30 @@ public class HandlerKey {
         return requestMethod;
     }
 
+    public List<MediaType> getConsumes() {
+        return consumes;
+    }
+
+    public List<MediaType> getProduces() {
+        return produces;
+    }
+
     @Override
     public String toString() {
-        return "HandlerKey [url=" + url + ", requestMethod=" + requestMethod + "]";
+        return "HandlerKey [url=" + url + ", requestMethod=" + requestMethod
+            + ", consumes=" + consumes + ", produces=" + produces + "]";
     }
 
     @Override
     public boolean equals(final Object o) {
         if (this == o) return true;
         if (!(o instanceof final HandlerKey that)) return false;
-        return Objects.equals(url, that.url) && requestMethod == that.requestMethod;
+        return Objects.equals(url, that.url) && requestMethod == that.requestMethod
+            && consumes.equals(that.consumes) && produces.equals(that.produces);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(url, requestMethod);
+        return Objects.hash(url, requestMethod, consumes, produces);
     }
 }
@@ -3,20 +3,28 @@ package com.interface21.webmvc.servlet.mvc.tobe.support;
 import com.interface21.core.MethodParameter;
 import com.interface21.web.method.support.HandlerMethodArgumentResolver;
 
-import java.util.Arrays;
+import java.lang.annotation.Annotation;
 
 public abstract class AbstractAnnotationArgumentResolver implements HandlerMethodArgumentResolver {
 
-    protected boolean supportAnnotation(MethodParameter methodParameter, Class<?> annotation) {
-        return Arrays.stream(methodParameter.getAnnotations())
-                .anyMatch(ann -> ann.annotationType() == annotation);
+    protected boolean supportAnnotation(MethodParameter methodParameter, Class<? extends Annotation> annotation) {
+        return findAnnotation(methodParameter, annotation) != null;
     }
 
-    protected <T> T getAnnotation(MethodParameter methodParameter, Class<T> annotationClazz) {
-        return Arrays.stream(methodParameter.getAnnotations())
-                .filter(ann -> ann.annotationType() == annotationClazz)
-                .findAny()
-                .map(annotationClazz::cast)
-                .orElseThrow(IllegalArgumentException::new);
+    protected <T extends Annotation> T getAnnotation(MethodParameter methodParameter, Class<T> annotationClazz) {
+        final T annotation = findAnnotation(methodParameter, annotationClazz);
+        if (annotation == null) {
+            throw new IllegalArgumentException();
+        }
+        return annotation;
+    }
+
+    private <T extends Annotation> T findAnnotation(MethodParameter methodParameter, Class<T> annotationClazz) {
+        for (Annotation annotation : methodParameter.getAnnotations()) {
+            if (annotation.annotationType() == annotationClazz) {
+                return annotationClazz.cast(annotation);
+            }
+        }
+        return null;
     }
 }
@@ -0,0 +1,45 @@
+package com.interface21.webmvc.servlet.mvc.tobe.support;
+
+import com.interface21.core.convert.ConversionService;
+import com.interface21.web.method.support.ConvertibleArgumentResolver;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.lang.invoke.MethodHandle;
+
+/**
+ * 요청에서 문자열 하나를 꺼내 파라미터 타입으로 변환하는 resolver.
+ */
+final class BoundValueResolver implements ConvertibleArgumentResolver {
+
+    @FunctionalInterface
+    interface ValueExtractor {
+
+        String extract(HttpServletRequest request);
+    }
+
+    private final ValueExtractor valueExtractor;
+    private final ConversionService conversionService;
+    private final Class<?> type;
+
+    BoundValueResolver(ValueExtractor valueExtractor, ConversionService conversionService, Class<?> type) {
+        this.valueExtractor = valueExtractor;
+        this.conversionService = conversionService;
+        this.type = type;
+    }
+
+    @Override
+    public Object resolve(HttpServletRequest request, HttpServletResponse response) {
+        return conversionService.convert(valueExtractor.extract(request), type);
+    }
+
+    @Override
+    public String resolveValue(HttpServletRequest request, HttpServletResponse response) {
+        return valueExtractor.extract(request);
+    }
+
+    @Override
+    public MethodHandle getConverter() {
+        return conversionService.getConverterHandle(type);
+    }
+}
@@ -1,6 +1,7 @@
 package com.interface21.webmvc.servlet.mvc.tobe.support;
 
 import com.interface21.core.MethodParameter;
+import com.interface21.web.method.support.BoundArgumentResolver;
 import com.interface21.web.method.support.HandlerMethodArgumentResolver;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -16,4 +17,9 @@ public class HttpResponseArgumentResolver implements HandlerMethodArgumentResolv
     public Object resolveArgument(MethodParameter methodParameter, HttpServletRequest request, HttpServletResponse response) {
         return response;
     }
+
+    @Override
+    public BoundArgumentResolver bind(MethodParameter methodParameter) {
+        return (request, response) -> response;
+    }
 }
@@ -0,0 +1,235 @@
+package com.interface21.webmvc.servlet.mvc.tobe.support;
+
+import com.interface21.core.convert.ConversionService;
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 요청 파라미터로 DTO 하나를 만드는 바인더. DTO 클래스마다 한 번만 만든다.
+ * <p>
+ * record 는 canonical 생성자를, 그 외 클래스는 public 기본 생성자나 파라미터가 가장 많은 public 생성자를 사용한다.
+ * 생성자 인자로 채우지 않은 프로퍼티는 public setter 로 채운다.
+ * 단일 값 파라미터는 문자열을 그대로 넘기고 변환 MethodHandle 을 생성자와 setter 앞에 끼워 넣으므로,
+ * 기본 타입 프로퍼티도 박싱 없이 설정된다. 요청에 없는 값은 생성자에는 기본값을 넘기고 setter 는 호출하지 않는다.
+ * {@link ConversionService} 가 변환할 수 없는 타입은 바인딩하지 않는다. 그런 생성자 인자에는 항상 기본값을 넘기고 setter 는 건너뛴다.
+ */
+final class ModelBinder {
+
+    private static final MethodHandle IS_NULL;
+
+    static {
+        try {
+            IS_NULL = MethodHandles.lookup()
+                .findStatic(Objects.class, "isNull", MethodType.methodType(boolean.class, Object.class))
+                .asType(MethodType.methodType(boolean.class, String.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private final Class<?> type;
+    private final MethodHandle constructor;
+    private final ParameterBinding[] constructorParameters;
+    private final PropertyBinding[] properties;
+
+    ModelBinder(final Class<?> type, final ConversionService conversionService) {
+        this.type = type;
+        final var selected = selectConstructor(type);
+        final var parameterNames = getParameterNames(type, selected);
+        final var parameterTypes = selected.getParameterTypes();
+        final var genericParameterTypes = selected.getGenericParameterTypes();
+
+        this.constructorParameters = new ParameterBinding[parameterTypes.length];
+        var handle = unreflectConstructor(selected);
+        for (int i = 0; i < parameterTypes.length; i++) {
+            final boolean bound = conversionService.canConvert(parameterTypes[i]);
+            final boolean multiValue = bound && isMultiValue(parameterTypes[i]);
+            constructorParameters[i] = new ParameterBinding(parameterNames[i], bound, multiValue, parameterTypes[i], genericParameterTypes[i]);
+            if (!bound) {
+                handle = MethodHandles.filterArguments(handle, i, defaultValue(parameterTypes[i]));
+            } else if (!multiValue) {
+                handle = MethodHandles.filterArguments(handle, i, nullSafeConverter(conversionService, parameterTypes[i]));
+            }
+        }
+        this.constructor = handle.asSpreader(Object[].class, parameterTypes.length)
+            .asType(MethodType.methodType(Object.class, Object[].class));
+        this.properties = bindProperties(type, Set.of(parameterNames), conversionService);
+    }
+
+    Object bind(final HttpServletRequest request, final ConversionService conversionService) {
+        final Object[] args = new Object[constructorParameters.length];
+        for (int i = 0; i < args.length; i++) {
+            final var parameter = constructorParameters[i];
+            if (!parameter.bound) {
+                continue;
+            }
+            if (parameter.multiValue) {
+                args[i] = conversionService.convert(request.getParameterValues(parameter.name), parameter.type, parameter.genericType);
+            } else {
+                args[i] = request.getParameter(parameter.name);
+            }
+        }
+
+        try {
+            final Object bean = constructor.invokeExact(args);
+            for (PropertyBinding property : properties) {
+                property.bind(bean, request, conversionService);
+            }
+            return bean;
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(type + " binding failed", e);
+        }
+    }
+
+    private static Constructor<?> selectConstructor(final Class<?> type) {
+        if (type.isRecord()) {
+            final var components = type.getRecordComponents();
+            final Class<?>[] componentTypes = new Class<?>[components.length];
+            for (int i = 0; i < components.length; i++) {
+                componentTypes[i] = components[i].getType();
+            }
+            try {
+                return type.getDeclaredConstructor(componentTypes);
+            } catch (NoSuchMethodException e) {
+                throw new IllegalStateException("[" + type.getName() + "] canonical constructor not found", e);
+            }
+        }
+
+        Constructor<?> selected = null;
+        for (Constructor<?> candidate : type.getConstructors()) {
+            if (candidate.getParameterCount() == 0) {
+                return candidate;
+            }
+            if (selected == null || candidate.getParameterCount() > selected.getParameterCount()) {
+                selected = candidate;
+            }
+        }
+        if (selected == null) {
+            throw new IllegalStateException("[" + type.getName() + "] supported constructor is empty");
+        }
+        return selected;
+    }
+
+    private static String[] getParameterNames(final Class<?> type, final Constructor<?> constructor) {
+        if (type.isRecord()) {
+            final var components = type.getRecordComponents();
+            final String[] names = new String[components.length];
+            for (int i = 0; i < components.length; i++) {
+                names[i] = components[i].getName();
+            }
+            return names;
+        }
+        final Parameter[] parameters = constructor.getParameters();
+        final String[] names = new String[parameters.length];
+        for (int i = 0; i < parameters.length; i++) {
+            names[i] = parameters[i].getName();
+        }
+        return names;
+    }
+
+    private static PropertyBinding[] bindProperties(final Class<?> type, final Set<String> constructorParameterNames,
+                                                    final ConversionService conversionService) {
+        final List<PropertyBinding> properties = new ArrayList<>();
+        final Set<String> boundNames = new HashSet<>(constructorParameterNames);
+        for (Method method : type.getMethods()) {
+            if (!isSetter(method)) {
+                continue;
+            }
+            final var name = Character.toLowerCase(method.getName().charAt(3)) + method.getName().substring(4);
+            final var propertyType = method.getParameterTypes()[0];
+            if (!conversionService.canConvert(propertyType) || !boundNames.add(name)) {
+                continue;
+            }
+
+            final var setter = unreflect(method);
+            if (isMultiValue(propertyType)) {
+                properties.add(new PropertyBinding(name, true, propertyType, method.getGenericParameterTypes()[0],
+                    setter.asType(MethodType.methodType(void.class, Object.class, Object.class))));
+            } else {
+                final var converting = MethodHandles.filterArguments(setter, 1, conversionService.getConverterHandle(propertyType));
+                properties.add(new PropertyBinding(name, false, propertyType, propertyType,
+                    converting.asType(MethodType.methodType(void.class, Object.class, String.class))));
+            }
+        }
+        return properties.toArray(PropertyBinding[]::new);
+    }
+
+    private static boolean isSetter(final Method method) {
+        return method.getName().length() > 3
+            && method.getName().startsWith("set")
+            && method.getParameterCount() == 1
+            && !Modifier.isStatic(method.getModifiers());
+    }
+
+    private static boolean isMultiValue(final Class<?> type) {
+        return type.isArray() || Collection.class.isAssignableFrom(type);
+    }
+
+    /**
+     * {@code (String)type} 변환 MethodHandle. 값이 null 이면 타입의 기본값을 반환한다.
+     */
+    private static MethodHandle nullSafeConverter(final ConversionService conversionService, final Class<?> type) {
+        return MethodHandles.guardWithTest(IS_NULL, defaultValue(type), conversionService.getConverterHandle(type));
+    }
+
+    /**
+     * 인자를 무시하고 타입의 기본값을 반환하는 {@code (String)type} MethodHandle.
+     */
+    private static MethodHandle defaultValue(final Class<?> type) {
+        return MethodHandles.dropArguments(MethodHandles.zero(type), 0, String.class);
+    }
+
+    private static MethodHandle unreflectConstructor(final Constructor<?> constructor) {
+        try {
+            constructor.setAccessible(true);
+            return MethodHandles.lookup().unreflectConstructor(constructor);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(constructor.getDeclaringClass() + " Constructor access failed", e);
+        }
+    }
+
+    private static MethodHandle unreflect(final Method method) {
+        try {
+            method.setAccessible(true);
+            return MethodHandles.lookup().unreflect(method);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(method + " access failed", e);
+        }
+    }
+
+    private record ParameterBinding(String name, boolean bound, boolean multiValue, Class<?> type, Type genericType) {
+    }
+
+    private record PropertyBinding(String name, boolean multiValue, Class<?> type, Type genericType, MethodHandle setter) {
+
+        void bind(final Object bean, final HttpServletRequest request, final ConversionService conversionService) throws Throwable {
+            if (multiValue) {
+                final var values = request.getParameterValues(name);
+                if (values != null) {
+                    setter.invokeExact(bean, conversionService.convert(values, type, genericType));
+                }
+                return;
+            }
+            final var value = request.getParameter(name);
+            if (value != null) {
+                setter.invokeExact(bean, value);
+            }
+        }
+    }
+}
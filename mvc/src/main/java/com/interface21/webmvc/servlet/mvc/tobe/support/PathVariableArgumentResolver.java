@@ -1,9 +1,14 @@
 package com.interface21.webmvc.servlet.mvc.tobe.support;
 
 import com.interface21.core.MethodParameter;
-import com.interface21.core.util.ReflectionUtils;
+import com.interface21.core.convert.ConversionService;
+import com.interface21.core.convert.support.DefaultConversionService;
 import com.interface21.web.bind.annotation.PathVariable;
 import com.interface21.web.bind.annotation.RequestMapping;
+import com.interface21.web.method.support.BoundArgumentResolver;
+import com.interface21.webmvc.servlet.mvc.HandlerMapping;
+import com.interface21.webmvc.servlet.mvc.MethodArgumentTypeNotSupportedException;
+import com.interface21.webmvc.servlet.mvc.MissingRequestValueException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.apache.commons.lang3.StringUtils;
@@ -12,6 +17,16 @@ import java.lang.reflect.Method;
 
 public class PathVariableArgumentResolver extends AbstractAnnotationArgumentResolver {
 
+    private final ConversionService conversionService;
+
+    public PathVariableArgumentResolver() {
+        this(DefaultConversionService.getSharedInstance());
+    }
+
+    public PathVariableArgumentResolver(ConversionService conversionService) {
+        this.conversionService = conversionService;
+    }
+
     @Override
     public boolean supportsParameter(MethodParameter methodParameter) {
         return supportAnnotation(methodParameter, PathVariable.class);
@@ -19,11 +34,40 @@ public class PathVariableArgumentResolver extends AbstractAnnotationArgumentReso
 
     @Override
     public Object resolveArgument(MethodParameter methodParameter, HttpServletRequest request, HttpServletResponse response) {
+        return bind(methodParameter).resolve(request, response);
+    }
+
+    @Override
+    public BoundArgumentResolver bind(MethodParameter methodParameter) {
         PathVariable pathVariable = getAnnotation(methodParameter, PathVariable.class);
-        String pattern = getPattern(methodParameter);
         String key = getPathVariableKey(pathVariable, methodParameter.getParameterName());
-        final var uriValue = PathPatternUtil.getUriValue(pattern, request.getRequestURI(), key);
-        return ReflectionUtils.convertStringValue(uriValue, methodParameter.getType());
+        String pattern = getPattern(methodParameter);
+        Class<?> type = methodParameter.getType();
+        boolean required = pathVariable.required();
+
+        if (!conversionService.canConvert(type)) {
+            throw new MethodArgumentTypeNotSupportedException(type, key);
+        }
+        return new BoundValueResolver(request -> {
+            String uriValue = getUriValue(pattern, request, key);
+            if (uriValue == null && required) {
+                throw new MissingRequestValueException("URI template variable", key, type);
+            }
+            return uriValue;
+        }, conversionService, type);
+    }
+
+    /**
+     * 핸들러 매핑이 저장해 둔 URI 변수를 사용하고, 없으면 {@link RequestMapping} 패턴으로 직접 추출한다.
+     */
+    private String getUriValue(String pattern, HttpServletRequest request, String key) {
+        if (request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE) instanceof final RouteMatch<?> match) {
+            return match.getUriVariable(key);
+        }
+        if (pattern == null) {
+            throw new IllegalStateException("Cannot resolve URI template variable '" + key + "' without RequestMapping");
+        }
+        return PathPatternUtil.getUriValue(pattern, request.getRequestURI(), key);
     }
 
     private String getPathVariableKey(PathVariable pathVariable, String parameterName) {
@@ -35,10 +79,8 @@ public class PathVariableArgumentResolver extends AbstractAnnotationArgumentReso
     private String getPattern(MethodParameter methodParameter) {
         Method method = methodParameter.getMethod();
         if (method.isAnnotationPresent(RequestMapping.class)) {
-            final RequestMapping annotation = method.getAnnotation(RequestMapping.class);
-            return annotation.value();
+            return method.getAnnotation(RequestMapping.class).value();
         }
-
-        throw new IllegalStateException(method.getName() + " doesn't have RequestMapping annotation");
+        return null;
     }
 }
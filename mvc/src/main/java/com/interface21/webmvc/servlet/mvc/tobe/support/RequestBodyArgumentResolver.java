@@ -0,0 +1,125 @@
+package com.interface21.webmvc.servlet.mvc.tobe.support;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.interface21.core.MethodParameter;
+import com.interface21.web.bind.annotation.RequestBody;
+import com.interface21.web.http.MediaType;
+import com.interface21.web.method.support.BoundArgumentResolver;
+import com.interface21.webmvc.servlet.mvc.HttpMediaTypeNotSupportedException;
+import com.interface21.webmvc.servlet.mvc.HttpMessageNotReadableException;
+import com.interface21.webmvc.servlet.mvc.PayloadTooLargeException;
+import com.interface21.webmvc.servlet.view.ObjectWriterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link RequestBody} 파라미터를 {@code request.getInputStream()} 에서 바로 역직렬화한다. 본문을 String 이나 byte[] 로 모으지 않는다.
+ * <p>
+ * 파라미터 타입별 {@link ObjectReader} 는 핸들러를 등록할 때 만들어 묶어 두고, 같은 타입을 받는 핸들러끼리 공유한다.
+ * ObjectMapper 를 지정하지 않으면 JSON 뷰와 같은 {@link ObjectWriterRegistry#getSharedInstance()} 의 mapper 를 쓴다.
+ * <p>
+ * 본문이 {@code maxBodySize} 바이트를 넘으면 {@link PayloadTooLargeException} 이 발생한다. Content-Length 가 크면 읽지 않고 바로,
+ * chunked 요청이면 한도를 넘는 순간 멈춘다. 기본 한도는 {@value #MAX_BODY_SIZE_PROPERTY} 시스템 프로퍼티로 바꿀 수 있다.
+ * Content-Type 이 JSON 이 아니면 {@link HttpMediaTypeNotSupportedException}, 본문이 없거나, 값 뒤에 다른 토큰이 있거나,
+ * 읽는 도중 클라이언트 연결이 끊기면 {@link HttpMessageNotReadableException} 이 발생한다.
+ */
+public class RequestBodyArgumentResolver extends AbstractAnnotationArgumentResolver {
+
+    public static final String MAX_BODY_SIZE_PROPERTY = "interface21.request-body.max-size";
+    public static final long DEFAULT_MAX_BODY_SIZE = 1_048_576;
+
+    private final ObjectMapper objectMapper;
+    private final long maxBodySize;
+    private final Map<Type, ObjectReader> readers = new ConcurrentHashMap<>();
+
+    public RequestBodyArgumentResolver() {
+        this(null, Long.getLong(MAX_BODY_SIZE_PROPERTY, DEFAULT_MAX_BODY_SIZE));
+    }
+
+    public RequestBodyArgumentResolver(final ObjectMapper objectMapper, final long maxBodySize) {
+        if (maxBodySize <= 0) {
+            throw new IllegalArgumentException("maxBodySize must be positive : " + maxBodySize);
+        }
+        this.objectMapper = objectMapper;
+        this.maxBodySize = maxBodySize;
+    }
+
+    @Override
+    public boolean supportsParameter(final MethodParameter methodParameter) {
+        return supportAnnotation(methodParameter, RequestBody.class);
+    }
+
+    @Override
+    public Object resolveArgument(final MethodParameter methodParameter, final HttpServletRequest request, final HttpServletResponse response) {
+        return bind(methodParameter).resolve(request, response);
+    }
+
+    @Override
+    public BoundArgumentResolver bind(final MethodParameter methodParameter) {
+        final boolean required = getAnnotation(methodParameter, RequestBody.class).required();
+        final var reader = getReader(methodParameter.getGenericType());
+        return (request, response) -> read(reader, required, request);
+    }
+
+    ObjectReader getReader(final Type type) {
+        return readers.computeIfAbsent(type, key -> {
+            final var mapper = objectMapper != null ? objectMapper : ObjectWriterRegistry.getSharedInstance().getObjectMapper();
+            return mapper.readerFor(mapper.constructType(key)).with(DeserializationFeature.FAIL_ON_TRAILING_TOKENS);
+        });
+    }
+
+    private Object read(final ObjectReader reader, final boolean required, final HttpServletRequest request) {
+        checkContentType(request.getContentType());
+        if (request.getContentLengthLong() > maxBodySize) {
+            throw new PayloadTooLargeException(maxBodySize);
+        }
+
+        SizeLimitedInputStream input = null;
+        try {
+            input = new SizeLimitedInputStream(request.getInputStream(), maxBodySize);
+            try (final var parser = reader.createParser(input)) {
+                if (parser.nextToken() == null) {
+                    if (required) {
+                        throw new HttpMessageNotReadableException("Required request body is missing");
+                    }
+                    return null;
+                }
+                return reader.readValue(parser);
+            }
+        } catch (IOException e) {
+            if (input != null && input.isExceeded()) {
+                throw new PayloadTooLargeException(maxBodySize);
+            }
+            if (e instanceof final JsonProcessingException jsonException) {
+                throw new HttpMessageNotReadableException("Could not read request body: " + jsonException.getOriginalMessage(), e);
+            }
+            throw new HttpMessageNotReadableException("Could not read request body: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Content-Type 이 없으면 JSON 으로 본다. {@code application/problem+json} 같은 {@code +json} 타입도 받는다.
+     */
+    private void checkContentType(final String contentType) {
+        if (contentType == null) {
+            return;
+        }
+        final MediaType mediaType;
+        try {
+            mediaType = MediaType.parse(contentType);
+        } catch (IllegalArgumentException e) {
+            throw new HttpMediaTypeNotSupportedException(contentType);
+        }
+        if (!MediaType.APPLICATION_JSON.includes(mediaType) && !mediaType.getSubtype().endsWith("+json")) {
+            throw new HttpMediaTypeNotSupportedException(contentType);
+        }
+    }
+}
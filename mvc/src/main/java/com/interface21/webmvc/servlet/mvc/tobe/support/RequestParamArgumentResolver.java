@@ -1,14 +1,31 @@
 package com.interface21.webmvc.servlet.mvc.tobe.support;
 
 import com.interface21.core.MethodParameter;
+import com.interface21.core.convert.ConversionService;
+import com.interface21.core.convert.support.DefaultConversionService;
 import com.interface21.web.bind.annotation.RequestParam;
+import com.interface21.web.method.support.BoundArgumentResolver;
 import com.interface21.webmvc.servlet.mvc.MethodArgumentTypeNotSupportedException;
+import com.interface21.webmvc.servlet.mvc.MissingRequestValueException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.apache.commons.lang3.StringUtils;
 
+import java.lang.reflect.Type;
+import java.util.Collection;
+
 public class RequestParamArgumentResolver extends AbstractAnnotationArgumentResolver {
 
+    private final ConversionService conversionService;
+
+    public RequestParamArgumentResolver() {
+        this(DefaultConversionService.getSharedInstance());
+    }
+
+    public RequestParamArgumentResolver(ConversionService conversionService) {
+        this.conversionService = conversionService;
+    }
+
     @Override
     public boolean supportsParameter(MethodParameter methodParameter) {
         return supportAnnotation(methodParameter, RequestParam.class);
@@ -16,18 +33,40 @@ public class RequestParamArgumentResolver extends AbstractAnnotationArgumentReso
 
     @Override
     public Object resolveArgument(MethodParameter methodParameter, HttpServletRequest request, HttpServletResponse response) {
+        return bind(methodParameter).resolve(request, response);
+    }
+
+    @Override
+    public BoundArgumentResolver bind(MethodParameter methodParameter) {
         RequestParam requestParam = getAnnotation(methodParameter, RequestParam.class);
         String key = getRequestParamKey(requestParam, methodParameter.getParameterName());
+        Class<?> type = methodParameter.getType();
+        Type genericType = methodParameter.getGenericType();
+        boolean required = requestParam.required();
 
-        Object arg = request.getParameter(key);
+        if (!conversionService.canConvert(type)) {
+            throw new MethodArgumentTypeNotSupportedException(type, key);
+        }
+        if (isMultiValue(type)) {
+            return (request, response) -> convert(request.getParameterValues(key), key, type, genericType, required);
+        }
+        return new BoundValueResolver(request -> requireValue(request.getParameter(key), key, type, required),
+            conversionService, type);
+    }
 
-        if (methodParameter.isString()) {
-            return arg;
-        } else if (methodParameter.isInteger()) {
-            return Integer.valueOf(arg.toString());
+    private Object convert(Object value, String key, Class<?> type, Type genericType, boolean required) {
+        return conversionService.convert(requireValue(value, key, type, required), type, genericType);
+    }
+
+    private <T> T requireValue(T value, String key, Class<?> type, boolean required) {
+        if (value == null && required) {
+            throw new MissingRequestValueException("request parameter", key, type);
         }
+        return value;
+    }
 
-        throw new MethodArgumentTypeNotSupportedException(methodParameter.getType(), arg);
+    private boolean isMultiValue(Class<?> type) {
+        return type.isArray() || Collection.class.isAssignableFrom(type);
     }
 
     private String getRequestParamKey(RequestParam requestParam, String parameterName) {
@@ -0,0 +1,66 @@
+package com.interface21.webmvc.servlet.mvc.tobe.support;
+
+import com.interface21.web.http.MediaType;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link RouteTree} 의 매칭 결과. URI 변수는 요청 경로 안의 위치로만 기록해 두고, 값을 꺼낼 때 잘라낸다.
+ */
+public final class RouteMatch<H> {
+
+    private final H handler;
+    private final String pattern;
+    private final String path;
+    private final String[] variableNames;
+    private final int[] offsets;
+    private final List<MediaType> producibleMediaTypes;
+
+    RouteMatch(final H handler, final String pattern, final String path, final String[] variableNames, final int[] offsets,
+               final List<MediaType> producibleMediaTypes) {
+        this.handler = handler;
+        this.pattern = pattern;
+        this.path = path;
+        this.variableNames = variableNames;
+        this.offsets = offsets;
+        this.producibleMediaTypes = producibleMediaTypes;
+    }
+
+    public H getHandler() {
+        return handler;
+    }
+
+    public String getPattern() {
+        return pattern;
+    }
+
+    /**
+     * 매칭된 route 가 produces 로 선언한 미디어 타입. 선언하지 않았으면 빈 목록이다.
+     */
+    public List<MediaType> getProducibleMediaTypes() {
+        return producibleMediaTypes;
+    }
+
+    public String getUriVariable(final String name) {
+        for (int i = 0; i < variableNames.length; i++) {
+            if (variableNames[i].equals(name)) {
+                return path.substring(offsets[i * 2], offsets[i * 2 + 1]);
+            }
+        }
+        return null;
+    }
+
+    public Map<String, String> getUriVariables() {
+        if (variableNames.length == 0) {
+            return Collections.emptyMap();
+        }
+        final Map<String, String> variables = new LinkedHashMap<>();
+        for (int i = 0; i < variableNames.length; i++) {
+            variables.put(variableNames[i], path.substring(offsets[i * 2], offsets[i * 2 + 1]));
+        }
+        return variables;
+    }
+}
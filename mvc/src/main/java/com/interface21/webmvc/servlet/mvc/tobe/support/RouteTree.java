@@ -0,0 +1,476 @@
+package com.interface21.webmvc.servlet.mvc.tobe.support;
+
+import com.interface21.web.bind.annotation.RequestMethod;
+import com.interface21.web.http.MediaType;
+import com.interface21.webmvc.servlet.mvc.HttpMediaTypeNotAcceptableException;
+import com.interface21.webmvc.servlet.mvc.HttpMediaTypeNotSupportedException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * URL 패턴을 '/' 단위 세그먼트로 나눈 트리.
+ * <p>
+ * 한 세그먼트에서는 정적 세그먼트, {@code file-{name}.txt} 처럼 변수가 섞인 세그먼트, {@code {var}},
+ * {@code *}, {@code **} 순서로 시도하고, 앞선 후보로 끝까지 매칭되지 않을 때만 다음 후보로 넘어간다.
+ * 그래서 겹치는 패턴이 있어도 등록 순서와 관계없이 항상 더 구체적인 패턴이 선택된다.
+ * {@code *} 는 세그먼트 하나, 마지막에만 올 수 있는 {@code **} 는 남은 경로 전체(빈 경로 포함)에 매칭된다.
+ * <p>
+ * 정적 자식 노드는 정렬된 배열에서 요청 경로의 구간과 직접 비교해 찾으므로 세그먼트 문자열을 만들지 않는다.
+ * URI 변수가 없는 패턴은 등록할 때 만든 {@link RouteMatch} 를 그대로 반환하므로 매칭할 때 객체를 만들지 않는다.
+ * 트리는 초기화할 때 만들고 이후에는 읽기만 한다.
+ * <p>
+ * 같은 패턴과 메서드에 consumes, produces 가 다른 핸들러를 함께 등록할 수 있다. 요청의 Content-Type 을 받는 후보 중
+ * Accept 에서 q 값이 가장 큰 produces 를 선언한 후보를 고르고, produces 가 없는 후보는 맞는 후보가 없을 때만 고른다.
+ * 값이 같으면 consumes 를 선언한 후보, 먼저 등록한 후보 순서다. 이런 조건이 하나도 없는 트리는 헤더를 읽지 않는다.
+ */
+public final class RouteTree<H> {
+
+    private static final Pattern VARIABLE_PATTERN = Pattern.compile("\\{([^}/]+)}");
+    private static final String WILDCARD = "*";
+    private static final String CATCH_ALL = "**";
+    private static final int METHOD_COUNT = RequestMethod.values().length;
+    private static final double UNSPECIFIED_QUALITY = Double.MIN_VALUE;
+    private static final MediaTypeConditions UNCONDITIONAL = new MediaTypeConditions(null, null);
+
+    private final Node<H> root = new Node<>(null);
+    private int maxVariableCount;
+    private boolean mediaTypeConditions;
+
+    /**
+     * @throws IllegalStateException 같은 패턴과 메서드가 이미 등록되어 있는 경우
+     */
+    public void add(final String pattern, final RequestMethod requestMethod, final H handler) {
+        add(pattern, requestMethod, List.of(), List.of(), handler);
+    }
+
+    /**
+     * @param consumes 비어 있으면 Content-Type 을 검사하지 않는다
+     * @param produces 비어 있으면 Accept 를 검사하지 않는다
+     * @throws IllegalStateException 같은 패턴, 메서드, consumes, produces 가 이미 등록되어 있는 경우
+     */
+    public void add(final String pattern, final RequestMethod requestMethod,
+                    final List<MediaType> consumes, final List<MediaType> produces, final H handler) {
+        final var normalized = normalize(pattern);
+        final List<String> variableNames = new ArrayList<>();
+        var node = root;
+
+        final var segments = normalized.substring(1).split("/", -1);
+        for (int i = 0; i < segments.length; i++) {
+            final var segment = segments[i];
+            if (segment.equals(CATCH_ALL)) {
+                if (i != segments.length - 1) {
+                    throw new IllegalArgumentException("'**' is only allowed at the end of pattern: " + pattern);
+                }
+                node = node.catchAllChild = getOrCreate(node.catchAllChild, segment);
+            } else if (segment.equals(WILDCARD)) {
+                node = node.wildcardChild = getOrCreate(node.wildcardChild, segment);
+            } else if (isVariable(segment)) {
+                variableNames.add(segment.substring(1, segment.length() - 1));
+                node = node.variableChild = getOrCreate(node.variableChild, segment);
+            } else if (segment.indexOf('{') >= 0) {
+                node = node.addPatternChild(segment, variableNames);
+            } else {
+                node = node.addStaticChild(segment);
+            }
+        }
+
+        final int method = requestMethod.ordinal();
+        final var route = new Route<>(handler, normalized, variableNames.toArray(String[]::new),
+            List.copyOf(consumes), List.copyOf(produces));
+        final var existing = node.routes[method];
+        if (existing != null) {
+            for (Route<H> candidate : existing) {
+                if (candidate.hasSameConditions(route)) {
+                    throw new IllegalStateException("Ambiguous mapping. [" + requestMethod + " " + pattern
+                        + "] is already mapped to " + candidate.handler);
+                }
+            }
+        }
+        node.routes[method] = insert(existing, route);
+        maxVariableCount = Math.max(maxVariableCount, variableNames.size());
+        mediaTypeConditions |= route.rank() < Route.UNCONDITIONAL_RANK;
+    }
+
+    /**
+     * consumes 나 produces 를 선언한 route 가 있으면 {@link #match(String, RequestMethod, String, String)} 에 헤더를 넘겨야 한다.
+     */
+    public boolean hasMediaTypeConditions() {
+        return mediaTypeConditions;
+    }
+
+    /**
+     * Content-Type 과 Accept 헤더가 없는 요청으로 보고 매칭한다.
+     *
+     * @return 매칭되는 패턴이 없으면 null
+     */
+    public RouteMatch<H> match(final String path, final RequestMethod requestMethod) {
+        return match(path, requestMethod, null, null);
+    }
+
+    /**
+     * @return 매칭되는 패턴이 없으면 null
+     * @throws HttpMediaTypeNotSupportedException 경로와 메서드가 매칭되는 route 가 모두 요청의 Content-Type 을 받지 않는 경우
+     * @throws HttpMediaTypeNotAcceptableException Content-Type 은 받지만 Accept 가 받는 형식을 produces 로 선언한 route 가 없는 경우
+     */
+    public RouteMatch<H> match(final String path, final RequestMethod requestMethod, final String contentType, final String accept) {
+        if (path == null || path.isEmpty() || path.charAt(0) != '/') {
+            return null;
+        }
+        if (mediaTypeConditions) {
+            return match(path, requestMethod.ordinal(), new MediaTypeConditions(contentType, accept));
+        }
+        return match(path, requestMethod.ordinal(), UNCONDITIONAL);
+    }
+
+    private RouteMatch<H> match(final String path, final int method, final MediaTypeConditions conditions) {
+        final var match = find(root, path, 1, method, null, 0, conditions);
+        if (match == null) {
+            conditions.checkRejected();
+        }
+        return match;
+    }
+
+    /**
+     * URI 변수의 위치는 처음 변수 세그먼트를 지날 때 만든 {@code offsets} 에 기록하므로, 트리를 한 번만 내려가고
+     * 변수가 없는 경로에서는 배열을 만들지 않는다. 되돌아가서 다른 후보를 시도하면 그 후보가 같은 칸을 다시 쓴다.
+     * {@code conditions} 가 {@link #UNCONDITIONAL} 이면 트리에 조건이 있는 route 가 없으므로 후보가 하나뿐이다.
+     */
+    private RouteMatch<H> find(final Node<H> node, final String path, final int start, final int method,
+                               final int[] offsets, final int variableCount, final MediaTypeConditions conditions) {
+        int end = path.indexOf('/', start);
+        if (end < 0) {
+            end = path.length();
+        }
+
+        final var staticChild = node.findStaticChild(path, start, end);
+        if (staticChild != null) {
+            final var match = next(staticChild, path, end, method, offsets, variableCount, conditions);
+            if (match != null) {
+                return match;
+            }
+        }
+
+        int[] variableOffsets = offsets;
+        for (Node<H> patternChild : node.patternChildren) {
+            final Matcher matcher = patternChild.segmentPattern.matcher(path).region(start, end);
+            if (matcher.matches()) {
+                if (variableOffsets == null) {
+                    variableOffsets = new int[maxVariableCount * 2];
+                }
+                for (int group = 1; group <= matcher.groupCount(); group++) {
+                    variableOffsets[(variableCount + group - 1) * 2] = matcher.start(group);
+                    variableOffsets[(variableCount + group - 1) * 2 + 1] = matcher.end(group);
+                }
+                final var match = next(patternChild, path, end, method, variableOffsets, variableCount + matcher.groupCount(), conditions);
+                if (match != null) {
+                    return match;
+                }
+            }
+        }
+
+        if (end > start && node.variableChild != null) {
+            if (variableOffsets == null) {
+                variableOffsets = new int[maxVariableCount * 2];
+            }
+            variableOffsets[variableCount * 2] = start;
+            variableOffsets[variableCount * 2 + 1] = end;
+            final var match = next(node.variableChild, path, end, method, variableOffsets, variableCount + 1, conditions);
+            if (match != null) {
+                return match;
+            }
+        }
+
+        if (end > start && node.wildcardChild != null) {
+            final var match = next(node.wildcardChild, path, end, method, offsets, variableCount, conditions);
+            if (match != null) {
+                return match;
+            }
+        }
+
+        return node.catchAllChild == null ? null : toMatch(select(node.catchAllChild.routes[method], conditions), path, offsets);
+    }
+
+    private RouteMatch<H> next(final Node<H> child, final String path, final int end, final int method,
+                               final int[] offsets, final int variableCount, final MediaTypeConditions conditions) {
+        if (end < path.length()) {
+            return find(child, path, end + 1, method, offsets, variableCount, conditions);
+        }
+        var route = select(child.routes[method], conditions);
+        if (route == null && child.catchAllChild != null) {
+            route = select(child.catchAllChild.routes[method], conditions);
+        }
+        return toMatch(route, path, offsets);
+    }
+
+    private static <H> RouteMatch<H> toMatch(final Route<H> route, final String path, final int[] offsets) {
+        if (route == null) {
+            return null;
+        }
+        if (route.variableNames.length == 0) {
+            return route.match;
+        }
+        return new RouteMatch<>(route.handler, route.pattern, path, route.variableNames, offsets, route.produces);
+    }
+
+    private static <H> Route<H> select(final Route<H>[] candidates, final MediaTypeConditions conditions) {
+        if (candidates == null) {
+            return null;
+        }
+        if (conditions == UNCONDITIONAL) {
+            return candidates[0];
+        }
+        Route<H> selected = null;
+        double selectedQuality = 0;
+        for (Route<H> candidate : candidates) {
+            if (!conditions.isConsumable(candidate)) {
+                continue;
+            }
+            final double quality = conditions.getQuality(candidate);
+            if (quality > selectedQuality) {
+                selected = candidate;
+                selectedQuality = quality;
+            }
+        }
+        if (selected == null) {
+            conditions.rejected = true;
+        }
+        return selected;
+    }
+
+    /**
+     * consumes 를 선언한 route, produces 를 선언한 route, 조건이 없는 route 순서로 두고, 같은 순위에서는 등록 순서를 지킨다.
+     */
+    @SuppressWarnings("unchecked")
+    private static <H> Route<H>[] insert(final Route<H>[] routes, final Route<H> route) {
+        if (routes == null) {
+            return (Route<H>[]) new Route<?>[]{route};
+        }
+        int index = routes.length;
+        while (index > 0 && routes[index - 1].rank() > route.rank()) {
+            index--;
+        }
+        final Route<H>[] inserted = Arrays.copyOf(routes, routes.length + 1);
+        System.arraycopy(inserted, index, inserted, index + 1, routes.length - index);
+        inserted[index] = route;
+        return inserted;
+    }
+
+    private static <H> Node<H> getOrCreate(final Node<H> node, final String segment) {
+        return node != null ? node : new Node<>(segment);
+    }
+
+    private static boolean isVariable(final String segment) {
+        return VARIABLE_PATTERN.matcher(segment).matches();
+    }
+
+    private static String normalize(final String pattern) {
+        if (pattern == null || pattern.isEmpty()) {
+            return "/";
+        }
+        return pattern.charAt(0) == '/' ? pattern : "/" + pattern;
+    }
+
+    private record Route<H>(H handler, String pattern, String[] variableNames,
+                            List<MediaType> consumes, List<MediaType> produces, RouteMatch<H> match) {
+
+        private static final int UNCONDITIONAL_RANK = 3;
+
+        private Route(final H handler, final String pattern, final String[] variableNames,
+                      final List<MediaType> consumes, final List<MediaType> produces) {
+            this(handler, pattern, variableNames, consumes, produces, variableNames.length == 0
+                ? new RouteMatch<>(handler, pattern, null, variableNames, new int[0], produces)
+                : null);
+        }
+
+        private int rank() {
+            return (consumes.isEmpty() ? 2 : 0) + (produces.isEmpty() ? 1 : 0);
+        }
+
+        private boolean hasSameConditions(final Route<?> other) {
+            return Set.copyOf(consumes).equals(Set.copyOf(other.consumes))
+                && Set.copyOf(produces).equals(Set.copyOf(other.produces));
+        }
+    }
+
+    /**
+     * 한 번의 매칭에서 요청 헤더를 필요할 때 한 번만 파싱하고, 후보를 모두 거절한 이유를 기록한다.
+     * 조건이 없는 트리는 매칭마다 만들지 않고 상태를 바꾸지 않는 {@link #UNCONDITIONAL} 을 함께 쓴다.
+     */
+    private static final class MediaTypeConditions {
+
+        private final String contentTypeHeader;
+        private final String accept;
+        private MediaType contentType;
+        private boolean contentTypeParsed;
+        private List<MediaType> acceptedTypes;
+        private boolean consumable;
+        private boolean rejected;
+
+        private MediaTypeConditions(final String contentTypeHeader, final String accept) {
+            this.contentTypeHeader = contentTypeHeader;
+            this.accept = accept;
+        }
+
+        /**
+         * 경로와 메서드가 맞는 후보를 조건 때문에 모두 거절했으면 그 이유에 맞는 예외를 던진다.
+         */
+        private void checkRejected() {
+            if (!rejected) {
+                return;
+            }
+            if (consumable) {
+                throw new HttpMediaTypeNotAcceptableException(accept);
+            }
+            throw new HttpMediaTypeNotSupportedException(contentTypeHeader);
+        }
+
+        private boolean isConsumable(final Route<?> route) {
+            if (route.consumes.isEmpty()) {
+                consumable = true;
+                return true;
+            }
+            final var requestContentType = getContentType();
+            if (requestContentType == null) {
+                return false;
+            }
+            for (MediaType consumableType : route.consumes) {
+                if (consumableType.includes(requestContentType)) {
+                    consumable = true;
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * produces 가 없는 route 는 Accept 와 관계없이 가장 낮은 양수를 반환해서, 맞는 produces 가 없을 때만 고르게 한다.
+         */
+        private double getQuality(final Route<?> route) {
+            if (route.produces.isEmpty()) {
+                return UNSPECIFIED_QUALITY;
+            }
+            if (acceptedTypes == null) {
+                acceptedTypes = MediaType.parseMediaTypes(accept);
+            }
+            double quality = 0;
+            for (MediaType producibleType : route.produces) {
+                quality = Math.max(quality, producibleType.getAcceptedQuality(acceptedTypes));
+            }
+            return quality;
+        }
+
+        private MediaType getContentType() {
+            if (!contentTypeParsed) {
+                contentTypeParsed = true;
+                try {
+                    contentType = contentTypeHeader == null ? null : MediaType.parse(contentTypeHeader);
+                } catch (IllegalArgumentException e) {
+                    contentType = null;
+                }
+            }
+            return contentType;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static final class Node<H> {
+
+        private final String segment;
+        private final Route<H>[][] routes = (Route<H>[][]) new Route<?>[METHOD_COUNT][];
+
+        private Node<H>[] staticChildren = (Node<H>[]) new Node<?>[0];
+        private Node<H>[] patternChildren = (Node<H>[]) new Node<?>[0];
+        private Node<H> variableChild;
+        private Node<H> wildcardChild;
+        private Node<H> catchAllChild;
+
+        private Pattern segmentPattern;
+
+        private Node(final String segment) {
+            this.segment = segment;
+        }
+
+        private Node<H> addStaticChild(final String segment) {
+            int low = 0;
+            int high = staticChildren.length - 1;
+            while (low <= high) {
+                final int mid = (low + high) >>> 1;
+                final int comparison = staticChildren[mid].segment.compareTo(segment);
+                if (comparison == 0) {
+                    return staticChildren[mid];
+                }
+                if (comparison < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid - 1;
+                }
+            }
+            final var child = new Node<H>(segment);
+            final Node<H>[] children = Arrays.copyOf(staticChildren, staticChildren.length + 1);
+            System.arraycopy(children, low, children, low + 1, staticChildren.length - low);
+            children[low] = child;
+            staticChildren = children;
+            return child;
+        }
+
+        private Node<H> addPatternChild(final String segment, final List<String> variableNames) {
+            final var regex = new StringBuilder();
+            final Matcher matcher = VARIABLE_PATTERN.matcher(segment);
+            int last = 0;
+            while (matcher.find()) {
+                regex.append(Pattern.quote(segment.substring(last, matcher.start()))).append("([^/]+)");
+                variableNames.add(matcher.group(1));
+                last = matcher.end();
+            }
+            regex.append(Pattern.quote(segment.substring(last)));
+
+            for (Node<H> child : patternChildren) {
+                if (child.segment.equals(segment)) {
+                    return child;
+                }
+            }
+            final var child = new Node<H>(segment);
+            child.segmentPattern = Pattern.compile(regex.toString());
+            patternChildren = Arrays.copyOf(patternChildren, patternChildren.length + 1);
+            patternChildren[patternChildren.length - 1] = child;
+            return child;
+        }
+
+        private Node<H> findStaticChild(final String path, final int start, final int end) {
+            int low = 0;
+            int high = staticChildren.length - 1;
+            while (low <= high) {
+                final int mid = (low + high) >>> 1;
+                final int comparison = compare(staticChildren[mid].segment, path, start, end);
+                if (comparison == 0) {
+                    return staticChildren[mid];
+                }
+                if (comparison < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid - 1;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * {@link String#compareTo} 와 같은 순서로 세그먼트와 경로의 구간을 비교한다.
+         */
+        private static int compare(final String segment, final String path, final int start, final int end) {
+            final int length = Math.min(segment.length(), end - start);
+            for (int i = 0; i < length; i++) {
+                final int difference = segment.charAt(i) - path.charAt(start + i);
+                if (difference != 0) {
+                    return difference;
+                }
+            }
+            return segment.length() - (end - start);
+        }
+    }
+}
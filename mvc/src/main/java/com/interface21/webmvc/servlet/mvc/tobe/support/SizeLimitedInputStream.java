@@ -0,0 +1,66 @@
+package com.interface21.webmvc.servlet.mvc.tobe.support;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * 읽은 바이트 수가 {@code maxSize} 를 넘으면 {@link IOException} 을 던지고 {@link #isExceeded()} 가 true 가 된다.
+ * Content-Length 가 없는 chunked 요청도 최대 {@code maxSize + 1} 바이트까지만 읽는다.
+ * <p>
+ * Jackson 은 역직렬화 중에 발생한 RuntimeException 을 자기 예외로 감싸므로, 크기 초과는 IOException 으로 알리고 호출한 쪽이 플래그로 구분한다.
+ */
+class SizeLimitedInputStream extends FilterInputStream {
+
+    private final long maxSize;
+    private long count;
+    private boolean exceeded;
+
+    SizeLimitedInputStream(final InputStream in, final long maxSize) {
+        super(in);
+        this.maxSize = maxSize;
+    }
+
+    @Override
+    public int read() throws IOException {
+        final int b = super.read();
+        if (b >= 0) {
+            count(1);
+        }
+        return b;
+    }
+
+    @Override
+    public int read(final byte[] b, final int off, final int len) throws IOException {
+        final int limit = (int) Math.min(len, maxSize - count + 1);
+        final int read = super.read(b, off, limit);
+        if (read > 0) {
+            count(read);
+        }
+        return read;
+    }
+
+    @Override
+    public long skip(final long n) throws IOException {
+        final long skipped = super.skip(Math.min(n, maxSize - count + 1));
+        count(skipped);
+        return skipped;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    boolean isExceeded() {
+        return exceeded;
+    }
+
+    private void count(final long read) throws IOException {
+        count += read;
+        if (count > maxSize) {
+            exceeded = true;
+            throw new IOException("Request body exceeds the limit of " + maxSize + " bytes");
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.interface21.webmvc.servlet.view;
+
+import com.interface21.web.http.HttpHeaders;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * GET, HEAD 요청의 {@code If-None-Match}, {@code If-Modified-Since} 를 검사해 304 Not Modified 로 응답한다.
+ * <p>
+ * {@code If-None-Match} 가 있으면 {@code If-Modified-Since} 는 보지 않는다(RFC 9110 13.2.2).
+ * {@code If-None-Match} 는 약한 비교를 하므로 {@code W/} 접두사는 무시한다.
+ */
+public abstract class ConditionalRequestSupport {
+
+    private static final HexFormat HEX = HexFormat.of();
+
+    public static boolean isConditionalMethod(final HttpServletRequest request) {
+        final var method = request.getMethod();
+        return "GET".equals(method) || "HEAD".equals(method);
+    }
+
+    /**
+     * 응답에 ETag 와 Last-Modified 헤더를 쓰고, 클라이언트가 가진 표현이 최신이면 상태를 304 로 바꾼 뒤 {@code true} 를 반환한다.
+     *
+     * @param etag         따옴표를 포함한 ETag. 없으면 {@code null}
+     * @param lastModified epoch 밀리초. 없으면 음수
+     */
+    public static boolean checkNotModified(final HttpServletRequest request, final HttpServletResponse response,
+                                           final String etag, final long lastModified) {
+        if (!isConditionalMethod(request)) {
+            return false;
+        }
+        if (etag != null) {
+            response.setHeader(HttpHeaders.ETAG, etag);
+        }
+        if (lastModified >= 0) {
+            response.setDateHeader(HttpHeaders.LAST_MODIFIED, lastModified);
+        }
+
+        final boolean notModified;
+        final var ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null) {
+            notModified = etag != null && matches(ifNoneMatch, etag);
+        } else {
+            notModified = lastModified >= 0 && lastModified / 1000 * 1000 <= getIfModifiedSince(request);
+        }
+        if (notModified) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+        }
+        return notModified;
+    }
+
+    /**
+     * 직렬화한 응답 본문의 MD5 로 만든 강한 ETag.
+     */
+    public static String strongETag(final byte[] body, final int length) {
+        try {
+            final var digest = MessageDigest.getInstance("MD5");
+            digest.update(body, 0, length);
+            return '"' + HEX.formatHex(digest.digest()) + '"';
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 모델이 제공한 버전으로 만든 강한 ETag.
+     */
+    public static String versionETag(final Object version) {
+        final var value = String.valueOf(version);
+        if (value.indexOf('"') >= 0) {
+            throw new IllegalArgumentException("ETag version must not contain '\"' : " + value);
+        }
+        return '"' + value + '"';
+    }
+
+    private static boolean matches(final String ifNoneMatch, final String etag) {
+        final var opaqueTag = stripWeak(etag);
+        int start = 0;
+        while (start < ifNoneMatch.length()) {
+            int end = ifNoneMatch.indexOf(',', start);
+            if (end < 0) {
+                end = ifNoneMatch.length();
+            }
+            final var candidate = ifNoneMatch.substring(start, end).strip();
+            if ("*".equals(candidate) || stripWeak(candidate).equals(opaqueTag)) {
+                return true;
+            }
+            start = end + 1;
+        }
+        return false;
+    }
+
+    private static String stripWeak(final String etag) {
+        return etag.startsWith("W/") ? etag.substring(2) : etag;
+    }
+
+    private static long getIfModifiedSince(final HttpServletRequest request) {
+        try {
+            return request.getDateHeader(HttpHeaders.IF_MODIFIED_SINCE);
+        } catch (IllegalArgumentException e) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.interface21.webmvc.servlet.view;
+
+import com.interface21.web.http.HttpHeaders;
+import com.interface21.web.http.MediaType;
+import com.interface21.webmvc.servlet.mvc.HandlerMapping;
+import jakarta.servlet.http.HttpServletRequest;
+
+import java.util.List;
+
+/**
+ * 요청의 Accept 헤더와 핸들러의 {@code produces} 로 응답을 쓸 {@link HttpMessageConverter} 를 고른다.
+ * <p>
+ * Accept 에서 q 값이 가장 큰 converter 를 고르고, q 값이 같으면 먼저 등록한 converter 를 고른다.
+ * 기본 인스턴스는 JSON 과 Jackson Smile 을 이 순서로 가지므로 Accept 가 없거나 모든 타입을 받으면 JSON 으로 응답한다.
+ */
+public class ContentNegotiator {
+
+    private static volatile ContentNegotiator sharedInstance = new ContentNegotiator(List.of(
+        new JacksonMessageConverter(),
+        JacksonMessageConverter.smile()
+    ));
+
+    private final HttpMessageConverter[] converters;
+
+    public ContentNegotiator(final List<HttpMessageConverter> converters) {
+        if (converters.isEmpty()) {
+            throw new IllegalArgumentException("converters must not be empty");
+        }
+        this.converters = converters.toArray(HttpMessageConverter[]::new);
+    }
+
+    public static ContentNegotiator getSharedInstance() {
+        return sharedInstance;
+    }
+
+    /**
+     * 기본 생성자로 만든 {@link JsonView} 가 사용할 인스턴스를 바꾼다. 애플리케이션을 시작할 때 한 번만 호출한다.
+     */
+    public static void setSharedInstance(final ContentNegotiator contentNegotiator) {
+        sharedInstance = contentNegotiator;
+    }
+
+    /**
+     * @return 클라이언트가 받을 수 있는 converter 가 없으면 null
+     */
+    @SuppressWarnings("unchecked")
+    public HttpMessageConverter select(final HttpServletRequest request) {
+        final var producible = (List<MediaType>) request.getAttribute(HandlerMapping.PRODUCIBLE_MEDIA_TYPES_ATTRIBUTE);
+        final var accept = request.getHeader(HttpHeaders.ACCEPT);
+        if (producible == null && (accept == null || MediaType.ALL_VALUE.equals(accept))) {
+            return converters[0];
+        }
+
+        final var acceptedTypes = MediaType.parseMediaTypes(accept);
+        HttpMessageConverter selected = null;
+        double selectedQuality = 0;
+        for (HttpMessageConverter converter : converters) {
+            final var mediaType = converter.getMediaType();
+            if (producible != null && !isProducible(producible, mediaType)) {
+                continue;
+            }
+            final double quality = mediaType.getAcceptedQuality(acceptedTypes);
+            if (quality > selectedQuality) {
+                selected = converter;
+                selectedQuality = quality;
+            }
+        }
+        return selected;
+    }
+
+    /**
+     * 고를 수 있는 converter 가 여럿이면 응답이 Accept 에 따라 달라진다.
+     */
+    public boolean isNegotiable() {
+        return converters.length > 1;
+    }
+
+    private static boolean isProducible(final List<MediaType> producible, final MediaType mediaType) {
+        for (MediaType producibleType : producible) {
+            if (producibleType.includes(mediaType)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
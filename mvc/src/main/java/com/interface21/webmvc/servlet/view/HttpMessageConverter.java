@@ -0,0 +1,26 @@
+package com.interface21.webmvc.servlet.view;
+
+import com.interface21.web.http.MediaType;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * 모델 값을 한 가지 미디어 타입의 응답 본문으로 직렬화한다.
+ *
+ * @see ContentNegotiator
+ */
+public interface HttpMessageConverter {
+
+    /**
+     * 이 converter 가 쓰는 본문의 미디어 타입. 응답의 Content-Type 으로 그대로 쓴다.
+     */
+    MediaType getMediaType();
+
+    byte[] write(final Object value) throws IOException;
+
+    /**
+     * 본문을 모으지 않고 스트림에 바로 쓴다. 스트림은 닫지 않는다.
+     */
+    void write(final Object value, final OutputStream outputStream) throws IOException;
+}
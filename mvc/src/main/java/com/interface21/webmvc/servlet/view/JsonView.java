@@ -1,40 +1,83 @@
 package com.interface21.webmvc.servlet.view;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.interface21.web.http.HttpHeaders;
 import com.interface21.web.http.MediaType;
 import com.interface21.webmvc.servlet.View;
-import jakarta.servlet.ServletOutputStream;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
-import java.io.IOException;
+import java.util.List;
 import java.util.Map;
 
+/**
+ * 모델을 {@link ContentNegotiator} 가 Accept 헤더로 고른 형식으로 직렬화한다. 기본 생성자로 만들면 JSON 과 Jackson Smile 중에서 고른다.
+ * 받을 수 있는 형식이 없으면 406 으로 응답한다.
+ * <p>
+ * 형식이 여럿이면 {@code Vary: Accept} 를 응답하므로, {@code @CacheResponse} 핸들러라면 {@code vary} 에 Accept 를 넣어야 한다.
+ * <p>
+ * 본문으로 ETag 를 만들어야 하는 GET, HEAD 요청만 본문을 배열로 모으고, 나머지는 응답 스트림에 바로 직렬화한다.
+ */
 public class JsonView implements View {
 
+    private final ContentNegotiator contentNegotiator;
+
+    public JsonView() {
+        this(ContentNegotiator.getSharedInstance());
+    }
+
+    /**
+     * 주어진 registry 로 JSON 만 쓴다.
+     */
+    public JsonView(final ObjectWriterRegistry objectWriterRegistry) {
+        this(new ContentNegotiator(List.of(new JacksonMessageConverter(objectWriterRegistry, MediaType.APPLICATION_JSON_UTF8))));
+    }
+
+    public JsonView(final ContentNegotiator contentNegotiator) {
+        this.contentNegotiator = contentNegotiator;
+    }
+
     @Override
     public void render(final Map<String, ?> model, final HttpServletRequest request, final HttpServletResponse response) throws Exception {
         if (model == null || model.isEmpty()) {
             return;
         }
 
-        response.setContentType(MediaType.APPLICATION_JSON_UTF8_VALUE);
+        final var converter = contentNegotiator.select(request);
+        if (converter == null) {
+            response.sendError(HttpServletResponse.SC_NOT_ACCEPTABLE);
+            return;
+        }
+        if (contentNegotiator.isNegotiable()) {
+            response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+        }
 
         final Object renderObject = toJsonObject(model);
-        render(renderObject, response.getOutputStream());
+        if (!needsBodyETag(request, response)) {
+            response.setContentType(converter.getMediaType().toString());
+            converter.write(renderObject, response.getOutputStream());
+            return;
+        }
+
+        final byte[] body = converter.write(renderObject);
+        final var etag = ConditionalRequestSupport.strongETag(body, body.length);
+        if (ConditionalRequestSupport.checkNotModified(request, response, etag, -1)) {
+            return;
+        }
+        response.setContentType(converter.getMediaType().toString());
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
     }
 
-    private void render(final Object renderObject, final ServletOutputStream outputStream) throws IOException {
-        final ObjectMapper mapper = new ObjectMapper();
-        mapper.writeValue(outputStream, renderObject);
+    /**
+     * 핸들러가 버전으로 ETag 를 정하지 않은 GET, HEAD 요청이면 직렬화한 본문으로 강한 ETag 를 만든다.
+     */
+    private boolean needsBodyETag(final HttpServletRequest request, final HttpServletResponse response) {
+        return ConditionalRequestSupport.isConditionalMethod(request) && !response.containsHeader(HttpHeaders.ETAG);
     }
 
     private Object toJsonObject(final Map<String, ?> model) {
         if (model.size() == 1) {
-            return model.values()
-                    .stream()
-                    .findFirst()
-                    .orElseThrow(IllegalArgumentException::new);
+            return model.values().iterator().next();
         }
         return model;
     }
@@ -1,6 +1,8 @@
 package com.interface21.webmvc.servlet.view;
 
 import com.interface21.webmvc.servlet.View;
+import jakarta.servlet.RequestDispatcher;
+import jakarta.servlet.ServletContext;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
@@ -8,13 +10,26 @@ import org.slf4j.LoggerFactory;
 
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
+/**
+ * JSP 로 forward 하거나 {@value #REDIRECT_PREFIX} 로 시작하면 redirect 하는 뷰.
+ * <p>
+ * 컨트롤러가 요청마다 새 JspView 를 만들기 때문에, '/' 로 시작하는 뷰 이름의 {@link RequestDispatcher} 는
+ * {@link ServletContext} 속성에 둔 캐시에 웹 애플리케이션 단위로 보관해서 다시 쓴다.
+ * 상대 경로는 요청 경로에 따라, 쿼리 문자열이 있는 이름은 요청 값에 따라 달라지므로 매번 찾는다.
+ * 캐시는 {@value #MAX_CACHED_DISPATCHERS} 개까지만 담고, 가득 차면 새 이름은 담지 않고 매번 찾는다.
+ */
 public class JspView implements View {
 
     private static final Logger log = LoggerFactory.getLogger(JspView.class);
 
     public static final String REDIRECT_PREFIX = "redirect:";
 
+    private static final String DISPATCHER_CACHE_ATTRIBUTE = JspView.class.getName() + ".dispatchers";
+    private static final int MAX_CACHED_DISPATCHERS = 256;
+
     private final String viewName;
 
     public JspView(final String viewName) {
@@ -34,7 +49,44 @@ public class JspView implements View {
             request.setAttribute(key, model.get(key));
         });
 
-        final var requestDispatcher = request.getRequestDispatcher(viewName);
+        final var requestDispatcher = getRequestDispatcher(request);
         requestDispatcher.forward(request, response);
     }
+
+    private RequestDispatcher getRequestDispatcher(final HttpServletRequest request) {
+        if (!viewName.startsWith("/") || viewName.indexOf('?') >= 0) {
+            return request.getRequestDispatcher(viewName);
+        }
+        final var servletContext = request.getServletContext();
+        final var dispatchers = getDispatcherCache(servletContext);
+        final var cached = dispatchers.get(viewName);
+        if (cached != null) {
+            return cached;
+        }
+        final var requestDispatcher = servletContext.getRequestDispatcher(viewName);
+        if (requestDispatcher == null) {
+            throw new IllegalStateException("No RequestDispatcher for view: " + viewName);
+        }
+        if (dispatchers.size() >= MAX_CACHED_DISPATCHERS) {
+            return requestDispatcher;
+        }
+        final var existing = dispatchers.putIfAbsent(viewName, requestDispatcher);
+        return existing != null ? existing : requestDispatcher;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static ConcurrentMap<String, RequestDispatcher> getDispatcherCache(final ServletContext servletContext) {
+        final var cache = servletContext.getAttribute(DISPATCHER_CACHE_ATTRIBUTE);
+        if (cache != null) {
+            return (ConcurrentMap<String, RequestDispatcher>) cache;
+        }
+        synchronized (servletContext) {
+            var created = (ConcurrentMap<String, RequestDispatcher>) servletContext.getAttribute(DISPATCHER_CACHE_ATTRIBUTE);
+            if (created == null) {
+                created = new ConcurrentHashMap<>();
+                servletContext.setAttribute(DISPATCHER_CACHE_ATTRIBUTE, created);
+            }
+            return created;
+        }
+    }
 }
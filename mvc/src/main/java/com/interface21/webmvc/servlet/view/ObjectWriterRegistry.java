@@ -0,0 +1,69 @@
+package com.interface21.webmvc.servlet.view;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+
+/**
+ * JSON 뷰가 함께 쓰는 {@link ObjectMapper} 와 모델 타입별 {@link ObjectWriter} 캐시.
+ * <p>
+ * ObjectMapper 는 한 번 만들어 두고 재사용해야 Jackson 이 만든 serializer 캐시가 유지된다.
+ * {@code bytecodeSerializers} 를 켜면 Blackbird 모듈이 getter/필드 접근을 리플렉션 대신 생성한 람다로 바꾼다.
+ * 이 모듈은 mapper 를 처음 사용하기 전에 등록해야 하므로 생성자에서만 선택할 수 있다.
+ * {@link #registerModelTypes} 로 등록한 타입은 시작할 때 serializer 를 미리 만들어 둔다.
+ * 요소를 하나씩 쓰는 뷰가 flush 시점을 정할 수 있도록 writer 는 값을 쓴 뒤 flush 하지 않는다.
+ */
+public class ObjectWriterRegistry {
+
+    private static volatile ObjectWriterRegistry sharedInstance = new ObjectWriterRegistry(new ObjectMapper(), false);
+
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter defaultWriter;
+    private final ClassValue<ObjectWriter> writers = new ClassValue<>() {
+        @Override
+        protected ObjectWriter computeValue(final Class<?> type) {
+            return objectMapper.writerFor(type).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        }
+    };
+
+    public ObjectWriterRegistry(final ObjectMapper objectMapper, final boolean bytecodeSerializers) {
+        if (bytecodeSerializers) {
+            objectMapper.registerModule(new BlackbirdModule());
+        }
+        this.objectMapper = objectMapper;
+        this.defaultWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    public static ObjectWriterRegistry getSharedInstance() {
+        return sharedInstance;
+    }
+
+    /**
+     * 기본 생성자로 만든 JSON 뷰가 사용할 registry 를 바꾼다. 애플리케이션을 시작할 때 한 번만 호출한다.
+     */
+    public static void setSharedInstance(final ObjectWriterRegistry objectWriterRegistry) {
+        sharedInstance = objectWriterRegistry;
+    }
+
+    public ObjectWriterRegistry registerModelTypes(final Class<?>... types) {
+        for (Class<?> type : types) {
+            writers.get(type);
+        }
+        return this;
+    }
+
+    public ObjectMapper getObjectMapper() {
+        return objectMapper;
+    }
+
+    /**
+     * 값의 런타임 타입에 맞는 writer. null 이면 타입 정보가 없는 기본 writer 를 반환한다.
+     */
+    public ObjectWriter getWriter(final Object value) {
+        if (value == null) {
+            return defaultWriter;
+        }
+        return writers.get(value.getClass());
+    }
+}
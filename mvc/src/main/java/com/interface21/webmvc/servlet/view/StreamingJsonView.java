@@ -0,0 +1,200 @@
+package com.interface21.webmvc.servlet.view;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.interface21.web.http.MediaType;
+import com.interface21.webmvc.servlet.View;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * 모델 값을 JSON 배열로 한 요소씩 직렬화하는 뷰.
+ * <p>
+ * 모델 값은 {@link Stream}, {@link Iterator}, {@link Iterable}, 또는 {@code null} 을 반환하면 끝나는 {@link Supplier} 여야 한다.
+ * 전체 목록을 메모리에 올리지 않고, {@code flushInterval} 개의 요소를 쓸 때마다 응답을 flush 한다.
+ * 응답 스트림에 쓰거나 flush 하다가 클라이언트 연결이 끊긴 것을 알게 되면 남은 요소를 읽지 않고 멈춘다.
+ * 직렬화나 원본에서 난 예외는 그대로 던지고, 닫는 괄호를 쓰지 않아 잘린 응답이 온전한 배열로 보이지 않게 한다.
+ * 원본이 {@link AutoCloseable} 이면 렌더링이 끝나거나 중단될 때 닫는다.
+ */
+public class StreamingJsonView implements View {
+
+    private static final Logger log = LoggerFactory.getLogger(StreamingJsonView.class);
+
+    private static final int DEFAULT_FLUSH_INTERVAL = 100;
+
+    private final ObjectWriterRegistry objectWriterRegistry;
+    private final int flushInterval;
+
+    public StreamingJsonView() {
+        this(ObjectWriterRegistry.getSharedInstance(), DEFAULT_FLUSH_INTERVAL);
+    }
+
+    public StreamingJsonView(final int flushInterval) {
+        this(ObjectWriterRegistry.getSharedInstance(), flushInterval);
+    }
+
+    public StreamingJsonView(final ObjectWriterRegistry objectWriterRegistry, final int flushInterval) {
+        if (flushInterval <= 0) {
+            throw new IllegalArgumentException("flushInterval must be positive : " + flushInterval);
+        }
+        this.objectWriterRegistry = objectWriterRegistry;
+        this.flushInterval = flushInterval;
+    }
+
+    @Override
+    public void render(final Map<String, ?> model, final HttpServletRequest request, final HttpServletResponse response) throws Exception {
+        if (model == null || model.size() != 1) {
+            throw new IllegalArgumentException("StreamingJsonView requires exactly one model value");
+        }
+
+        final Object source = model.values().iterator().next();
+        ClientOutputStream outputStream = null;
+        try {
+            final Iterator<?> elements = toIterator(source);
+            response.setContentType(MediaType.APPLICATION_JSON_UTF8_VALUE);
+            outputStream = new ClientOutputStream(response.getOutputStream());
+            write(elements, outputStream);
+        } catch (IOException e) {
+            if (outputStream == null || !outputStream.disconnected) {
+                throw e;
+            }
+            log.debug("Client disconnected while streaming : {}", e.getMessage());
+        } finally {
+            close(source);
+        }
+    }
+
+    private void write(final Iterator<?> elements, final OutputStream outputStream) throws IOException {
+        final var objectMapper = objectWriterRegistry.getObjectMapper();
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+            generator.writeStartArray();
+            int count = 0;
+            while (elements.hasNext()) {
+                final Object element = elements.next();
+                objectWriterRegistry.getWriter(element).writeValue(generator, element);
+                if (++count % flushInterval == 0) {
+                    generator.flush();
+                }
+            }
+            generator.writeEndArray();
+        }
+    }
+
+    private static Iterator<?> toIterator(final Object source) {
+        if (source instanceof final Stream<?> stream) {
+            return stream.iterator();
+        }
+        if (source instanceof final Iterator<?> iterator) {
+            return iterator;
+        }
+        if (source instanceof final Iterable<?> iterable) {
+            return iterable.iterator();
+        }
+        if (source instanceof final Supplier<?> supplier) {
+            return new SupplierIterator(supplier);
+        }
+        throw new IllegalArgumentException("Unsupported streaming model value : " + (source == null ? null : source.getClass().getName()));
+    }
+
+    private static void close(final Object source) {
+        if (source instanceof final AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (Exception e) {
+                log.warn("Failed to close streaming source : {}", e.getMessage(), e);
+            }
+        }
+    }
+
+    /**
+     * 응답 스트림에서 난 IOException 을 기록해서, 직렬화하다 난 IOException 과 클라이언트 연결이 끊긴 것을 구분한다.
+     */
+    private static final class ClientOutputStream extends OutputStream {
+
+        private final OutputStream target;
+        private boolean disconnected;
+
+        private ClientOutputStream(final OutputStream target) {
+            this.target = target;
+        }
+
+        @Override
+        public void write(final int b) throws IOException {
+            try {
+                target.write(b);
+            } catch (IOException e) {
+                disconnected = true;
+                throw e;
+            }
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) throws IOException {
+            try {
+                target.write(b, off, len);
+            } catch (IOException e) {
+                disconnected = true;
+                throw e;
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            try {
+                target.flush();
+            } catch (IOException e) {
+                disconnected = true;
+                throw e;
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                target.close();
+            } catch (IOException e) {
+                disconnected = true;
+                throw e;
+            }
+        }
+    }
+
+    private static final class SupplierIterator implements Iterator<Object> {
+
+        private final Supplier<?> supplier;
+        private Object next;
+        private boolean fetched;
+
+        private SupplierIterator(final Supplier<?> supplier) {
+            this.supplier = supplier;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (!fetched) {
+                next = supplier.get();
+                fetched = true;
+            }
+            return next != null;
+        }
+
+        @Override
+        public Object next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            fetched = false;
+            return next;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.interface21.web.http;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MediaTypeTest {
+
+    @Test
+    void 파라미터와_q_값을_나눠서_읽는다() {
+        final var mediaType = MediaType.parse("Application/JSON; Charset=UTF-8; q=0.5");
+
+        assertThat(mediaType.getType()).isEqualTo("application");
+        assertThat(mediaType.getSubtype()).isEqualTo("json");
+        assertThat(mediaType.getParameter("charset")).isEqualTo("UTF-8");
+        assertThat(mediaType.getQuality()).isEqualTo(0.5);
+        assertThat(mediaType).hasToString("application/json;charset=UTF-8");
+    }
+
+    @Test
+    void 형식이_잘못되면_예외가_발생한다() {
+        assertThatThrownBy(() -> MediaType.parse("json")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> MediaType.parse("*/json")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> MediaType.parse("text/html;q=2")).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void 목록에서_잘못된_항목은_건너뛴다() {
+        assertThat(MediaType.parseMediaTypes("text/html, invalid, application/json;q=0.9"))
+            .containsExactly(MediaType.parse("text/html"), MediaType.parse("application/json;q=0.9"));
+        assertThat(MediaType.parseMediaTypes(null)).containsExactly(MediaType.ALL);
+    }
+
+    @Test
+    void 미디어_범위는_파라미터와_관계없이_포함_여부를_판단한다() {
+        assertThat(MediaType.ALL.includes(MediaType.APPLICATION_SMILE)).isTrue();
+        assertThat(MediaType.parse("application/*").includes(MediaType.APPLICATION_JSON_UTF8)).isTrue();
+        assertThat(MediaType.APPLICATION_JSON.includes(MediaType.APPLICATION_JSON_UTF8)).isTrue();
+        assertThat(MediaType.APPLICATION_JSON.includes(MediaType.APPLICATION_SMILE)).isFalse();
+        assertThat(MediaType.APPLICATION_JSON.isCompatibleWith(MediaType.parse("application/*"))).isTrue();
+    }
+
+    @Test
+    void 가장_구체적인_범위의_q_값을_받는다() {
+        final List<MediaType> accept = MediaType.parseMediaTypes("application/*;q=0.2, application/json;q=0.8, */*;q=0.1");
+
+        assertThat(MediaType.APPLICATION_JSON_UTF8.getAcceptedQuality(accept)).isEqualTo(0.8);
+        assertThat(MediaType.APPLICATION_SMILE.getAcceptedQuality(accept)).isEqualTo(0.2);
+        assertThat(MediaType.parse("text/html").getAcceptedQuality(accept)).isEqualTo(0.1);
+        assertThat(MediaType.parse("text/html").getAcceptedQuality(MediaType.parseMediaTypes("application/json"))).isZero();
+    }
+}
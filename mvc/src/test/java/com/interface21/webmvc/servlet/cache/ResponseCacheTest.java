@@ -0,0 +1,133 @@
+package com.interface21.webmvc.servlet.cache;
+
+import com.interface21.web.bind.annotation.CacheResponse;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResponseCacheTest {
+
+    private final AtomicLong ticker = new AtomicLong();
+    private final ResponseCache responseCache = new ResponseCache(100, ticker::get);
+    private final ResponseCachePolicy policy = policy("show");
+
+    @Test
+    void 캐시_키는_지정한_파라미터와_헤더만_포함한다() {
+        final var request = new MockHttpServletRequest("GET", "/api/user");
+        request.addParameter("account", "gugu");
+        request.addParameter("ignored", "1");
+        request.addHeader("Accept-Language", "ko");
+        final var other = new MockHttpServletRequest("GET", "/api/user");
+        other.addParameter("account", "gugu");
+        other.addParameter("ignored", "2");
+        other.addHeader("Accept-Language", "ko");
+
+        assertThat(policy.createKey(request)).isEqualTo(policy.createKey(other));
+
+        other.removeHeader("Accept-Language");
+        other.addHeader("Accept-Language", "en");
+        assertThat(policy.createKey(request)).isNotEqualTo(policy.createKey(other));
+    }
+
+    @Test
+    void ttl_이_지나면_캐시에서_제거된다() throws Exception {
+        responseCache.put("key", capture("gugu"), policy, responseCache.getTagVersions(policy.getTags()));
+
+        ticker.addAndGet(TimeUnit.SECONDS.toNanos(59));
+        assertThat(responseCache.get("key")).isNotNull();
+
+        ticker.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        assertThat(responseCache.get("key")).isNull();
+    }
+
+    @Test
+    void 태그를_무효화하면_그_태그의_응답이_모두_제거된다() throws Exception {
+        final var versions = responseCache.getTagVersions(policy.getTags());
+        responseCache.put("key", capture("gugu"), policy, versions);
+
+        responseCache.evictTag("users");
+
+        assertThat(responseCache.get("key")).isNull();
+    }
+
+    @Test
+    void 저장한_응답의_헤더와_본문을_그대로_쓴다() throws Exception {
+        final var cachedResponse = capture("gugu");
+        final var response = new MockHttpServletResponse();
+
+        cachedResponse.render(null, new MockHttpServletRequest("GET", "/api/user"), response);
+
+        assertThat(response.getContentType()).isEqualTo("application/json");
+        assertThat(response.getHeader("X-Version")).isEqualTo("1");
+        assertThat(response.getContentAsString()).isEqualTo("gugu");
+    }
+
+    @Test
+    void 쿠키를_설정했거나_200_이_아닌_응답은_저장하지_않는다() throws Exception {
+        final var withCookie = new ResponseCapturingWrapper(new MockHttpServletResponse());
+        withCookie.setHeader("Set-Cookie", "JSESSIONID=1");
+        final var notFound = new ResponseCapturingWrapper(new MockHttpServletResponse());
+        notFound.setStatus(404);
+
+        assertThat(withCookie.toCachedResponse()).isNull();
+        assertThat(notFound.toCachedResponse()).isNull();
+    }
+
+    @Test
+    void 핸들러가_먼저_설정한_상태와_헤더와_쿠키도_반영한다() throws Exception {
+        final var created = new MockHttpServletResponse();
+        created.setStatus(201);
+        final var withCookie = new MockHttpServletResponse();
+        withCookie.addCookie(new Cookie("JSESSIONID", "1"));
+        final var withHeader = new MockHttpServletResponse();
+        withHeader.setHeader("X-Handler", "set");
+        withHeader.setHeader("Server-Timing", "lookup;dur=0.1");
+        final var wrapper = new ResponseCapturingWrapper(withHeader);
+        wrapper.getOutputStream().write("gugu".getBytes());
+
+        assertThat(new ResponseCapturingWrapper(created).toCachedResponse()).isNull();
+        assertThat(new ResponseCapturingWrapper(withCookie).toCachedResponse()).isNull();
+
+        final var response = new MockHttpServletResponse();
+        wrapper.toCachedResponse().render(null, new MockHttpServletRequest("GET", "/api/user"), response);
+        assertThat(response.getHeader("X-Handler")).isEqualTo("set");
+        assertThat(response.containsHeader("Server-Timing")).isFalse();
+    }
+
+    @Test
+    void 캐시_키에_없는_요청_헤더로_달라지는_응답인지_알려_준다() {
+        final var capturingResponse = new ResponseCapturingWrapper(new MockHttpServletResponse());
+        capturingResponse.addHeader("Vary", "accept-language");
+
+        assertThat(capturingResponse.variesOnlyBy(policy.getVary())).isTrue();
+
+        capturingResponse.addHeader("Vary", "Accept");
+        assertThat(capturingResponse.variesOnlyBy(policy.getVary())).isFalse();
+    }
+
+    private static CachedResponse capture(final String body) throws Exception {
+        final var capturingResponse = new ResponseCapturingWrapper(new MockHttpServletResponse());
+        capturingResponse.setContentType("application/json");
+        capturingResponse.setHeader("X-Version", "1");
+        capturingResponse.getWriter().write(body);
+        return capturingResponse.toCachedResponse();
+    }
+
+    private static ResponseCachePolicy policy(final String methodName) {
+        try {
+            return ResponseCachePolicy.of(ResponseCacheTest.class.getDeclaredMethod(methodName));
+        } catch (NoSuchMethodException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @CacheResponse(ttl = 60, params = "account", vary = "Accept-Language", tags = "users")
+    void show() {
+    }
+}
@@ -0,0 +1,155 @@
+package com.interface21.webmvc.servlet.compress;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.InflaterInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ResponseCompressorTest {
+
+    private static final String LARGE_JSON = "[" + "{\"account\":\"gugu\",\"age\":20},".repeat(200) + "{}]";
+
+    private final ResponseCompressor compressor = new ResponseCompressor();
+
+    @Test
+    void Accept_Encoding_의_q_값으로_coding_을_고른다() {
+        assertThat(ResponseCompressor.negotiate("gzip, deflate, br")).isEqualTo(ContentCoding.GZIP);
+        assertThat(ResponseCompressor.negotiate("deflate, gzip;q=0.5")).isEqualTo(ContentCoding.DEFLATE);
+        assertThat(ResponseCompressor.negotiate("*;q=0.1")).isEqualTo(ContentCoding.GZIP);
+        assertThat(ResponseCompressor.negotiate("gzip;q=0, identity")).isNull();
+        assertThat(ResponseCompressor.negotiate(null)).isNull();
+    }
+
+    @Test
+    void 기준_크기보다_큰_JSON_은_gzip_으로_압축한다() throws Exception {
+        final var response = new MockHttpServletResponse();
+        response.setHeader("ETag", "\"abc\"");
+        final var wrapper = compressor.wrap(request("gzip"), response);
+
+        wrapper.setContentType("application/json;charset=UTF-8");
+        wrapper.getOutputStream().write(LARGE_JSON.getBytes(StandardCharsets.UTF_8));
+        wrapper.finish();
+
+        assertThat(wrapper.isCompressed()).isTrue();
+        assertThat(response.getHeader("Content-Encoding")).isEqualTo("gzip");
+        assertThat(response.getHeader("Vary")).isEqualTo("Accept-Encoding");
+        assertThat(response.getHeader("ETag")).isEqualTo("W/\"abc\"");
+        assertThat(response.getContentAsByteArray().length).isLessThan(LARGE_JSON.length() / 4);
+        assertThat(decode(new GZIPInputStream(new ByteArrayInputStream(response.getContentAsByteArray())))).isEqualTo(LARGE_JSON);
+    }
+
+    @Test
+    void 렌더링이_실패해_finish_하지_못해도_release_하면_Deflater_가_풀로_돌아간다() throws Exception {
+        final var pool = compressor.getPool(ContentCoding.GZIP);
+        final var deflater = pool.borrow();
+        pool.release(deflater);
+        final var wrapper = compressor.wrap(request("gzip"), new MockHttpServletResponse());
+
+        wrapper.setContentType("application/json;charset=UTF-8");
+        wrapper.getOutputStream().write(LARGE_JSON.getBytes(StandardCharsets.UTF_8));
+        wrapper.release();
+
+        assertThat(wrapper.isCompressed()).isTrue();
+        assertThat(pool.borrow()).isSameAs(deflater);
+    }
+
+    @Test
+    void writer_로_쓴_본문도_deflate_로_압축한다() throws Exception {
+        final var response = new MockHttpServletResponse();
+        final var wrapper = compressor.wrap(request("deflate"), response);
+
+        wrapper.setContentType("text/html;charset=UTF-8");
+        wrapper.getWriter().write(LARGE_JSON);
+        wrapper.finish();
+
+        assertThat(response.getHeader("Content-Encoding")).isEqualTo("deflate");
+        assertThat(decode(new InflaterInputStream(new ByteArrayInputStream(response.getContentAsByteArray())))).isEqualTo(LARGE_JSON);
+    }
+
+    @Test
+    void 기준_크기보다_작거나_허용하지_않은_타입은_압축하지_않는다() throws Exception {
+        final var small = new MockHttpServletResponse();
+        final var smallWrapper = compressor.wrap(request("gzip"), small);
+        smallWrapper.setContentType("application/json");
+        smallWrapper.getOutputStream().write("{}".getBytes(StandardCharsets.UTF_8));
+        smallWrapper.finish();
+
+        final var image = new MockHttpServletResponse();
+        final var imageWrapper = compressor.wrap(request("gzip"), image);
+        imageWrapper.setContentType("image/png");
+        imageWrapper.getOutputStream().write(LARGE_JSON.getBytes(StandardCharsets.UTF_8));
+        imageWrapper.finish();
+
+        assertThat(small.getHeader("Content-Encoding")).isNull();
+        assertThat(small.getContentLength()).isEqualTo(2);
+        assertThat(small.getContentAsString()).isEqualTo("{}");
+        assertThat(image.getHeader("Content-Encoding")).isNull();
+        assertThat(image.getContentAsString()).isEqualTo(LARGE_JSON);
+    }
+
+    @Test
+    void 기준_크기에_닿기_전에_flush_하면_압축을_시작한다() throws Exception {
+        final var response = new MockHttpServletResponse();
+        final var wrapper = compressor.wrap(request("gzip"), response);
+
+        wrapper.setContentType("application/json");
+        final var outputStream = wrapper.getOutputStream();
+        outputStream.write("[1,".getBytes(StandardCharsets.UTF_8));
+        outputStream.flush();
+        outputStream.write("2]".getBytes(StandardCharsets.UTF_8));
+        wrapper.finish();
+
+        assertThat(response.getHeader("Content-Encoding")).isEqualTo("gzip");
+        assertThat(decode(new GZIPInputStream(new ByteArrayInputStream(response.getContentAsByteArray())))).isEqualTo("[1,2]");
+    }
+
+    @Test
+    void 본문을_쓰기_전에_flush_하면_이후에_큰_본문을_써도_압축하지_않는다() throws Exception {
+        final var response = new MockHttpServletResponse();
+        final var wrapper = compressor.wrap(request("gzip"), response);
+
+        wrapper.setContentType("application/json");
+        final var outputStream = wrapper.getOutputStream();
+        outputStream.flush();
+        outputStream.write(LARGE_JSON.getBytes(StandardCharsets.UTF_8));
+        wrapper.finish();
+
+        assertThat(wrapper.isCompressed()).isFalse();
+        assertThat(response.getHeader("Content-Encoding")).isNull();
+        assertThat(response.getContentAsString()).isEqualTo(LARGE_JSON);
+    }
+
+    @Test
+    void 출력_스트림을_얻기_전에_응답이_커밋되면_압축하지_않는다() throws Exception {
+        final var response = new MockHttpServletResponse();
+        final var wrapper = compressor.wrap(request("gzip"), response);
+
+        wrapper.setContentType("application/json");
+        wrapper.flushBuffer();
+        wrapper.getOutputStream().write(LARGE_JSON.getBytes(StandardCharsets.UTF_8));
+        wrapper.finish();
+
+        assertThat(response.getHeader("Content-Encoding")).isNull();
+        assertThat(response.getContentAsString()).isEqualTo(LARGE_JSON);
+    }
+
+    private static MockHttpServletRequest request(final String acceptEncoding) {
+        final var request = new MockHttpServletRequest("GET", "/api/users");
+        request.addHeader("Accept-Encoding", acceptEncoding);
+        return request;
+    }
+
+    private static String decode(final InputStream inputStream) throws IOException {
+        try (inputStream) {
+            return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
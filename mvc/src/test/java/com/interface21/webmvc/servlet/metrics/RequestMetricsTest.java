@@ -0,0 +1,112 @@
+package com.interface21.webmvc.servlet.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class RequestMetricsTest {
+
+    @Test
+    void 히스토그램의_quantile_은_구간_오차_안에서_계산된다() {
+        final var histogram = new LatencyHistogram(4);
+        for (int millis = 1; millis <= 1_000; millis++) {
+            histogram.recordNanos(millis * 1_000_000L);
+        }
+
+        final var snapshot = histogram.snapshot();
+
+        assertThat(snapshot.getCount()).isEqualTo(1_000);
+        assertThat(snapshot.getSumNanos()).isEqualTo(500_500_000_000L);
+        assertThat(snapshot.getValueAtQuantileMicros(0.5)).isCloseTo(500_000L, within(5_000L));
+        assertThat(snapshot.getValueAtQuantileMicros(0.99)).isCloseTo(990_000L, within(9_900L));
+    }
+
+    @Test
+    void 경계마다_그_값_이하로_기록된_수를_누적한다() {
+        final var histogram = new LatencyHistogram(1);
+        for (int millis = 1; millis <= 100; millis++) {
+            histogram.recordNanos(millis * 1_000_000L);
+        }
+
+        final long[] cumulativeCounts = histogram.snapshot().getCumulativeCounts(new long[]{500, 1_000, 10_000, 50_000, 1_000_000});
+
+        assertThat(cumulativeCounts).containsExactly(0, 1, 10, 50, 100);
+    }
+
+    @Test
+    void 구간의_가운데_값은_기록한_값과_1퍼센트_안쪽으로_다르다() {
+        for (long micros = 1; micros < 1L << 34; micros += Math.max(1, micros / 97)) {
+            final long midpoint = LatencyHistogram.bucketMidpoint(LatencyHistogram.bucketIndex(micros));
+            assertThat((double) Math.abs(midpoint - micros) / micros).isLessThanOrEqualTo(0.01);
+        }
+    }
+
+    @Test
+    void 구간은_값의_순서를_유지한다() {
+        int previous = -1;
+        for (long micros = 0; micros < 1L << 20; micros = micros * 2 + 1) {
+            final int index = LatencyHistogram.bucketIndex(micros);
+            assertThat(index).isGreaterThanOrEqualTo(previous).isLessThan(LatencyHistogram.BUCKET_COUNT);
+            previous = index;
+        }
+        assertThat(LatencyHistogram.bucketIndex(Long.MAX_VALUE)).isEqualTo(LatencyHistogram.BUCKET_COUNT - 1);
+    }
+
+    @Test
+    void 여러_스레드가_동시에_기록해도_빠지지_않는다() throws Exception {
+        final var requestMetrics = new RequestMetrics();
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        final var done = new CountDownLatch(8);
+        for (int thread = 0; thread < 8; thread++) {
+            executor.execute(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    requestMetrics.requestStarted();
+                    requestMetrics.requestFinished("GET", "/api/user/{id}", 200, 1_000_000, 10);
+                }
+                done.countDown();
+            });
+        }
+        done.await(10, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        final var routeMetrics = requestMetrics.getRouteMetrics("GET", "/api/user/{id}");
+        assertThat(routeMetrics.getLatency().getCount()).isEqualTo(80_000);
+        assertThat(routeMetrics.getStatusCount(200)).isEqualTo(80_000);
+        assertThat(routeMetrics.getBytesWritten()).isEqualTo(800_000);
+        assertThat(requestMetrics.getInFlight()).isZero();
+    }
+
+    @Test
+    void Prometheus_text_format_으로_쓴다() throws Exception {
+        final var requestMetrics = new RequestMetrics();
+        requestMetrics.requestStarted();
+        requestMetrics.requestFinished("GET", "/api/user/{id}", 200, 2_000_000, 120);
+        requestMetrics.requestStarted();
+        requestMetrics.requestFinished("GET", null, 404, 1_000, 0);
+        requestMetrics.requestStarted();
+
+        final var body = new StringWriter();
+        requestMetrics.writePrometheus(body);
+
+        assertThat(body.toString())
+            .contains("# TYPE http_server_requests_seconds histogram\n")
+            .contains("http_server_requests_seconds_bucket{method=\"GET\",route=\"/api/user/{id}\",le=\"0.001\"} 0\n")
+            .contains("http_server_requests_seconds_bucket{method=\"GET\",route=\"/api/user/{id}\",le=\"0.0025\"} 1\n")
+            .contains("http_server_requests_seconds_bucket{method=\"GET\",route=\"/api/user/{id}\",le=\"10.0\"} 1\n")
+            .contains("http_server_requests_seconds_bucket{method=\"GET\",route=\"/api/user/{id}\",le=\"+Inf\"} 1\n")
+            .contains("http_server_requests_seconds_bucket{method=\"GET\",route=\"UNMATCHED\",le=\"0.001\"} 1\n")
+            .contains("http_server_requests_seconds_count{method=\"GET\",route=\"/api/user/{id}\"} 1\n")
+            .contains("http_server_requests_seconds_sum{method=\"GET\",route=\"/api/user/{id}\"} 0.002000\n")
+            .contains("http_server_requests_total{method=\"GET\",route=\"/api/user/{id}\",status=\"200\"} 1\n")
+            .contains("http_server_requests_total{method=\"GET\",route=\"UNMATCHED\",status=\"404\"} 1\n")
+            .contains("http_server_response_bytes_total{method=\"GET\",route=\"/api/user/{id}\"} 120\n")
+            .contains("http_server_requests_in_flight 1\n");
+    }
+}
@@ -0,0 +1,295 @@
+package com.interface21.webmvc.servlet.mvc;
+
+import com.interface21.web.bind.annotation.CacheResponse;
+import com.interface21.web.bind.annotation.RequestBody;
+import com.interface21.web.bind.annotation.RequestMapping;
+import com.interface21.web.bind.annotation.RequestMethod;
+import com.interface21.web.bind.annotation.RequestParam;
+import com.interface21.webmvc.servlet.ModelAndView;
+import com.interface21.webmvc.servlet.cache.ResponseCache;
+import com.interface21.webmvc.servlet.metrics.RequestMetrics;
+import com.interface21.webmvc.servlet.mvc.tobe.HandlerExecution;
+import com.interface21.webmvc.servlet.mvc.tobe.HandlerExecutionHandlerAdapter;
+import com.interface21.webmvc.servlet.mvc.tobe.support.RequestBodyArgumentResolver;
+import com.interface21.webmvc.servlet.mvc.tobe.support.RequestParamArgumentResolver;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockAsyncContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DispatcherServletTest {
+
+    private final CompletableFuture<ModelAndView> future = new CompletableFuture<>();
+    private DispatcherServlet dispatcherServlet;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        final var handlerExecution = new HandlerExecution(List.of(), new AsyncController(future),
+            AsyncController.class.getMethod("load"));
+
+        dispatcherServlet = new DispatcherServlet();
+        dispatcherServlet.addHandlerMapping(new SingleHandlerMapping(handlerExecution));
+        dispatcherServlet.addHandlerAdapter(new HandlerExecutionHandlerAdapter());
+        dispatcherServlet.init();
+    }
+
+    @Test
+    void CompletableFuture_를_반환하면_완료될_때_렌더링한다() throws Exception {
+        final var request = asyncRequest();
+        final var response = new MockHttpServletResponse();
+
+        dispatcherServlet.service(request, response);
+
+        assertThat(request.isAsyncStarted()).isTrue();
+        assertThat(response.getContentAsString()).isEmpty();
+        assertThat(request.getAsyncContext().getTimeout()).isEqualTo(100);
+
+        future.complete(new ModelAndView((model, req, res) -> res.getWriter().write("done")));
+
+        assertThat(request.isAsyncStarted()).isFalse();
+        assertThat(response.getContentAsString()).isEqualTo("done");
+    }
+
+    @Test
+    void 제한_시간_안에_완료되지_않으면_503_으로_응답하고_결과를_취소한다() throws Exception {
+        final var request = asyncRequest();
+        final var response = new MockHttpServletResponse();
+
+        dispatcherServlet.service(request, response);
+        final var asyncContext = (MockAsyncContext) request.getAsyncContext();
+        for (var listener : asyncContext.getListeners()) {
+            listener.onTimeout(new AsyncEvent(asyncContext));
+        }
+
+        assertThat(response.getStatus()).isEqualTo(503);
+        assertThat(future).isCancelled();
+        assertThat(request.isAsyncStarted()).isFalse();
+    }
+
+    @Test
+    void 결과가_예외로_완료되면_500_으로_응답한다() throws Exception {
+        final var request = asyncRequest();
+        final var response = new MockHttpServletResponse();
+
+        dispatcherServlet.service(request, response);
+        future.completeExceptionally(new IllegalStateException("downstream failed"));
+
+        assertThat(response.getStatus()).isEqualTo(500);
+        assertThat(request.isAsyncStarted()).isFalse();
+    }
+
+    @Test
+    void 비동기를_지원하지_않는_요청은_결과를_기다려_렌더링한다() throws Exception {
+        final var request = new MockHttpServletRequest("GET", "/async");
+        final var response = new MockHttpServletResponse();
+        future.complete(new ModelAndView((model, req, res) -> res.getWriter().write("done")));
+
+        dispatcherServlet.service(request, response);
+
+        assertThat(response.getContentAsString()).isEqualTo("done");
+    }
+
+    @Test
+    void dispatch_스레드를_설정하면_핸들러_실행과_렌더링을_그_스레드에서_한다() throws Exception {
+        final var threads = new ArrayList<Thread>();
+        dispatcherServlet.setDispatchThreadFactory(task -> {
+            final var thread = new Thread(task, "dispatch-test");
+            threads.add(thread);
+            return thread;
+        });
+        final var request = asyncRequest();
+        final var response = new MockHttpServletResponse();
+        future.complete(new ModelAndView((model, req, res) -> res.getWriter().write(Thread.currentThread().getName())));
+
+        dispatcherServlet.service(request, response);
+        threads.get(0).join(1_000);
+
+        assertThat(request.isAsyncStarted()).isFalse();
+        assertThat(response.getContentAsString()).isEqualTo("dispatch-test");
+    }
+
+    @Test
+    void 모델_버전이_If_None_Match_와_같으면_렌더링하지_않고_304_로_응답한다() throws Exception {
+        final var request = new MockHttpServletRequest("GET", "/async");
+        request.addHeader("If-None-Match", "\"3\"");
+        final var response = new MockHttpServletResponse();
+        future.complete(new ModelAndView((model, req, res) -> res.getWriter().write("rendered")).setVersion(3));
+
+        dispatcherServlet.service(request, response);
+
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getHeader("ETag")).isEqualTo("\"3\"");
+        assertThat(response.getContentAsString()).isEmpty();
+    }
+
+    @Test
+    void CacheResponse_핸들러는_캐시에_있으면_핸들러를_호출하지_않는다() throws Exception {
+        final var controller = new CachedController();
+        final var cachingServlet = new DispatcherServlet();
+        cachingServlet.addHandlerMapping(new SingleHandlerMapping(new HandlerExecution(List.of(), controller,
+            CachedController.class.getMethod("show"))));
+        cachingServlet.addHandlerAdapter(new HandlerExecutionHandlerAdapter());
+        cachingServlet.setResponseCache(new ResponseCache());
+        cachingServlet.init();
+
+        final var first = new MockHttpServletResponse();
+        cachingServlet.service(new MockHttpServletRequest("GET", "/cached"), first);
+        final var second = new MockHttpServletResponse();
+        cachingServlet.service(new MockHttpServletRequest("GET", "/cached"), second);
+
+        assertThat(controller.calls).isEqualTo(1);
+        assertThat(second.getContentAsString()).isEqualTo(first.getContentAsString()).isEqualTo("1");
+        assertThat(second.getHeader("Vary")).isEqualTo("Accept-Language");
+    }
+
+    @Test
+    void 비동기_요청의_지표는_비동기_처리가_끝날_때_기록한다() throws Exception {
+        final var requestMetrics = new RequestMetrics();
+        dispatcherServlet.setRequestMetrics(requestMetrics);
+        final var request = asyncRequest();
+
+        dispatcherServlet.service(request, new MockHttpServletResponse());
+
+        assertThat(requestMetrics.getInFlight()).isEqualTo(1);
+        assertThat(requestMetrics.getRouteMetrics("GET", "/async")).isNull();
+
+        future.complete(new ModelAndView((model, req, res) -> res.getWriter().write("done")));
+
+        final var routeMetrics = requestMetrics.getRouteMetrics("GET", "/async");
+        assertThat(requestMetrics.getInFlight()).isZero();
+        assertThat(routeMetrics.getLatency().getCount()).isEqualTo(1);
+        assertThat(routeMetrics.getStatusCount(200)).isEqualTo(1);
+        assertThat(routeMetrics.getBytesWritten()).isEqualTo(4);
+    }
+
+    @Test
+    void 샘플링된_요청은_처리_단계별_시간을_Server_Timing_헤더로_쓴다() throws Exception {
+        dispatcherServlet.setServerTimingSampleRate(1);
+        final var response = new MockHttpServletResponse();
+        future.complete(new ModelAndView((model, req, res) -> res.getWriter().write("done")));
+
+        dispatcherServlet.service(new MockHttpServletRequest("GET", "/async"), response);
+
+        assertThat(response.getHeader("Server-Timing"))
+            .matches("lookup;dur=[\\d.]+, bind;dur=[\\d.]+, handler;dur=[\\d.]+, wait;dur=[\\d.]+, render;dur=[\\d.]+, total;dur=[\\d.]+");
+    }
+
+    @Test
+    void 샘플링하지_않으면_Server_Timing_헤더를_쓰지_않는다() throws Exception {
+        final var response = new MockHttpServletResponse();
+        future.complete(new ModelAndView((model, req, res) -> res.getWriter().write("done")));
+
+        dispatcherServlet.service(new MockHttpServletRequest("GET", "/async"), response);
+
+        assertThat(response.getHeader("Server-Timing")).isNull();
+    }
+
+    @Test
+    void 요청_본문을_읽지_못하면_400_한도를_넘으면_413_JSON_이_아니면_415_로_응답한다() throws Exception {
+        final var bodyServlet = new DispatcherServlet();
+        bodyServlet.addHandlerMapping(new SingleHandlerMapping(new HandlerExecution(
+            List.of(new RequestBodyArgumentResolver(null, 16)), new BodyController(),
+            BodyController.class.getMethod("create", String.class))));
+        bodyServlet.addHandlerAdapter(new HandlerExecutionHandlerAdapter());
+        bodyServlet.init();
+
+        assertThat(postStatus(bodyServlet, "application/json", "{")).isEqualTo(400);
+        assertThat(postStatus(bodyServlet, "application/json", "\"" + "a".repeat(20) + "\"")).isEqualTo(413);
+        assertThat(postStatus(bodyServlet, "text/plain", "\"a\"")).isEqualTo(415);
+        assertThat(postStatus(bodyServlet, "application/json", "\"a\"")).isEqualTo(200);
+    }
+
+    @Test
+    void 요청_파라미터를_기본_타입으로_변환하지_못하면_400_으로_응답한다() throws Exception {
+        final var pageServlet = new DispatcherServlet();
+        pageServlet.addHandlerMapping(new SingleHandlerMapping(new HandlerExecution(
+            List.of(new RequestParamArgumentResolver()), new BodyController(),
+            BodyController.class.getMethod("page", int.class))));
+        pageServlet.addHandlerAdapter(new HandlerExecutionHandlerAdapter());
+        pageServlet.init();
+        final var request = new MockHttpServletRequest("GET", "/page");
+        request.addParameter("page", "two");
+        final var response = new MockHttpServletResponse();
+
+        pageServlet.service(request, response);
+
+        assertThat(response.getStatus()).isEqualTo(400);
+    }
+
+    private static int postStatus(final DispatcherServlet servlet, final String contentType, final String body) throws Exception {
+        final var request = new MockHttpServletRequest("POST", "/body");
+        request.setContentType(contentType);
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        final var response = new MockHttpServletResponse();
+        servlet.service(request, response);
+        return response.getStatus();
+    }
+
+    private static MockHttpServletRequest asyncRequest() {
+        final var request = new MockHttpServletRequest("GET", "/async");
+        request.setAsyncSupported(true);
+        return request;
+    }
+
+    public static class AsyncController {
+
+        private final CompletableFuture<ModelAndView> future;
+
+        AsyncController(final CompletableFuture<ModelAndView> future) {
+            this.future = future;
+        }
+
+        @RequestMapping(value = "/async", method = RequestMethod.GET, timeout = 100)
+        public CompletableFuture<ModelAndView> load() {
+            return future;
+        }
+    }
+
+    public static class CachedController {
+
+        private int calls;
+
+        @CacheResponse(ttl = 60, vary = "Accept-Language")
+        @RequestMapping(value = "/cached", method = RequestMethod.GET)
+        public ModelAndView show() {
+            final int count = ++calls;
+            return new ModelAndView((model, req, res) -> res.getWriter().write(String.valueOf(count)));
+        }
+    }
+
+    public static class BodyController {
+
+        @RequestMapping(value = "/body", method = RequestMethod.POST)
+        public ModelAndView create(@RequestBody final String name) {
+            return new ModelAndView((model, req, res) -> res.getWriter().write(name));
+        }
+
+        @RequestMapping(value = "/page", method = RequestMethod.GET)
+        public ModelAndView page(@RequestParam("page") final int page) {
+            return new ModelAndView((model, req, res) -> res.getWriter().write(String.valueOf(page)));
+        }
+    }
+
+    private record SingleHandlerMapping(Object handler) implements HandlerMapping {
+
+        @Override
+        public void initialize() {
+        }
+
+        @Override
+        public Object getHandler(final HttpServletRequest request) {
+            request.setAttribute(BEST_MATCHING_PATTERN_ATTRIBUTE, request.getRequestURI());
+            return handler;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.interface21.webmvc.servlet.mvc;
+
+import com.interface21.webmvc.servlet.mvc.tobe.AnnotationHandlerMapping;
+import com.interface21.webmvc.servlet.mvc.tobe.HandlerExecutionHandlerAdapter;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.lang.management.ManagementFactory;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class HandlerRegistryAllocationTest {
+
+    private static final int WARM_UP = 20_000;
+    private static final int ITERATIONS = 10_000;
+
+    @Test
+    void 변수가_없는_경로는_핸들러와_adapter_를_찾을_때_객체를_만들지_않는다() {
+        final var threadMXBean = ManagementFactory.getThreadMXBean();
+        assumeTrue(threadMXBean instanceof com.sun.management.ThreadMXBean);
+        final var allocation = (com.sun.management.ThreadMXBean) threadMXBean;
+        assumeTrue(allocation.isThreadAllocatedMemorySupported());
+        allocation.setThreadAllocatedMemoryEnabled(true);
+
+        final var mappingRegistry = new HandlerMappingRegistry();
+        mappingRegistry.addHandlerMapping(new AnnotationHandlerMapping("samples"));
+        final var adapterRegistry = new HandlerAdapterRegistry();
+        adapterRegistry.addHandlerAdapter(new HandlerExecutionHandlerAdapter());
+        final var request = new MockHttpServletRequest("GET", "/get-test");
+
+        int found = 0;
+        for (int i = 0; i < WARM_UP; i++) {
+            found += lookup(mappingRegistry, adapterRegistry, request);
+        }
+        final long before = allocation.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < ITERATIONS; i++) {
+            found += lookup(mappingRegistry, adapterRegistry, request);
+        }
+        final long allocated = allocation.getCurrentThreadAllocatedBytes() - before;
+
+        assertThat(found).isEqualTo(WARM_UP + ITERATIONS);
+        assertThat(allocated / ITERATIONS).isZero();
+    }
+
+    private static int lookup(final HandlerMappingRegistry mappingRegistry, final HandlerAdapterRegistry adapterRegistry,
+                              final MockHttpServletRequest request) {
+        final var handler = mappingRegistry.getHandler(request);
+        return handler != null && adapterRegistry.getHandlerAdapter(handler) != null ? 1 : 0;
+    }
+}
@@ -48,4 +48,14 @@ class AnnotationHandlerMappingTest {
 
         assertThat(modelAndView.getObject("id")).isEqualTo("gugu");
     }
+
+    @Test
+    void 알_수_없는_HTTP_메서드는_핸들러를_찾지_않는다() {
+        final var request = mock(HttpServletRequest.class);
+
+        when(request.getRequestURI()).thenReturn("/get-test");
+        when(request.getMethod()).thenReturn("PROPFIND");
+
+        assertThat(handlerMapping.getHandler(request)).isNull();
+    }
 }
@@ -0,0 +1,118 @@
+package com.interface21.webmvc.servlet.mvc.tobe;
+
+import com.interface21.core.convert.ConversionFailedException;
+import com.interface21.web.bind.annotation.PathVariable;
+import com.interface21.web.bind.annotation.RequestParam;
+import com.interface21.web.method.support.HandlerMethodArgumentResolver;
+import com.interface21.webmvc.servlet.ModelAndView;
+import com.interface21.webmvc.servlet.mvc.MethodArgumentTypeNotSupportedException;
+import com.interface21.webmvc.servlet.mvc.MissingRequestValueException;
+import com.interface21.webmvc.servlet.mvc.tobe.support.HttpRequestArgumentResolver;
+import com.interface21.webmvc.servlet.mvc.tobe.support.PathVariableArgumentResolver;
+import com.interface21.webmvc.servlet.mvc.tobe.support.RequestParamArgumentResolver;
+import com.interface21.webmvc.servlet.view.JspView;
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HandlerExecutionTest {
+
+    private static final List<HandlerMethodArgumentResolver> RESOLVERS = List.of(
+        new HttpRequestArgumentResolver(),
+        new RequestParamArgumentResolver(),
+        new PathVariableArgumentResolver()
+    );
+
+    @Test
+    void 파라미터마다_묶어_둔_resolver_로_인자를_만든다() throws Exception {
+        final var handlerExecution = new HandlerExecution(RESOLVERS, new SampleController(),
+            SampleController.class.getMethod("search", HttpServletRequest.class, String.class, int.class));
+        final var request = new MockHttpServletRequest("GET", "/search");
+        request.addParameter("q", "gugu");
+        request.addParameter("page", "2");
+
+        final var modelAndView = handlerExecution.handle(request, new MockHttpServletResponse());
+
+        assertThat(modelAndView.getObject("result")).isEqualTo("GET:gugu:2");
+    }
+
+    @Test
+    void 핸들러에서_발생한_예외는_감싸지_않고_전달된다() throws Exception {
+        final var handlerExecution = new HandlerExecution(RESOLVERS, new SampleController(),
+            SampleController.class.getMethod("fail", long.class));
+        final var request = new MockHttpServletRequest("GET", "/fail");
+        request.addParameter("id", "1");
+
+        assertThatThrownBy(() -> handlerExecution.handle(request, new MockHttpServletResponse()))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage("fail 1");
+    }
+
+    @Test
+    void 필수_요청_파라미터가_없으면_예외가_발생한다() throws Exception {
+        final var handlerExecution = new HandlerExecution(RESOLVERS, new SampleController(),
+            SampleController.class.getMethod("search", HttpServletRequest.class, String.class, int.class));
+        final var request = new MockHttpServletRequest("GET", "/search");
+        request.addParameter("page", "2");
+
+        assertThatThrownBy(() -> handlerExecution.handle(request, new MockHttpServletResponse()))
+            .isInstanceOf(MissingRequestValueException.class);
+    }
+
+    @Test
+    void 기본_타입_파라미터로_변환할_수_없는_값이면_ConversionFailedException_이_발생한다() throws Exception {
+        final var handlerExecution = new HandlerExecution(RESOLVERS, new SampleController(),
+            SampleController.class.getMethod("search", HttpServletRequest.class, String.class, int.class));
+        final var request = new MockHttpServletRequest("GET", "/search");
+        request.addParameter("q", "gugu");
+        request.addParameter("page", "two");
+
+        assertThatThrownBy(() -> handlerExecution.handle(request, new MockHttpServletResponse()))
+            .isInstanceOf(ConversionFailedException.class);
+    }
+
+    @Test
+    void 처리할_resolver_가_없는_파라미터는_등록할_때_실패한다() throws Exception {
+        final var method = SampleController.class.getMethod("noResolver", Runnable.class);
+
+        assertThatThrownBy(() -> new HandlerExecution(RESOLVERS, new SampleController(), method))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void 변환할_수_없는_타입의_파라미터는_등록할_때_실패한다() throws Exception {
+        final var method = SampleController.class.getMethod("unsupported", Runnable.class);
+
+        assertThatThrownBy(() -> new HandlerExecution(RESOLVERS, new SampleController(), method))
+            .isInstanceOf(MethodArgumentTypeNotSupportedException.class);
+    }
+
+    public static class SampleController {
+
+        public ModelAndView search(final HttpServletRequest request,
+                                   @RequestParam("q") final String query,
+                                   @RequestParam("page") final int page) {
+            final var modelAndView = new ModelAndView(new JspView(""));
+            modelAndView.addObject("result", request.getMethod() + ":" + query + ":" + page);
+            return modelAndView;
+        }
+
+        public ModelAndView fail(@RequestParam("id") final long id) {
+            throw new IllegalArgumentException("fail " + id);
+        }
+
+        public ModelAndView noResolver(final Runnable task) {
+            return null;
+        }
+
+        public ModelAndView unsupported(@PathVariable("task") final Runnable task) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.interface21.webmvc.servlet.mvc.tobe.support;
+
+import com.interface21.core.MethodParameter;
+import com.interface21.core.convert.ConversionFailedException;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ModelArgumentResolverTest {
+
+    private final ModelArgumentResolver argumentResolver = new ModelArgumentResolver();
+
+    @Test
+    void 생성자와_setter_로_JavaBean_을_바인딩한다() throws Exception {
+        final var request = new MockHttpServletRequest("POST", "/user");
+        request.addParameter("id", "gugu");
+        request.addParameter("name", "kang");
+        request.addParameter("age", "20");
+        request.addParameter("money", "1000");
+
+        final var result = resolve(MockUser.class, request);
+
+        assertThat(result).hasToString("gugu_kang_20_1000");
+    }
+
+    @Test
+    void record_는_canonical_생성자로_타입을_변환해_바인딩한다() throws Exception {
+        final var request = new MockHttpServletRequest("POST", "/signup");
+        request.addParameter("account", "gugu");
+        request.addParameter("age", "20");
+        request.addParameter("birthday", "2000-01-01");
+        request.addParameter("tags", "a", "b");
+
+        final var result = resolve(SignUpRequest.class, request);
+
+        assertThat(result).isEqualTo(new SignUpRequest("gugu", 20, LocalDate.of(2000, 1, 1), List.of("a", "b")));
+    }
+
+    @Test
+    void 요청에_없는_값은_기본값으로_바인딩한다() throws Exception {
+        final var request = new MockHttpServletRequest("POST", "/signup");
+        request.addParameter("account", "gugu");
+
+        final var result = resolve(SignUpRequest.class, request);
+
+        assertThat(result).isEqualTo(new SignUpRequest("gugu", 0, null, null));
+    }
+
+    @Test
+    void 기본_타입으로_변환할_수_없는_값은_ConversionFailedException_이_발생한다() {
+        final var constructorRequest = new MockHttpServletRequest("POST", "/signup");
+        constructorRequest.addParameter("age", "twenty");
+        final var setterRequest = new MockHttpServletRequest("POST", "/user");
+        setterRequest.addParameter("money", "a lot");
+
+        assertThatThrownBy(() -> resolve(SignUpRequest.class, constructorRequest))
+            .isInstanceOf(ConversionFailedException.class);
+        assertThatThrownBy(() -> resolve(MockUser.class, setterRequest))
+            .isInstanceOf(ConversionFailedException.class);
+    }
+
+    @Test
+    void 변환할_수_없는_타입의_생성자_인자는_기본값으로_두고_나머지를_바인딩한다() throws Exception {
+        final var request = new MockHttpServletRequest("POST", "/signup");
+        request.addParameter("account", "gugu");
+        request.addParameter("callback", "run");
+
+        final var result = resolve(CallbackRequest.class, request);
+
+        assertThat(result).isEqualTo(new CallbackRequest("gugu", null));
+    }
+
+    private Object resolve(final Class<?> type, final MockHttpServletRequest request) throws NoSuchMethodException {
+        final Method method = Handler.class.getDeclaredMethod("handle", Object.class);
+        final var methodParameter = new MethodParameter(method, type, new Annotation[0], "model");
+        return argumentResolver.bind(methodParameter).resolve(request, new MockHttpServletResponse());
+    }
+
+    record SignUpRequest(String account, int age, LocalDate birthday, List<String> tags) {
+    }
+
+    record CallbackRequest(String account, Runnable callback) {
+    }
+
+    static class Handler {
+
+        void handle(final Object model) {
+        }
+    }
+}
@@ -2,8 +2,11 @@ package com.interface21.webmvc.servlet.mvc.tobe.support;
 
 import com.interface21.core.MethodParameter;
 import com.interface21.web.bind.annotation.PathVariable;
+import com.interface21.web.bind.annotation.RequestMethod;
+import com.interface21.webmvc.servlet.mvc.HandlerMapping;
 import jakarta.servlet.http.HttpServletRequest;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -30,6 +33,20 @@ class PathVariableArgumentResolverTest {
         assertThat(result).isEqualTo(expectedResult);
     }
 
+    @Test
+    void 핸들러_매핑이_추출한_URI_변수를_사용한다() throws NoSuchMethodException {
+        final Method method = MockArgumentResolverController.class.getDeclaredMethod("mockPathVariableMethod", int.class);
+        final var routeTree = new RouteTree<Method>();
+        routeTree.add("/pathVariable/user/{id}", RequestMethod.GET, method);
+        final var request = new MockHttpServletRequest("GET", "/pathVariable/user/50");
+        request.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, routeTree.match(request.getRequestURI(), RequestMethod.GET));
+
+        final var methodParameter = new MethodParameter(method, int.class, method.getParameterAnnotations()[0], "id");
+        final Object result = argumentResolver.resolveArgument(methodParameter, request, new MockHttpServletResponse());
+
+        assertThat(result).isEqualTo(50);
+    }
+
     private static Stream<Arguments> samplePathVariableMethodParameter() throws NoSuchMethodException {
         final Method mockStringPathVariableMethod = MockArgumentResolverController.class.getDeclaredMethod("mockPathVariableMethod", String.class);
         final PathVariable stringAnnotation = (PathVariable) mockStringPathVariableMethod.getParameterAnnotations()[0][0];
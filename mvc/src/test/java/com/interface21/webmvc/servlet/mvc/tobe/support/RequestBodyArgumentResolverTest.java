@@ -0,0 +1,208 @@
+package com.interface21.webmvc.servlet.mvc.tobe.support;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.interface21.core.MethodParameter;
+import com.interface21.web.bind.annotation.RequestBody;
+import com.interface21.webmvc.servlet.mvc.HttpMediaTypeNotSupportedException;
+import com.interface21.webmvc.servlet.mvc.HttpMessageNotReadableException;
+import com.interface21.webmvc.servlet.mvc.PayloadTooLargeException;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RequestBodyArgumentResolverTest {
+
+    private final RequestBodyArgumentResolver argumentResolver = new RequestBodyArgumentResolver(new ObjectMapper(), 64);
+
+    @Test
+    void 요청_본문을_파라미터_타입으로_읽는다() throws Exception {
+        final var request = jsonRequest("{\"account\":\"gugu\",\"age\":20}");
+
+        assertThat(resolve("userParam", request)).isEqualTo(new User("gugu", 20));
+    }
+
+    @Test
+    void 제네릭_타입은_타입_인자까지_읽는다() throws Exception {
+        final var request = jsonRequest("[{\"account\":\"gugu\",\"age\":20}]");
+
+        assertThat(resolve("listParam", request)).isEqualTo(List.of(new User("gugu", 20)));
+    }
+
+    @Test
+    void 같은_타입의_ObjectReader_는_재사용한다() throws Exception {
+        final var type = findMethod("userParam").getGenericParameterTypes()[0];
+
+        assertThat(argumentResolver.getReader(type)).isSameAs(argumentResolver.getReader(type));
+    }
+
+    @Test
+    void Content_Length_가_한도를_넘으면_본문을_읽지_않고_예외가_발생한다() {
+        final var request = jsonRequest("{\"account\":\"" + "a".repeat(100) + "\"}");
+
+        assertThatThrownBy(() -> resolve("userParam", request))
+            .isInstanceOf(PayloadTooLargeException.class);
+    }
+
+    @Test
+    void Content_Length_가_없어도_읽은_크기가_한도를_넘으면_예외가_발생한다() {
+        final var request = chunkedRequest("{\"account\":\"" + "a".repeat(100) + "\"}");
+
+        assertThatThrownBy(() -> resolve("userParam", request))
+            .isInstanceOf(PayloadTooLargeException.class);
+    }
+
+    @Test
+    void 필수_본문이_없으면_예외가_발생한다() {
+        final var request = jsonRequest("");
+
+        assertThatThrownBy(() -> resolve("userParam", request))
+            .isInstanceOf(HttpMessageNotReadableException.class);
+    }
+
+    @Test
+    void 필수가_아닌_본문이_없으면_null_을_반환한다() throws Exception {
+        final var request = jsonRequest("");
+
+        assertThat(resolve("optionalParam", request)).isNull();
+    }
+
+    @Test
+    void 형식이_잘못된_본문이면_예외가_발생한다() {
+        final var request = jsonRequest("{\"account\":");
+
+        assertThatThrownBy(() -> resolve("userParam", request))
+            .isInstanceOf(HttpMessageNotReadableException.class);
+    }
+
+    @Test
+    void 값_뒤에_다른_토큰이_있으면_예외가_발생한다() {
+        final var request = jsonRequest("{\"account\":\"gugu\",\"age\":20} {}");
+
+        assertThatThrownBy(() -> resolve("userParam", request))
+            .isInstanceOf(HttpMessageNotReadableException.class);
+    }
+
+    @Test
+    void 읽는_도중_클라이언트_연결이_끊기면_예외가_발생한다() {
+        final var request = new MockHttpServletRequest("POST", "/requestBody") {
+            @Override
+            public ServletInputStream getInputStream() {
+                return new ServletInputStream() {
+                    @Override
+                    public int read() throws IOException {
+                        throw new IOException("Connection reset by peer");
+                    }
+
+                    @Override
+                    public boolean isFinished() {
+                        return false;
+                    }
+
+                    @Override
+                    public boolean isReady() {
+                        return true;
+                    }
+
+                    @Override
+                    public void setReadListener(final ReadListener readListener) {
+                    }
+                };
+            }
+        };
+        request.setContentType("application/json");
+
+        assertThatThrownBy(() -> resolve("userParam", request))
+            .isInstanceOf(HttpMessageNotReadableException.class)
+            .hasCauseInstanceOf(IOException.class);
+    }
+
+    @Test
+    void JSON_이_아닌_Content_Type_이면_예외가_발생한다() {
+        final var request = jsonRequest("account=gugu");
+        request.setContentType("application/x-www-form-urlencoded");
+
+        assertThatThrownBy(() -> resolve("userParam", request))
+            .isInstanceOf(HttpMediaTypeNotSupportedException.class);
+    }
+
+    private static MockHttpServletRequest jsonRequest(final String body) {
+        final var request = new MockHttpServletRequest("POST", "/requestBody");
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+
+    private static MockHttpServletRequest chunkedRequest(final String body) {
+        final var input = new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+        final var request = new MockHttpServletRequest("POST", "/requestBody") {
+            @Override
+            public ServletInputStream getInputStream() {
+                return new ServletInputStream() {
+                    @Override
+                    public int read() {
+                        return input.read();
+                    }
+
+                    @Override
+                    public boolean isFinished() {
+                        return input.available() == 0;
+                    }
+
+                    @Override
+                    public boolean isReady() {
+                        return true;
+                    }
+
+                    @Override
+                    public void setReadListener(final ReadListener readListener) {
+                    }
+                };
+            }
+        };
+        request.setContentType("application/json");
+        return request;
+    }
+
+    private Object resolve(final String methodName, final MockHttpServletRequest request) throws NoSuchMethodException {
+        final Method method = findMethod(methodName);
+        final var parameter = method.getParameters()[0];
+        final var methodParameter = new MethodParameter(method, parameter.getType(), parameter.getParameterizedType(),
+            parameter.getAnnotations(), parameter.getName());
+        return argumentResolver.resolveArgument(methodParameter, request, new MockHttpServletResponse());
+    }
+
+    private Method findMethod(final String methodName) throws NoSuchMethodException {
+        for (Method method : Controller.class.getDeclaredMethods()) {
+            if (method.getName().equals(methodName)) {
+                return method;
+            }
+        }
+        throw new NoSuchMethodException(methodName);
+    }
+
+    record User(String account, int age) {
+    }
+
+    static class Controller {
+
+        void userParam(@RequestBody User user) {
+        }
+
+        void listParam(@RequestBody List<User> users) {
+        }
+
+        void optionalParam(@RequestBody(required = false) User user) {
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.interface21.webmvc.servlet.mvc.tobe.support;
+
+import com.interface21.core.MethodParameter;
+import com.interface21.web.bind.annotation.RequestParam;
+import com.interface21.webmvc.servlet.mvc.MethodArgumentTypeNotSupportedException;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.lang.reflect.Method;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RequestParamArgumentResolverTest {
+
+    private final RequestParamArgumentResolver argumentResolver = new RequestParamArgumentResolver();
+
+    @Test
+    void 요청_파라미터를_파라미터_타입으로_변환한다() throws Exception {
+        final var request = new MockHttpServletRequest("GET", "/requestParam");
+        request.addParameter("id", "7");
+        request.addParameter("date", "2024-05-01");
+
+        assertThat(resolve("intParam", request)).isEqualTo(7);
+        assertThat(resolve("dateParam", request)).isEqualTo(LocalDate.of(2024, 5, 1));
+    }
+
+    @Test
+    void 여러_값은_컬렉션으로_변환한다() throws Exception {
+        final var request = new MockHttpServletRequest("GET", "/requestParam");
+        request.addParameter("ids", "1", "2");
+
+        assertThat(resolve("listParam", request)).isEqualTo(List.of(1L, 2L));
+    }
+
+    @Test
+    void 변환할_수_없는_타입이면_예외가_발생한다() {
+        final var request = new MockHttpServletRequest("GET", "/requestParam");
+        request.addParameter("task", "run");
+
+        assertThatThrownBy(() -> resolve("unsupportedParam", request))
+            .isInstanceOf(MethodArgumentTypeNotSupportedException.class);
+    }
+
+    private Object resolve(final String methodName, final MockHttpServletRequest request) throws NoSuchMethodException {
+        final Method method = findMethod(methodName);
+        final var parameter = method.getParameters()[0];
+        final var methodParameter = new MethodParameter(method, parameter.getType(), parameter.getParameterizedType(),
+            parameter.getAnnotations(), parameter.getName());
+        return argumentResolver.resolveArgument(methodParameter, request, new MockHttpServletResponse());
+    }
+
+    private Method findMethod(final String methodName) throws NoSuchMethodException {
+        for (Method method : Controller.class.getDeclaredMethods()) {
+            if (method.getName().equals(methodName)) {
+                return method;
+            }
+        }
+        throw new NoSuchMethodException(methodName);
+    }
+
+    static class Controller {
+
+        void intParam(@RequestParam("id") int id) {
+        }
+
+        void dateParam(@RequestParam("date") LocalDate date) {
+        }
+
+        void listParam(@RequestParam("ids") List<Long> ids) {
+        }
+
+        void unsupportedParam(@RequestParam("task") Runnable task) {
+        }
+    }
+}
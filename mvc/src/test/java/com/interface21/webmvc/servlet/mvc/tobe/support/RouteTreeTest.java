@@ -0,0 +1,130 @@
+package com.interface21.webmvc.servlet.mvc.tobe.support;
+
+import com.interface21.web.bind.annotation.RequestMethod;
+import com.interface21.web.http.MediaType;
+import com.interface21.webmvc.servlet.mvc.HttpMediaTypeNotAcceptableException;
+import com.interface21.webmvc.servlet.mvc.HttpMediaTypeNotSupportedException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RouteTreeTest {
+
+    private RouteTree<String> routeTree;
+
+    @BeforeEach
+    void setUp() {
+        routeTree = new RouteTree<>();
+        routeTree.add("/static/**", RequestMethod.GET, "static");
+        routeTree.add("/api/user/*", RequestMethod.GET, "wildcard");
+        routeTree.add("/api/user/{id}", RequestMethod.GET, "variable");
+        routeTree.add("/api/user/me", RequestMethod.GET, "me");
+        routeTree.add("/api/user/{id}", RequestMethod.DELETE, "delete");
+        routeTree.add("/api/user/{userId}/posts/{postId}", RequestMethod.GET, "post");
+        routeTree.add("/files/{name}.txt", RequestMethod.GET, "text");
+        routeTree.add("/", RequestMethod.GET, "root");
+    }
+
+    @Test
+    void 정적_세그먼트가_변수와_와일드카드보다_우선한다() {
+        assertThat(routeTree.match("/api/user/me", RequestMethod.GET).getHandler()).isEqualTo("me");
+        assertThat(routeTree.match("/api/user/1", RequestMethod.GET).getHandler()).isEqualTo("variable");
+    }
+
+    @Test
+    void 요청_메서드별로_핸들러를_찾는다() {
+        assertThat(routeTree.match("/api/user/1", RequestMethod.DELETE).getHandler()).isEqualTo("delete");
+        assertThat(routeTree.match("/api/user/me", RequestMethod.DELETE).getHandler()).isEqualTo("delete");
+        assertThat(routeTree.match("/api/user/1", RequestMethod.POST)).isNull();
+    }
+
+    @Test
+    void 매칭하면서_URI_변수를_추출한다() {
+        final var match = routeTree.match("/api/user/7/posts/42", RequestMethod.GET);
+
+        assertThat(match.getPattern()).isEqualTo("/api/user/{userId}/posts/{postId}");
+        assertThat(match.getUriVariable("userId")).isEqualTo("7");
+        assertThat(match.getUriVariables()).isEqualTo(Map.of("userId", "7", "postId", "42"));
+    }
+
+    @Test
+    void 세그먼트_안에_섞인_변수를_추출한다() {
+        final var match = routeTree.match("/files/readme.txt", RequestMethod.GET);
+
+        assertThat(match.getUriVariable("name")).isEqualTo("readme");
+        assertThat(routeTree.match("/files/readme.md", RequestMethod.GET)).isNull();
+    }
+
+    @Test
+    void 이중_와일드카드는_남은_경로_전체에_매칭된다() {
+        assertThat(routeTree.match("/static/css/app.css", RequestMethod.GET).getHandler()).isEqualTo("static");
+        assertThat(routeTree.match("/static", RequestMethod.GET).getHandler()).isEqualTo("static");
+        assertThat(routeTree.match("/", RequestMethod.GET).getHandler()).isEqualTo("root");
+    }
+
+    @Test
+    void 더_구체적인_경로가_실패하면_다음_후보로_넘어간다() {
+        routeTree.add("/api/{resource}/{id}/comments", RequestMethod.GET, "comments");
+
+        final var match = routeTree.match("/api/user/7/comments", RequestMethod.GET);
+
+        assertThat(match.getHandler()).isEqualTo("comments");
+        assertThat(match.getUriVariables()).isEqualTo(Map.of("resource", "user", "id", "7"));
+    }
+
+    @Test
+    void 같은_패턴과_메서드를_다시_등록하면_예외가_발생한다() {
+        assertThatThrownBy(() -> routeTree.add("/api/user/{userId}", RequestMethod.GET, "duplicate"))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void 같은_경로는_Accept_와_가장_잘_맞는_produces_를_고른다() {
+        routeTree.add("/api/report", RequestMethod.GET, List.of(), List.of(MediaType.APPLICATION_JSON), "json");
+        routeTree.add("/api/report", RequestMethod.GET, List.of(), List.of(MediaType.APPLICATION_SMILE), "smile");
+        routeTree.add("/api/report", RequestMethod.GET, "fallback");
+
+        assertThat(routeTree.match("/api/report", RequestMethod.GET, null, "application/x-jackson-smile, application/json;q=0.5")
+            .getHandler()).isEqualTo("smile");
+        assertThat(routeTree.match("/api/report", RequestMethod.GET, null, null).getHandler()).isEqualTo("json");
+        assertThat(routeTree.match("/api/report", RequestMethod.GET, null, "text/html").getHandler()).isEqualTo("fallback");
+        assertThat(routeTree.match("/api/report", RequestMethod.GET, null, "application/x-jackson-smile")
+            .getProducibleMediaTypes()).containsExactly(MediaType.APPLICATION_SMILE);
+    }
+
+    @Test
+    void Content_Type_을_받는_route_가_없으면_415_예외가_발생한다() {
+        routeTree.add("/api/upload", RequestMethod.POST, List.of(MediaType.APPLICATION_JSON), List.of(), "upload");
+
+        assertThat(routeTree.match("/api/upload", RequestMethod.POST, "application/json;charset=UTF-8", null).getHandler())
+            .isEqualTo("upload");
+        assertThatThrownBy(() -> routeTree.match("/api/upload", RequestMethod.POST, "text/plain", null))
+            .isInstanceOf(HttpMediaTypeNotSupportedException.class);
+        assertThat(routeTree.match("/api/unknown", RequestMethod.POST, "text/plain", null)).isNull();
+    }
+
+    @Test
+    void Accept_가_받는_produces_가_없으면_406_예외가_발생한다() {
+        routeTree.add("/api/export", RequestMethod.GET, List.of(), List.of(MediaType.APPLICATION_SMILE), "export");
+
+        assertThatThrownBy(() -> routeTree.match("/api/export", RequestMethod.GET, null, "application/json"))
+            .isInstanceOf(HttpMediaTypeNotAcceptableException.class);
+    }
+
+    @Test
+    void 조건이_다르면_같은_패턴과_메서드를_함께_등록할_수_있다() {
+        routeTree.add("/api/user/{id}", RequestMethod.GET, List.of(), List.of(MediaType.APPLICATION_SMILE), "smile");
+
+        assertThat(routeTree.hasMediaTypeConditions()).isTrue();
+        assertThatThrownBy(() -> routeTree.add("/api/user/{id}", RequestMethod.GET, List.of(), List.of(MediaType.APPLICATION_SMILE), "duplicate"))
+            .isInstanceOf(IllegalStateException.class);
+        final var match = routeTree.match("/api/user/7", RequestMethod.GET, null, "application/x-jackson-smile");
+        assertThat(match.getHandler()).isEqualTo("smile");
+        assertThat(match.getUriVariable("id")).isEqualTo("7");
+    }
+}
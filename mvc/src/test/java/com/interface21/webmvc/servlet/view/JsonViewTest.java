@@ -0,0 +1,162 @@
+package com.interface21.webmvc.servlet.view;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import com.interface21.web.http.MediaType;
+import com.interface21.webmvc.servlet.mvc.HandlerMapping;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JsonViewTest {
+
+    private final ObjectWriterRegistry objectWriterRegistry = new ObjectWriterRegistry(new ObjectMapper(), true);
+    private final JsonView jsonView = new JsonView(objectWriterRegistry);
+
+    @Test
+    void 모델에_값이_하나면_그_값만_직렬화한다() throws Exception {
+        final var response = new MockHttpServletResponse();
+
+        jsonView.render(Map.of("user", new MockUser("gugu", 20)), new MockHttpServletRequest(), response);
+
+        assertThat(response.getContentType()).isEqualTo("application/json;charset=UTF-8");
+        assertThat(response.getContentAsString()).isEqualTo("{\"account\":\"gugu\",\"age\":20}");
+    }
+
+    @Test
+    void 모델에_값이_여러_개면_모델_전체를_직렬화한다() throws Exception {
+        final var response = new MockHttpServletResponse();
+        final var model = new LinkedHashMap<String, Object>();
+        model.put("account", "gugu");
+        model.put("age", 20);
+
+        jsonView.render(model, new MockHttpServletRequest(), response);
+
+        assertThat(response.getContentAsString()).isEqualTo("{\"account\":\"gugu\",\"age\":20}");
+    }
+
+    @Test
+    void 모델의_값이_null_이면_null_을_직렬화한다() throws Exception {
+        final var response = new MockHttpServletResponse();
+
+        jsonView.render(Collections.singletonMap("user", null), new MockHttpServletRequest(), response);
+
+        assertThat(response.getContentAsString()).isEqualTo("null");
+    }
+
+    @Test
+    void GET_요청은_본문으로_만든_ETag_를_응답한다() throws Exception {
+        final var response = new MockHttpServletResponse();
+
+        jsonView.render(Map.of("user", new MockUser("gugu", 20)), new MockHttpServletRequest("GET", "/api/user/1"), response);
+
+        assertThat(response.getHeader("ETag")).matches("\"[0-9a-f]{32}\"");
+        assertThat(response.getContentLengthLong()).isEqualTo(response.getContentAsByteArray().length);
+    }
+
+    @Test
+    void If_None_Match_가_ETag_와_같으면_본문_없이_304_로_응답한다() throws Exception {
+        final var model = Map.of("user", new MockUser("gugu", 20));
+        final var first = new MockHttpServletResponse();
+        jsonView.render(model, new MockHttpServletRequest("GET", "/api/user/1"), first);
+
+        final var request = new MockHttpServletRequest("GET", "/api/user/1");
+        request.addHeader("If-None-Match", "\"other\", W/" + first.getHeader("ETag"));
+        final var response = new MockHttpServletResponse();
+        jsonView.render(model, request, response);
+
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    void GET_HEAD_가_아니면_ETag_를_만들지_않는다() throws Exception {
+        final var response = new MockHttpServletResponse();
+
+        jsonView.render(Map.of("user", new MockUser("gugu", 20)), new MockHttpServletRequest("POST", "/api/user"), response);
+
+        assertThat(response.containsHeader("ETag")).isFalse();
+    }
+
+    @Test
+    void 본문으로_ETag_를_만들지_않으면_모으지_않고_스트림에_바로_쓴다() throws Exception {
+        final var response = new MockHttpServletResponse();
+
+        jsonView.render(Map.of("user", new MockUser("gugu", 20)), new MockHttpServletRequest("POST", "/api/user"), response);
+
+        assertThat(response.containsHeader("Content-Length")).isFalse();
+        assertThat(response.getContentAsString()).isEqualTo("{\"account\":\"gugu\",\"age\":20}");
+    }
+
+    @Test
+    void 핸들러가_ETag_를_정했으면_GET_요청도_스트림에_바로_쓴다() throws Exception {
+        final var response = new MockHttpServletResponse();
+        response.setHeader("ETag", "\"v1\"");
+
+        jsonView.render(Map.of("user", new MockUser("gugu", 20)), new MockHttpServletRequest("GET", "/api/user/1"), response);
+
+        assertThat(response.getHeader("ETag")).isEqualTo("\"v1\"");
+        assertThat(response.containsHeader("Content-Length")).isFalse();
+        assertThat(response.getContentAsString()).isEqualTo("{\"account\":\"gugu\",\"age\":20}");
+    }
+
+    @Test
+    void 같은_타입은_같은_writer_를_재사용한다() {
+        objectWriterRegistry.registerModelTypes(MockUser.class);
+
+        final var writer = objectWriterRegistry.getWriter(new MockUser("gugu", 20));
+
+        assertThat(objectWriterRegistry.getWriter(new MockUser("kang", 30))).isSameAs(writer);
+    }
+
+    @Test
+    void Accept_가_Smile_을_원하면_Smile_로_직렬화한다() throws Exception {
+        final var negotiatingView = new JsonView(new ContentNegotiator(List.of(
+            new JacksonMessageConverter(objectWriterRegistry, MediaType.APPLICATION_JSON_UTF8),
+            JacksonMessageConverter.smile()
+        )));
+        final var request = new MockHttpServletRequest("GET", "/api/user/1");
+        request.addHeader("Accept", "application/x-jackson-smile, application/json;q=0.5");
+        final var response = new MockHttpServletResponse();
+
+        negotiatingView.render(Map.of("user", new MockUser("gugu", 20)), request, response);
+
+        assertThat(response.getContentType()).isEqualTo("application/x-jackson-smile");
+        assertThat(response.getHeader("Vary")).isEqualTo("Accept");
+        assertThat(new SmileMapper().readValue(response.getContentAsByteArray(), MockUser.class))
+            .isEqualTo(new MockUser("gugu", 20));
+    }
+
+    @Test
+    void 핸들러의_produces_안에서_형식을_고른다() throws Exception {
+        final var request = new MockHttpServletRequest("GET", "/api/user/1");
+        request.setAttribute(HandlerMapping.PRODUCIBLE_MEDIA_TYPES_ATTRIBUTE, List.of(MediaType.APPLICATION_SMILE));
+        final var response = new MockHttpServletResponse();
+
+        new JsonView().render(Map.of("user", new MockUser("gugu", 20)), request, response);
+
+        assertThat(response.getContentType()).isEqualTo("application/x-jackson-smile");
+    }
+
+    @Test
+    void 받을_수_있는_형식이_없으면_406_으로_응답한다() throws Exception {
+        final var request = new MockHttpServletRequest("GET", "/api/user/1");
+        request.addHeader("Accept", "text/html");
+        final var response = new MockHttpServletResponse();
+
+        jsonView.render(Map.of("user", new MockUser("gugu", 20)), request, response);
+
+        assertThat(response.getStatus()).isEqualTo(406);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    public record MockUser(String account, int age) {
+    }
+}
@@ -0,0 +1,76 @@
+package com.interface21.webmvc.servlet.view;
+
+import jakarta.servlet.RequestDispatcher;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockServletContext;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JspViewTest {
+
+    @Test
+    void 같은_뷰_이름의_RequestDispatcher_는_한_번만_찾는다() throws Exception {
+        final var servletContext = new CountingServletContext();
+
+        for (int i = 0; i < 3; i++) {
+            final var request = new MockHttpServletRequest(servletContext, "GET", "/login");
+            final var response = new MockHttpServletResponse();
+            new JspView("/login.jsp").render(Map.of("account", "gugu"), request, response);
+
+            assertThat(response.getForwardedUrl()).isEqualTo("/login.jsp");
+            assertThat(request.getAttribute("account")).isEqualTo("gugu");
+        }
+
+        assertThat(servletContext.lookups).isEqualTo(1);
+    }
+
+    @Test
+    void 쿼리_문자열이_있는_뷰_이름은_캐시하지_않는다() throws Exception {
+        final var servletContext = new CountingServletContext();
+
+        for (int i = 0; i < 3; i++) {
+            final var request = new MockHttpServletRequest(servletContext, "GET", "/users");
+            final var response = new MockHttpServletResponse();
+            new JspView("/users.jsp?page=" + i).render(Map.of(), request, response);
+
+            assertThat(response.getForwardedUrl()).isEqualTo("/users.jsp?page=" + i);
+        }
+
+        assertThat((Map<?, ?>) servletContext.getAttribute(JspView.class.getName() + ".dispatchers")).isNull();
+    }
+
+    @Test
+    void 캐시가_가득_차면_새_뷰_이름은_담지_않는다() throws Exception {
+        final var servletContext = new CountingServletContext();
+        for (int i = 0; i < 300; i++) {
+            final var request = new MockHttpServletRequest(servletContext, "GET", "/page");
+            new JspView("/page-" + i + ".jsp").render(Map.of(), request, new MockHttpServletResponse());
+        }
+
+        assertThat((Map<?, ?>) servletContext.getAttribute(JspView.class.getName() + ".dispatchers")).hasSize(256);
+    }
+
+    @Test
+    void redirect_로_시작하면_redirect_한다() throws Exception {
+        final var response = new MockHttpServletResponse();
+
+        new JspView(JspView.REDIRECT_PREFIX + "/index.jsp").render(Map.of(), new MockHttpServletRequest(), response);
+
+        assertThat(response.getRedirectedUrl()).isEqualTo("/index.jsp");
+    }
+
+    private static class CountingServletContext extends MockServletContext {
+
+        private int lookups;
+
+        @Override
+        public RequestDispatcher getRequestDispatcher(final String path) {
+            lookups++;
+            return super.getRequestDispatcher(path);
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.interface21.webmvc.servlet.view;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class StreamingJsonViewTest {
+
+    private final ObjectWriterRegistry objectWriterRegistry = new ObjectWriterRegistry(new ObjectMapper(), false);
+
+    @Test
+    void Stream_을_JSON_배열로_쓰고_닫는다() throws Exception {
+        final var closed = new AtomicBoolean();
+        final var users = List.of(new JsonViewTest.MockUser("gugu", 20), new JsonViewTest.MockUser("kang", 30))
+            .stream()
+            .onClose(() -> closed.set(true));
+        final var response = new MockHttpServletResponse();
+
+        new StreamingJsonView(objectWriterRegistry, 1).render(Map.of("users", users), new MockHttpServletRequest(), response);
+
+        assertThat(response.getContentType()).isEqualTo("application/json;charset=UTF-8");
+        assertThat(response.getContentAsString())
+            .isEqualTo("[{\"account\":\"gugu\",\"age\":20},{\"account\":\"kang\",\"age\":30}]");
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    void Supplier_는_null_을_반환할_때까지_읽는다() throws Exception {
+        final var cursor = new AtomicInteger();
+        final Supplier<Integer> supplier = () -> cursor.get() < 3 ? cursor.incrementAndGet() : null;
+        final var response = new MockHttpServletResponse();
+
+        new StreamingJsonView(objectWriterRegistry, 2).render(Map.of("numbers", supplier), new MockHttpServletRequest(), response);
+
+        assertThat(response.getContentAsString()).isEqualTo("[1,2,3]");
+    }
+
+    @Test
+    void 클라이언트_연결이_끊기면_남은_요소를_읽지_않는다() throws Exception {
+        final var produced = new AtomicInteger();
+        final var closed = new AtomicBoolean();
+        final var numbers = IntStream.range(0, 10_000).boxed()
+            .peek(ignored -> produced.incrementAndGet())
+            .onClose(() -> closed.set(true));
+        final var response = mock(HttpServletResponse.class);
+        when(response.getOutputStream()).thenReturn(new DisconnectedOutputStream());
+
+        new StreamingJsonView(objectWriterRegistry, 10).render(Map.of("numbers", numbers), new MockHttpServletRequest(), response);
+
+        assertThat(produced.get()).isEqualTo(10);
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    void 직렬화에_실패하면_예외를_던지고_배열을_닫지_않는다() throws Exception {
+        final var elements = List.of(1, new BrokenElement());
+        final var response = new MockHttpServletResponse();
+
+        assertThatThrownBy(() -> new StreamingJsonView(objectWriterRegistry, 1)
+            .render(Map.of("elements", elements), new MockHttpServletRequest(), response))
+            .isInstanceOf(JsonProcessingException.class);
+        assertThat(response.getContentAsString()).startsWith("[1").doesNotEndWith("]");
+    }
+
+    @Test
+    void 원본에서_난_예외는_그대로_던진다() {
+        final var closed = new AtomicBoolean();
+        final Stream<Integer> numbers = Stream.<Integer>generate(() -> {
+            throw new IllegalStateException("cursor closed");
+        }).onClose(() -> closed.set(true));
+
+        assertThatThrownBy(() -> new StreamingJsonView(objectWriterRegistry, 1)
+            .render(Map.of("numbers", numbers), new MockHttpServletRequest(), new MockHttpServletResponse()))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage("cursor closed");
+        assertThat(closed).isTrue();
+    }
+
+    public static class BrokenElement {
+
+        public String getValue() {
+            throw new IllegalStateException("broken");
+        }
+    }
+
+    private static class DisconnectedOutputStream extends ServletOutputStream {
+
+        @Override
+        public void write(final int b) {
+        }
+
+        @Override
+        public void flush() throws IOException {
+            throw new IOException("Broken pipe");
+        }
+
+        @Override
+        public boolean isReady() {
+            return true;
+        }
+
+        @Override
+        public void setWriteListener(final WriteListener writeListener) {
+        }
+    }
+}